@@ -1,6 +1,18 @@
 package com.example.crud;
 
 import com.example.crud.ai.config.ChatGptProperties;
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.config.EmbeddingResilienceProperties;
+import com.example.crud.ai.config.MessageSearchProperties;
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.common.aspect.TracingProperties;
+import com.example.crud.common.cache.SecondLevelCacheProperties;
+import com.example.crud.common.cluster.ClusterProperties;
+import com.example.crud.common.config.CategoryFacetProperties;
+import com.example.crud.common.config.ExecutorProperties;
+import com.example.crud.common.config.ImageStorageProperties;
+import com.example.crud.common.config.ProductImportProperties;
+import com.example.crud.common.datasource.ReplicaProperties;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -10,7 +22,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @MapperScan(basePackages = "com.example.crud.common.mapper")
-@EnableConfigurationProperties(ChatGptProperties.class)
+@EnableConfigurationProperties({ChatGptProperties.class, EmbeddingProperties.class, EmbeddingResilienceProperties.class,
+        RecommendationProperties.class, ClusterProperties.class, MessageSearchProperties.class,
+        TracingProperties.class, ExecutorProperties.class, ReplicaProperties.class,
+        SecondLevelCacheProperties.class, CategoryFacetProperties.class, ProductImportProperties.class,
+        ImageStorageProperties.class})
 @EnableScheduling      // 스케줄링 작업용
 @EnableAsync           // 비동기 이벤트 처리용
 public class CrudApplication {
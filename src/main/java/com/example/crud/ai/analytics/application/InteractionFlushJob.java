@@ -0,0 +1,82 @@
+package com.example.crud.ai.analytics.application;
+
+import com.example.crud.ai.analytics.domain.InteractionEvent;
+import com.example.crud.ai.analytics.infrastructure.InteractionEventStore;
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.recommendation.application.TasteProfileService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 링 버퍼 → recommendation_event 배치 적재
+ *
+ * 버퍼가 빌 때까지 batch-size 단위로 JDBC 배치 INSERT. 적재 실패 시 해당 배치는 버림 (재시도로 버퍼가 막히지 않게)
+ * 같은 배치로 회원 취향 벡터도 갱신 (이벤트 적재와 독립, 한쪽 실패가 다른 쪽을 막지 않음)
+ */
+@Component
+@Slf4j
+public class InteractionFlushJob {
+
+    private final InteractionRecorder recorder;
+    private final InteractionEventStore eventStore;
+    private final TasteProfileService tasteProfileService;
+    private final RecommendationProperties properties;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    public InteractionFlushJob(InteractionRecorder recorder,
+                               InteractionEventStore eventStore,
+                               TasteProfileService tasteProfileService,
+                               RecommendationProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.recorder = recorder;
+        this.eventStore = eventStore;
+        this.tasteProfileService = tasteProfileService;
+        this.properties = properties;
+        this.writtenCounter = Counter.builder("recommendation.events.written")
+                .description("적재된 추천 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("recommendation.events.failed")
+                .description("적재 실패로 버려진 추천 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.analytics.flush-interval:PT1S}")
+    public void flush() {
+        int batchSize = properties.analytics().batchSize();
+        List<InteractionEvent> batch = new ArrayList<>(batchSize);
+        int drained;
+        do {
+            batch.clear();
+            drained = recorder.drain(batch::add, batchSize);
+            if (drained == 0) {
+                return;
+            }
+            try {
+                tasteProfileService.apply(batch);
+            } catch (Exception e) {
+                log.warn("취향 벡터 갱신 실패 - {}건 건너뜀: {}", drained, e.toString());
+            }
+            try {
+                eventStore.insertBatch(batch);
+                writtenCounter.increment(drained);
+            } catch (Exception e) {
+                failedCounter.increment(drained);
+                log.warn("추천 이벤트 적재 실패 - {}건 버림: {}", drained, e.toString());
+                return;
+            }
+        } while (drained == batchSize);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.crud.ai.analytics.application;
+
+import com.example.crud.ai.analytics.domain.Audience;
+import com.example.crud.ai.analytics.domain.InteractionEvent;
+import com.example.crud.ai.analytics.domain.InteractionRingBuffer;
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import com.example.crud.entity.Member;
+import com.example.crud.enums.InteractionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 추천 상호작용 이벤트 수집기
+ *
+ * 요청 스레드는 링 버퍼에 넣기만 하고 반환 (DB/IO 없음), 적재는 InteractionFlushJob 이 배치로 처리.
+ * 버퍼가 가득 차면 이벤트를 버리고 recommendation.events.dropped 로 집계 (분석용 데이터라 유실 허용)
+ */
+@Component
+@Slf4j
+public class InteractionRecorder {
+
+    private final InteractionRingBuffer<InteractionEvent> buffer;
+    private final boolean enabled;
+    private final Duration newMemberPeriod;
+
+    public InteractionRecorder(RecommendationProperties properties, MeterRegistry meterRegistry) {
+        RecommendationProperties.Analytics analytics = properties.analytics();
+        this.enabled = analytics.enabled();
+        this.newMemberPeriod = analytics.newMemberPeriod();
+        this.buffer = new InteractionRingBuffer<>(analytics.bufferSize());
+
+        Gauge.builder("recommendation.events.buffered", buffer, InteractionRingBuffer::size)
+                .description("적재 대기 중인 추천 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("recommendation.events.dropped", buffer, InteractionRingBuffer::dropped)
+                .description("버퍼가 가득 차 버려진 추천 이벤트 누적 수")
+                .register(meterRegistry);
+    }
+
+    public Audience audienceOf(Member member) {
+        return Audience.of(member, newMemberPeriod);
+    }
+
+    /**
+     * 추천 응답에 포함된 상품 노출 (순위는 1부터)
+     */
+    public void recordImpressions(Long conversationId, Audience audience, List<ProductMatch> matches, String model) {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < matches.size(); i++) {
+            ProductMatch match = matches.get(i);
+            buffer.offer(InteractionEvent.impression(audience.memberId(), conversationId, match.id(),
+                    i + 1, match.score(), model, audience.segment()));
+        }
+    }
+
+    public void recordClick(Long memberId, Long conversationId, Long productId) {
+        if (enabled) {
+            buffer.offer(InteractionEvent.of(InteractionType.CLICK, memberId, conversationId, productId));
+        }
+    }
+
+    /**
+     * 상품 상세 조회 (추천 경유 여부와 무관, 취향 벡터 갱신용)
+     */
+    public void recordView(Long memberId, Long productId) {
+        if (enabled && memberId != null) {
+            buffer.offer(InteractionEvent.of(InteractionType.VIEW, memberId, null, productId));
+        }
+    }
+
+    /**
+     * 장바구니 담기 - 트랜잭션 안이면 커밋 후 기록
+     */
+    public void recordCart(Long memberId, Long productId) {
+        recordAfterCommit(InteractionEvent.of(InteractionType.CART, memberId, null, productId));
+    }
+
+    /**
+     * 결제 완료 - 트랜잭션 안이면 커밋 후 기록
+     */
+    public void recordPurchase(Long memberId, Long productId) {
+        recordAfterCommit(InteractionEvent.of(InteractionType.PURCHASE, memberId, null, productId));
+    }
+
+    /**
+     * 단일 소비자 전용 (InteractionFlushJob)
+     */
+    int drain(Consumer<InteractionEvent> sink, int max) {
+        return buffer.drain(sink, max);
+    }
+
+    private void recordAfterCommit(InteractionEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.offer(event);
+                }
+            });
+        } else {
+            buffer.offer(event);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.crud.ai.analytics.application;
+
+import com.example.crud.ai.analytics.infrastructure.InteractionEventStore;
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.common.cluster.RedisLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 추천 이벤트 테이블 관리 + 시간별 집계
+ *
+ * - 기동 시 / 매일: 테이블 생성, 앞으로 partition-days-ahead 일치 파티션 생성, 보관 기간 지난 파티션 삭제
+ * - rollup-interval 마다: 귀속 기간 + 1시간 안의 노출 구간 재집계 (클러스터에서 한 노드만)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InteractionRollupJob {
+
+    private static final Duration ROLLUP_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final InteractionEventStore eventStore;
+    private final RecommendationProperties properties;
+    private final RedisLeaseLock leaseLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (properties.analytics().enabled()) {
+            maintainPartitions();
+        }
+    }
+
+    @Scheduled(cron = "0 5 0 * * *")
+    public void maintainPartitions() {
+        RecommendationProperties.Analytics analytics = properties.analytics();
+        try {
+            eventStore.ensureSchema();
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i <= analytics.partitionDaysAhead(); i++) {
+                eventStore.createPartition(today.plusDays(i));
+            }
+            int dropped = eventStore.dropPartitionsBefore(today.minusDays(analytics.retention().toDays()));
+            if (dropped > 0) {
+                log.info("보관 기간 지난 추천 이벤트 파티션 삭제: {}개", dropped);
+            }
+        } catch (Exception e) {
+            // 여러 노드가 동시에 만들 때의 충돌 등 - 다음 실행에서 다시 시도
+            log.warn("추천 이벤트 파티션 관리 실패: {}", e.toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.analytics.rollup-interval:PT10M}",
+            initialDelayString = "${recommendation.analytics.rollup-interval:PT10M}")
+    public void rollup() {
+        RecommendationProperties.Analytics analytics = properties.analytics();
+        if (!analytics.enabled()) {
+            return;
+        }
+        leaseLock.runExclusively("recommendation-rollup", ROLLUP_LOCK_TTL, () -> {
+            LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            LocalDateTime from = to.minus(analytics.attributionWindow()).minusHours(1);
+            long started = System.currentTimeMillis();
+            int rows = eventStore.rollup(from, to, analytics.attributionWindow());
+            log.info("추천 지표 집계 완료: [{}, {}), {}행, {}ms", from, to, rows, System.currentTimeMillis() - started);
+        });
+    }
+}
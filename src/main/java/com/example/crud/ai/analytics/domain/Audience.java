@@ -0,0 +1,23 @@
+package com.example.crud.ai.analytics.domain;
+
+import com.example.crud.entity.Member;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 노출 대상 사용자와 집계 구분
+ *
+ * @param segment new (가입 후 newMemberPeriod 이내) / returning
+ */
+public record Audience(Long memberId, String segment) {
+
+    public static final String SEGMENT_NEW = "new";
+    public static final String SEGMENT_RETURNING = "returning";
+
+    public static Audience of(Member member, Duration newMemberPeriod) {
+        LocalDateTime joinedAt = member.getCreatedAt();
+        boolean isNew = joinedAt != null && joinedAt.isAfter(LocalDateTime.now().minus(newMemberPeriod));
+        return new Audience(member.getNumber(), isNew ? SEGMENT_NEW : SEGMENT_RETURNING);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.crud.ai.analytics.domain;
+
+import com.example.crud.enums.InteractionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 상호작용 이벤트 (recommendation_event 한 행)
+ *
+ * @param rank    노출 순위 (1부터, 노출 이벤트만)
+ * @param score   노출 당시 점수 (노출 이벤트만)
+ * @param model   추천 경로 / 실험군 (노출 이벤트만, 나머지는 집계 시 노출과 조인)
+ * @param segment 사용자 구분 (노출 이벤트만)
+ */
+public record InteractionEvent(
+        InteractionType type,
+        Long memberId,
+        Long conversationId,
+        Long productId,
+        Integer rank,
+        Float score,
+        String model,
+        String segment,
+        LocalDateTime occurredAt
+) {
+
+    public static InteractionEvent impression(Long memberId, Long conversationId, Long productId,
+                                              int rank, double score, String model, String segment) {
+        return new InteractionEvent(InteractionType.IMPRESSION, memberId, conversationId, productId,
+                rank, (float) score, model, segment, LocalDateTime.now());
+    }
+
+    public static InteractionEvent of(InteractionType type, Long memberId, Long conversationId, Long productId) {
+        return new InteractionEvent(type, memberId, conversationId, productId,
+                null, null, null, null, LocalDateTime.now());
+    }
+}
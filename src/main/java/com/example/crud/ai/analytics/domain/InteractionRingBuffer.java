@@ -0,0 +1,82 @@
+package com.example.crud.ai.analytics.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자 / 단일 소비자 고정 크기 링 버퍼 (락 없음)
+ *
+ * - 생산자: head CAS로 칸 예약 → 칸에 기록(발행). 가득 차면 기다리지 않고 버림 (요청 스레드 지연 없음)
+ * - 소비자: tail 부터 발행된 칸만 꺼내고 비움. 예약만 되고 아직 기록 전인 칸을 만나면 거기서 멈춤
+ * - 소비자는 한 스레드만 (drain 은 synchronized)
+ */
+public final class InteractionRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+    private final LongAdder dropped = new LongAdder();
+
+    public InteractionRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * @return false 면 버퍼가 가득 차 버려짐
+     */
+    public boolean offer(T element) {
+        long claimed;
+        do {
+            claimed = head.get();
+            if (claimed - tail >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!head.compareAndSet(claimed, claimed + 1));
+
+        slots.lazySet((int) (claimed & mask), element);
+        return true;
+    }
+
+    /**
+     * 발행된 원소를 최대 max 개 꺼냄
+     *
+     * @return 꺼낸 개수
+     */
+    public synchronized int drain(Consumer<? super T> sink, int max) {
+        long next = tail;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (next & mask);
+            T element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            next++;
+            drained++;
+            sink.accept(element);
+        }
+        tail = next; // 비운 칸을 생산자에게 반환
+        return drained;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long size() {
+        return Math.max(0, head.get() - tail);
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.crud.ai.analytics.domain.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClickEventRequestDto {
+    @NotNull(message = "conversationId must not be null")
+    private Long conversationId;
+
+    @NotNull(message = "productId must not be null")
+    private Long productId;
+}
@@ -0,0 +1,27 @@
+package com.example.crud.ai.analytics.domain.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 추천 지표 (recommendation_event_hourly)
+ *
+ * clicks/carts/purchases 는 노출 건 중 귀속 기간 안에 해당 행동이 있었던 건수
+ */
+public record HourlyMetric(
+        LocalDateTime bucket,
+        String model,
+        String segment,
+        long impressions,
+        long clicks,
+        long carts,
+        long purchases
+) {
+
+    public double ctr() {
+        return impressions == 0 ? 0.0 : (double) clicks / impressions;
+    }
+
+    public double cvr() {
+        return impressions == 0 ? 0.0 : (double) purchases / impressions;
+    }
+}
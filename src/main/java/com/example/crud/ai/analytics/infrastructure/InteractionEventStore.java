@@ -0,0 +1,209 @@
+package com.example.crud.ai.analytics.infrastructure;
+
+import com.example.crud.ai.analytics.domain.InteractionEvent;
+import com.example.crud.ai.analytics.domain.dto.HourlyMetric;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추천 이벤트 저장소 (JdbcTemplate)
+ *
+ * - recommendation_event        : 추가 전용, occurred_at 일 단위 RANGE 파티션 (보관 기간 지나면 파티션째 DROP)
+ * - recommendation_event_hourly : (시간, model, segment) 집계, 노출 기준 귀속
+ *
+ * 파티션 테이블은 JPA ddl-auto 로 만들 수 없어 기동 시 직접 생성
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class InteractionEventStore {
+
+    private static final String EVENT_TABLE = "recommendation_event";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String INSERT_SQL = """
+            INSERT INTO recommendation_event
+                (event_type, member_id, conversation_id, product_id, rank_no, score, model, segment, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /*
+     * 노출 1건마다 귀속 기간 안에 클릭(같은 대화) / 장바구니·구매(같은 회원)가 있었는지 표시 후 집계.
+     * 노출 시각 구간만 다시 계산하므로 늦게 들어온 구매도 다음 실행에서 반영됨
+     */
+    private static final String ROLLUP_SQL = """
+            INSERT INTO recommendation_event_hourly
+                (bucket, model, segment, impressions, clicks, carts, purchases, updated_at)
+            SELECT date_trunc('hour', i.occurred_at),
+                   coalesce(i.model, 'unknown'),
+                   coalesce(i.segment, 'unknown'),
+                   count(*),
+                   count(*) FILTER (WHERE EXISTS (
+                       SELECT 1 FROM recommendation_event c
+                       WHERE c.event_type = 'CLICK' AND c.product_id = i.product_id
+                         AND c.conversation_id = i.conversation_id
+                         AND c.occurred_at >= i.occurred_at AND c.occurred_at < i.occurred_at + make_interval(secs => ?))),
+                   count(*) FILTER (WHERE EXISTS (
+                       SELECT 1 FROM recommendation_event c
+                       WHERE c.event_type = 'CART' AND c.product_id = i.product_id
+                         AND c.member_id = i.member_id
+                         AND c.occurred_at >= i.occurred_at AND c.occurred_at < i.occurred_at + make_interval(secs => ?))),
+                   count(*) FILTER (WHERE EXISTS (
+                       SELECT 1 FROM recommendation_event c
+                       WHERE c.event_type = 'PURCHASE' AND c.product_id = i.product_id
+                         AND c.member_id = i.member_id
+                         AND c.occurred_at >= i.occurred_at AND c.occurred_at < i.occurred_at + make_interval(secs => ?))),
+                   now()
+            FROM recommendation_event i
+            WHERE i.event_type = 'IMPRESSION'
+              AND i.occurred_at >= ? AND i.occurred_at < ?
+            GROUP BY 1, 2, 3
+            ON CONFLICT (bucket, model, segment) DO UPDATE
+            SET impressions = EXCLUDED.impressions,
+                clicks = EXCLUDED.clicks,
+                carts = EXCLUDED.carts,
+                purchases = EXCLUDED.purchases,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ensureSchema() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS recommendation_event (
+                    event_type      varchar(16) NOT NULL,
+                    member_id       bigint,
+                    conversation_id bigint,
+                    product_id      bigint      NOT NULL,
+                    rank_no         smallint,
+                    score           real,
+                    model           varchar(64),
+                    segment         varchar(16),
+                    occurred_at     timestamp   NOT NULL
+                ) PARTITION BY RANGE (occurred_at)
+                """);
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS idx_rec_event_type_product_time
+                    ON recommendation_event (event_type, product_id, occurred_at)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS recommendation_event_hourly (
+                    bucket      timestamp   NOT NULL,
+                    model       varchar(64) NOT NULL,
+                    segment     varchar(16) NOT NULL,
+                    impressions bigint      NOT NULL,
+                    clicks      bigint      NOT NULL,
+                    carts       bigint      NOT NULL,
+                    purchases   bigint      NOT NULL,
+                    updated_at  timestamp   NOT NULL,
+                    PRIMARY KEY (bucket, model, segment)
+                )
+                """);
+    }
+
+    public void createPartition(LocalDate day) {
+        String name = EVENT_TABLE + "_" + day.format(PARTITION_SUFFIX);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name
+                + " PARTITION OF " + EVENT_TABLE
+                + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    /**
+     * @return 삭제한 파티션 수
+     */
+    public int dropPartitionsBefore(LocalDate day) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ?
+                """, String.class, EVENT_TABLE);
+
+        String cutoff = EVENT_TABLE + "_" + day.format(PARTITION_SUFFIX);
+        int dropped = 0;
+        for (String partition : partitions) {
+            // 이름이 날짜 순서와 같도록 yyyyMMdd 접미사 사용
+            if (partition.length() == cutoff.length() && partition.compareTo(cutoff) < 0) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public void insertBatch(List<InteractionEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setString(1, e.type().name());
+            setLong(ps, 2, e.memberId());
+            setLong(ps, 3, e.conversationId());
+            ps.setLong(4, e.productId());
+            if (e.rank() != null) ps.setShort(5, e.rank().shortValue()); else ps.setNull(5, Types.SMALLINT);
+            if (e.score() != null) ps.setFloat(6, e.score()); else ps.setNull(6, Types.REAL);
+            ps.setString(7, e.model());
+            ps.setString(8, e.segment());
+            ps.setTimestamp(9, Timestamp.valueOf(e.occurredAt()));
+        });
+    }
+
+    /**
+     * 노출 시각이 [from, to) 인 시간 구간 재집계
+     *
+     * @return 갱신된 집계 행 수
+     */
+    public int rollup(LocalDateTime from, LocalDateTime to, Duration attributionWindow) {
+        long windowSeconds = attributionWindow.toSeconds();
+        return jdbcTemplate.update(ROLLUP_SQL,
+                windowSeconds, windowSeconds, windowSeconds,
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public List<HourlyMetric> findHourly(LocalDateTime from, LocalDateTime to, String model, String segment) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT bucket, model, segment, impressions, clicks, carts, purchases
+                FROM recommendation_event_hourly
+                WHERE bucket >= ? AND bucket < ?
+                """);
+        List<Object> args = new ArrayList<>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        if (model != null) {
+            sql.append(" AND model = ?");
+            args.add(model);
+        }
+        if (segment != null) {
+            sql.append(" AND segment = ?");
+            args.add(segment);
+        }
+        sql.append(" ORDER BY bucket, model, segment");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new HourlyMetric(
+                rs.getTimestamp("bucket").toLocalDateTime(),
+                rs.getString("model"),
+                rs.getString("segment"),
+                rs.getLong("impressions"),
+                rs.getLong("clicks"),
+                rs.getLong("carts"),
+                rs.getLong("purchases")
+        ), args.toArray());
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
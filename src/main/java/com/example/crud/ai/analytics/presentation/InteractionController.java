@@ -0,0 +1,66 @@
+package com.example.crud.ai.analytics.presentation;
+
+import com.example.crud.ai.analytics.application.InteractionRecorder;
+import com.example.crud.ai.analytics.domain.dto.ClickEventRequestDto;
+import com.example.crud.ai.analytics.domain.dto.HourlyMetric;
+import com.example.crud.ai.analytics.infrastructure.InteractionEventStore;
+import com.example.crud.ai.conversation.application.query.ConversationQueryService;
+import com.example.crud.ai.conversation.domain.entity.Conversation;
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.common.security.SecurityUtil;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추천 이벤트 수집 / 시간별 지표 조회 API
+ */
+@RestController
+@RequestMapping("/api/recommendation")
+@RequiredArgsConstructor
+public class InteractionController {
+
+    private static final Duration MAX_METRIC_RANGE = Duration.ofDays(31);
+
+    private final InteractionRecorder interactionRecorder;
+    private final InteractionEventStore eventStore;
+    private final SecurityUtil securityUtil;
+    private final ConversationQueryService conversationQueryService;
+
+    /**
+     * 추천 카드 클릭 (채팅 UI 에서 keepalive 요청으로 전송)
+     * 본인 대화의 클릭만 기록 → 다른 회원 대화/실험 지표를 부풀릴 수 없음
+     */
+    @PostMapping("/events/click")
+    public ResponseEntity<Void> recordClick(@Valid @RequestBody ClickEventRequestDto requestDto) {
+        Conversation conv = conversationQueryService.getOwnedConversation(
+                requestDto.getConversationId(), securityUtil.getCurrentUserEmail());
+        interactionRecorder.recordClick(conv.getMember().getNumber(), conv.getId(), requestDto.getProductId());
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 시간별 노출/클릭/장바구니/구매 지표 (기본: 최근 24시간, 최대 31일) - 상담사(ROLE_SUPPORT) 전용, SecurityConfig
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<List<HourlyMetric>> getMetrics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) String segment) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        if (!start.isBefore(end) || Duration.between(start, end).compareTo(MAX_METRIC_RANGE) > 0) {
+            throw new BaseException(ErrorCode.INVALID_INPUT, "조회 기간은 31일 이내여야 합니다.");
+        }
+        return ResponseEntity.ok(eventStore.findHourly(start, end, model, segment));
+    }
+}
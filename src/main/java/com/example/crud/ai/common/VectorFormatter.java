@@ -42,4 +42,26 @@ public class VectorFormatter {
         sb.append("]");
         return sb.toString();
     }
+
+    /**
+     * PostgreSQL vector 형식 문자열("[0.1,0.2,...]")을 float 배열로 변환
+     */
+    public static float[] parse(String text) {
+        if (text == null || text.length() < 2) {
+            throw new IllegalArgumentException("벡터 문자열이 비어있습니다.");
+        }
+        int count = 1;
+        for (int i = 1; i < text.length() - 1; i++) {
+            if (text.charAt(i) == ',') count++;
+        }
+        float[] vector = new float[count];
+        int start = 1;
+        for (int i = 0; i < count; i++) {
+            int end = text.indexOf(',', start);
+            if (end < 0) end = text.length() - 1;
+            vector[i] = Float.parseFloat(text.substring(start, end));
+            start = end + 1;
+        }
+        return vector;
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.crud.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "embedding")
+public record EmbeddingProperties(
+        @DefaultValue("openai") String provider, // 임베딩 제공자 (openai | local)
+        @DefaultValue("https://api.openai.com") String baseUrl, // OpenAI 호환 Endpoint (Mock 서버로 교체 가능)
+        @DefaultValue("text-embedding-3-small") String model,
+        @DefaultValue("1536") int dimension, // product.description_vector 컬럼 차원과 동일해야 함
+        @DefaultValue MockServer mockServer,
+        @DefaultValue Outbox outbox
+) {
+
+    /**
+     * 부하 테스트용 OpenAI 호환 Mock 서버 설정
+     */
+    public record MockServer(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("300") long latencyMs, // 기본 응답 지연
+            @DefaultValue("100") long jitterMs, // 지연 편차 (0 ~ jitterMs 랜덤 추가)
+            @DefaultValue("0.0") double errorRate // 503 응답 비율 (0.0 ~ 1.0)
+    ) {}
+
+    /**
+     * 임베딩 작업 아웃박스 폴러 설정
+     */
+    public record Outbox(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("32") int batchSize, // 한 번에 수거할 작업 수 = 배치 임베딩 요청 크기
+            @DefaultValue("PT2S") Duration pollInterval, // @Scheduled 에서 직접 참조
+            @DefaultValue("2m") Duration lease, // 처리 중 노드가 죽으면 이 시간 뒤 다른 노드가 재수거
+            @DefaultValue("6") int maxAttempts, // 초과 시 DEAD
+            @DefaultValue("10s") Duration backoff, // 재시도 대기 = backoff * 2^(attempts-1)
+            @DefaultValue("30m") Duration maxBackoff,
+            @DefaultValue("7d") Duration retention, // DONE 행 보관 기간
+            @DefaultValue("0 0 4 * * *") String backfillCron // 임베딩 없는 상품 재적재 (@Scheduled 에서 직접 참조)
+    ) {}
+}
@@ -0,0 +1,75 @@
+package com.example.crud.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 임베딩 API 호출 복원력 설정 (커넥션 풀, 타임아웃, 재시도, 헤징, 서킷 브레이커)
+ */
+@ConfigurationProperties(prefix = "embedding.resilience")
+public record EmbeddingResilienceProperties(
+        @DefaultValue Pool pool,
+        @DefaultValue Timeout timeout,
+        @DefaultValue Retry retry,
+        @DefaultValue Hedging hedging,
+        @DefaultValue CircuitBreaker circuitBreaker
+) {
+
+    /**
+     * Reactor Netty ConnectionProvider 한도
+     */
+    public record Pool(
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("500") int pendingAcquireMaxCount, // 커넥션 대기열 상한 (초과 시 즉시 실패)
+            @DefaultValue("2s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictInterval
+    ) {}
+
+    /**
+     * 시도(attempt) 타임아웃 = clamp(p99 × p99Multiplier, minAttempt, maxAttempt)
+     * deadline = 재시도/헤징 포함 전체 상한
+     */
+    public record Timeout(
+            @DefaultValue("2s") Duration connect,
+            @DefaultValue("800ms") Duration minAttempt,
+            @DefaultValue("3s") Duration maxAttempt,
+            @DefaultValue("2.0") double p99Multiplier,
+            @DefaultValue("5s") Duration deadline
+    ) {}
+
+    /**
+     * 지수 백오프 + 지터 재시도 (429, 5xx, 연결 오류, 타임아웃만 대상)
+     */
+    public record Retry(
+            @DefaultValue("2") int maxRetries,
+            @DefaultValue("100ms") Duration backoff,
+            @DefaultValue("1s") Duration maxBackoff,
+            @DefaultValue("0.5") double jitter
+    ) {}
+
+    /**
+     * p95 지연 이후에도 응답이 없으면 동일 요청을 한 번 더 보내고 먼저 온 응답 사용
+     */
+    public record Hedging(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("50") int minSamples, // p95 계산에 필요한 최소 샘플 수
+            @DefaultValue("100ms") Duration minDelay
+    ) {}
+
+    /**
+     * 실패율 또는 느린 호출 비율 기반 서킷 브레이커
+     */
+    public record CircuitBreaker(
+            @DefaultValue("50") int windowSize,
+            @DefaultValue("20") int minCalls,
+            @DefaultValue("0.5") double failureRateThreshold,
+            @DefaultValue("1500ms") Duration slowCallThreshold,
+            @DefaultValue("0.8") double slowCallRateThreshold,
+            @DefaultValue("30s") Duration openDuration,
+            @DefaultValue("3") int halfOpenCalls
+    ) {}
+}
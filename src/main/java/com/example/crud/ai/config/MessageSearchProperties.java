@@ -0,0 +1,24 @@
+package com.example.crud.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 대화 메시지 전문 검색 색인 설정
+ */
+@ConfigurationProperties(prefix = "search.message")
+public record MessageSearchProperties(
+        @DefaultValue("memory") String backend, // memory | elasticsearch
+        @DefaultValue("http://localhost:9200") String url, // Elasticsearch / OpenSearch 호환 Endpoint
+        @DefaultValue("conversation-message") String index,
+        @DefaultValue("PT10S") Duration requestTimeout,
+        @DefaultValue("16384") int bufferSize, // 색인 대기 버퍼 (2의 거듭제곱으로 올림)
+        @DefaultValue("500") int batchSize, // _bulk 요청 1회당 문서 수
+        @DefaultValue("PT2S") Duration flushInterval, // @Scheduled 에서 직접 참조
+        @DefaultValue("3") int maxRetries, // 일시 오류(429/5xx/연결 실패) 재시도 횟수, 초과 시 버림
+        @DefaultValue("500ms") Duration retryBackoff, // 재시도 대기 = retryBackoff * 2^(시도-1)
+        @DefaultValue("1000") int reindexPageSize,
+        @DefaultValue("200000") int memoryMaxDocuments // memory 백엔드 보관 한도 (초과 시 오래된 메시지부터 제거)
+) {}
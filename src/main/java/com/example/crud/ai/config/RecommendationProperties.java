@@ -0,0 +1,105 @@
+package com.example.crud.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "recommendation")
+public record RecommendationProperties(
+        @DefaultValue Hybrid hybrid,
+        @DefaultValue Fallback fallback,
+        @DefaultValue Similar similar,
+        @DefaultValue Analytics analytics,
+        @DefaultValue Personalization personalization,
+        @DefaultValue Experiment experiment
+) {
+
+    /**
+     * 벡터 + 키워드 검색 병렬 실행 후 가중 RRF로 결합
+     */
+    public record Hybrid(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("60") int rrfK, // 클수록 하위 순위 영향이 커짐 (논문 기본값 60)
+            @DefaultValue("1.0") double vectorWeight,
+            @DefaultValue("1.0") double lexicalWeight,
+            @DefaultValue("3") int candidateMultiplier, // 각 검색기에서 limit * n 개 후보를 가져와 결합
+            @DefaultValue("0.3") double vectorThreshold // pgvector 코사인 유사도 하한
+    ) {}
+
+    /**
+     * 임베딩 장애 시 키워드(BM25) 검색으로 전환하는 조건
+     */
+    public record Fallback(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1500ms") Duration latencyBudget, // 벡터 검색이 이 시간 안에 끝나지 않으면 키워드 결과로 응답
+            @DefaultValue("0.05") double minScore, // 키워드 점수(0~1) 하한, 노이즈 매칭 제거
+            @DefaultValue("PT5M") Duration refreshInterval // 키워드 색인 재구성 주기 (@Scheduled 에서 직접 참조)
+    ) {}
+
+    /**
+     * 상품 상세 "비슷한 상품" 사전 계산 (product_similarity)
+     */
+    public record Similar(
+            @DefaultValue("20") int topK, // 상품당 저장할 이웃 수
+            @DefaultValue("0.4") double threshold, // 코사인 유사도 하한
+            @DefaultValue("200") int batchSize, // 한 주기에 재계산할 최대 상품 수
+            @DefaultValue("PT1M") Duration refreshInterval, // 증분 갱신 주기 (@Scheduled 에서 직접 참조)
+            @DefaultValue("0 30 3 * * *") String fullRefreshCron // 노드별 담당 구간 전체 재계산
+    ) {}
+
+    /**
+     * 추천 노출/클릭/장바구니/구매 이벤트 수집과 시간별 집계
+     */
+    public record Analytics(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("65536") int bufferSize, // 인메모리 링 버퍼 크기 (2의 거듭제곱으로 올림), 가득 차면 버림
+            @DefaultValue("2000") int batchSize, // 한 번에 적재할 최대 이벤트 수
+            @DefaultValue("PT1S") Duration flushInterval, // @Scheduled 에서 직접 참조
+            @DefaultValue("PT10M") Duration rollupInterval, // @Scheduled 에서 직접 참조
+            @DefaultValue("24h") Duration attributionWindow, // 노출 후 이 시간 안의 클릭/장바구니/구매만 귀속
+            @DefaultValue("3") int partitionDaysAhead, // 미리 만들어 둘 일 단위 파티션 수
+            @DefaultValue("90d") Duration retention, // 원본 이벤트 파티션 보관 기간 (집계 테이블은 유지)
+            @DefaultValue("30d") Duration newMemberPeriod // 가입 후 이 기간 안이면 segment=new
+    ) {}
+
+    /**
+     * 행동 기반 취향 벡터 (조회/장바구니/구매한 상품 임베딩의 가중 평균)로 후보 재정렬
+     */
+    public record Personalization(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0.25") double weight, // 최종 점수 = (1-weight) * 검색 점수 + weight * 취향 유사도
+            @DefaultValue("3") int candidateMultiplier, // 재정렬용으로 limit * n 개 후보를 받아옴
+            @DefaultValue("3.0") double minWeight, // 누적 가중치가 이보다 작으면 재정렬 생략 (콜드 스타트)
+            @DefaultValue("50.0") double maxWeight, // 누적 가중치 상한 → 이후 최근 행동 비중이 일정하게 유지
+            @DefaultValue("1.0") double viewWeight, // 상세 조회 / 추천 클릭
+            @DefaultValue("3.0") double cartWeight,
+            @DefaultValue("5.0") double purchaseWeight
+    ) {}
+
+    /**
+     * 추천 전략 A/B 실험 - (name + 회원/대화 ID) 해시로 변형을 결정적으로 배정
+     * 비활성 또는 변형이 없으면 hybrid 설정 그대로 control 하나만 사용
+     */
+    public record Experiment(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("ranking") String name, // 해시 salt - 바꾸면 전체 재배정
+            @DefaultValue("MEMBER") Unit unit,
+            @DefaultValue List<Variant> variants
+    ) {
+        public enum Unit { MEMBER, CONVERSATION }
+    }
+
+    /**
+     * 실험 변형 - 비워 둔 파라미터는 hybrid 설정값 사용
+     */
+    public record Variant(
+            String name,
+            @DefaultValue("1") int weight, // 트래픽 비율 (변형 weight 합 대비)
+            @DefaultValue("hybrid") String strategy, // RecommendationStrategy 빈 이름 (hybrid | vector)
+            Double vectorThreshold,
+            Double vectorWeight,
+            Double lexicalWeight
+    ) {}
+}
@@ -1,6 +1,8 @@
 package com.example.crud.ai.config;
 
+import com.example.crud.ai.embedding.provider.EmbeddingUpstreamException;
 import com.example.crud.common.utility.MaskingFilter;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +12,7 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -19,6 +22,8 @@ import java.time.Duration;
 public class WebClientConfig {
 
     private final ChatGptProperties prop;
+    private final EmbeddingProperties embeddingProperties;
+    private final EmbeddingResilienceProperties resilienceProperties;
 
     @Bean("chatGptClient")
     public WebClient chatGptClient() {
@@ -34,20 +39,42 @@ public class WebClientConfig {
                 .build();
     }
     
+    /**
+     * 임베딩 전용 커넥션 풀
+     * - 기본 공유 풀(500 커넥션, 대기 무제한) 대신 명시적 한도를 둬서 OpenAI 장애 시 대기열이 무한정 쌓이지 않게 함
+     * - metrics(true): reactor.netty.connection.provider.* 지표 (활성/대기/유휴 커넥션 수)
+     */
+    @Bean(name = "embeddingConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider embeddingConnectionProvider() {
+        EmbeddingResilienceProperties.Pool pool = resilienceProperties.pool();
+        return ConnectionProvider.builder("embedding-pool")
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictInterval())
+                .metrics(true)
+                .build();
+    }
+
     @Bean("embeddingWebClient")
-    public WebClient embeddingWebClient() {
+    public WebClient embeddingWebClient(ConnectionProvider embeddingConnectionProvider) {
         /*
         LoopResources loopResources = LoopResources.create(
         "embedding-loop",
         16,
         true); // daemon
          */
-        HttpClient http = HttpClient.create() // CPU 개수 만큼 스레드 자동 생성
+        EmbeddingResilienceProperties.Timeout timeout = resilienceProperties.timeout();
+        HttpClient http = HttpClient.create(embeddingConnectionProvider) // CPU 개수 만큼 스레드 자동 생성
                 //.runOn(loopResources) 커스텀 스레드풀 적용.
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.connect().toMillis())
+                .responseTimeout(timeout.maxAttempt()) // 소켓 레벨 안전망 (시도별 적응형 타임아웃은 Provider에서)
                 .compress(true);
 
         return WebClient.builder()
-                .baseUrl("https://api.openai.com")
+                .baseUrl(embeddingProperties.baseUrl()) // 기본 OpenAI, 부하 테스트 시 Mock 서버
                 .clientConnector(new ReactorClientHttpConnector(http))
                 .defaultHeader("Authorization", "Bearer " + prop.apiKey())
                 .defaultHeader("Content-Type", "application/json")
@@ -58,7 +85,8 @@ public class WebClientConfig {
                                 .flatMap(errorBody -> {
                                     log.error("OpenAI API ERROR : status={}, body={}",
                                             clientResponse.statusCode(), errorBody);
-                                    return Mono.error(new RuntimeException(
+                                    return Mono.error(new EmbeddingUpstreamException(
+                                            clientResponse.statusCode().value(),
                                             "OpenAI API FAIL : " + clientResponse.statusCode()
                                     ));
                                 });
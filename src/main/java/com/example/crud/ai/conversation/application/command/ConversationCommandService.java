@@ -1,8 +1,10 @@
 package com.example.crud.ai.conversation.application.command;
 
+import com.example.crud.ai.conversation.domain.dto.RecommendationPayload;
 import com.example.crud.ai.conversation.domain.entity.Conversation;
 import com.example.crud.ai.conversation.domain.entity.ConversationMessage;
 import com.example.crud.ai.conversation.domain.event.MessageCreatedEvent;
+import com.example.crud.ai.conversation.domain.repository.ConversationMessageRepository;
 import com.example.crud.ai.conversation.domain.repository.ConversationRepository;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ConversationCommandService {
 
     private final ConversationRepository convRepo;
+    private final ConversationMessageRepository messageRepo;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -28,11 +31,30 @@ public class ConversationCommandService {
                 .orElseThrow(() -> new BaseException(ErrorCode.CONVERSATION_NOT_FOUND));
 
         ConversationMessage msg = conv.addMessage(type, content);
+        saveAndPublish(conv, msg);
+    }
+
+    /**
+     * 추천 응답은 렌더링된 문장 대신 템플릿 ID + 상품 ID/점수로 저장
+     */
+    @Transactional
+    public void addRecommendationMessage(long convId, String templateId, RecommendationPayload payload) {
+
+        Conversation conv = convRepo.findByIdWithLock(convId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CONVERSATION_NOT_FOUND));
+
+        ConversationMessage msg = conv.addRecommendationMessage(templateId, payload);
+        saveAndPublish(conv, msg);
+    }
+
+    private void saveAndPublish(Conversation conv, ConversationMessage msg) {
+        // 메시지를 먼저 persist → pooled 시퀀스에서 persist 시점에 ID 할당, INSERT 는 flush 때 배치로 (대화 merge 의 cascade 는 사본을 저장해 msg.getId() 가 null 로 남음)
+        messageRepo.save(msg);
         convRepo.save(conv);            // Optimistic Lock 버전 증가
 
         // Spring Event 발행 (트랜잭션 커밋 후 처리됨)
         MessageCreatedEvent event = new MessageCreatedEvent(
-                this, msg.getId(), convId, conv.getMember().getNumber(), content, type.name());
+                this, msg.getId(), conv.getId(), conv.getMember().getNumber(), msg.getContent(), msg.getMessageType().name());
         eventPublisher.publishEvent(event);
 
         log.debug("[Conversation] msg {} event published", msg.getId());
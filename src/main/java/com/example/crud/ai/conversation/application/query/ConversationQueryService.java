@@ -0,0 +1,100 @@
+package com.example.crud.ai.conversation.application.query;
+
+import com.example.crud.ai.conversation.domain.dto.ConversationMessageDto;
+import com.example.crud.ai.conversation.domain.dto.RecommendationPayload;
+import com.example.crud.ai.conversation.domain.entity.Conversation;
+import com.example.crud.ai.conversation.domain.entity.ConversationMessage;
+import com.example.crud.ai.conversation.domain.repository.ConversationMessageRepository;
+import com.example.crud.ai.conversation.domain.repository.ConversationRepository;
+import com.example.crud.ai.recommendation.domain.RecommendationMessageRenderer;
+import com.example.crud.ai.recommendation.domain.ResponseTemplate;
+import com.example.crud.ai.recommendation.domain.dto.ProductCard;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 대화 메시지 조회
+ *
+ * 추천 응답은 템플릿 ID + 상품 ID/점수로 저장되어 있으므로
+ * 대화 전체의 상품명을 한 번에 조회한 뒤 템플릿으로 렌더링
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConversationQueryService {
+
+    private final ConversationRepository conversationRepository;
+    private final ConversationMessageRepository messageRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 본인 대화만 조회 (없으면 CONVERSATION_NOT_FOUND, 다른 회원 대화면 CONVERSATION_UNAUTHORIZED)
+     */
+    @Transactional(readOnly = true)
+    public Conversation getOwnedConversation(Long conversationId, String email) {
+        Conversation conv = conversationRepository.findById(conversationId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CONVERSATION_NOT_FOUND));
+
+        if (!conv.getMember().getEmail().equals(email)) {
+            throw new BaseException(ErrorCode.CONVERSATION_UNAUTHORIZED);
+        }
+        return conv;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ConversationMessageDto> getMessages(Long conversationId) {
+        List<ConversationMessage> messages = messageRepository.findByConversation_IdOrderByTimestampAsc(conversationId);
+
+        Set<Long> productIds = new HashSet<>();
+        for (ConversationMessage message : messages) {
+            if (message.isStructured()) {
+                message.getPayload().items().forEach(item -> productIds.add(item.productId()));
+            }
+        }
+        Map<Long, String> names = new HashMap<>(productIds.size() * 2);
+        if (!productIds.isEmpty()) {
+            for (ProductCard card : productRepository.findRecommendationCards(productIds)) {
+                names.put(card.id(), card.name());
+            }
+        }
+
+        List<ConversationMessageDto> result = new ArrayList<>(messages.size());
+        for (ConversationMessage message : messages) {
+            String content = message.isStructured() ? render(message, names) : message.getContent();
+            result.add(new ConversationMessageDto(
+                    message.getId(),
+                    message.getMessageType(),
+                    content,
+                    message.getTemplateId(),
+                    message.getPayload(),
+                    message.getTimestamp()));
+        }
+        return result;
+    }
+
+    private String render(ConversationMessage message, Map<Long, String> names) {
+        List<RecommendationPayload.Item> items = message.getPayload().items();
+        List<ProductMatch> matches = new ArrayList<>(items.size());
+        for (RecommendationPayload.Item item : items) {
+            // 삭제된 상품은 이름 없이 표시
+            matches.add(new ProductMatch(item.productId(), names.getOrDefault(item.productId(), "삭제된 상품"), item.score()));
+        }
+
+        ResponseTemplate template;
+        try {
+            template = ResponseTemplate.valueOf(message.getTemplateId());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("알 수 없는 응답 템플릿: messageId={}, templateId={}", message.getId(), message.getTemplateId());
+            template = ResponseTemplate.select(matches.size());
+        }
+        return RecommendationMessageRenderer.render(template, matches);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.crud.ai.conversation.application.query;
+
+import com.example.crud.ai.conversation.domain.search.MessageSearchBackend;
+import com.example.crud.ai.conversation.domain.search.MessageSearchQuery;
+import com.example.crud.ai.conversation.domain.search.MessageSearchResult;
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상담사용 대화 이력 전문 검색 (conversation_message LIKE 조회 대체)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_OFFSET = 10_000; // ES index.max_result_window 기본값
+
+    private final MessageSearchBackend backend;
+
+    public MessageSearchResult search(MessageSearchQuery query) {
+        if (query.keyword() == null || query.keyword().isBlank()) {
+            throw new BaseException(ErrorCode.INVALID_INPUT, "검색어를 입력해 주세요.");
+        }
+        if (query.page() < 0 || query.size() < 1 || query.size() > MAX_PAGE_SIZE
+                || (long) (query.page() + 1) * query.size() > MAX_OFFSET) {
+            throw new BaseException(ErrorCode.INVALID_INPUT, "페이지 범위가 올바르지 않습니다.");
+        }
+
+        try {
+            return backend.search(query);
+        } catch (Exception e) {
+            log.error("메시지 검색 실패 ({}): keyword={}", backend.name(), query.keyword(), e);
+            throw new BaseException(ErrorCode.MESSAGE_SEARCH_UNAVAILABLE);
+        }
+    }
+}
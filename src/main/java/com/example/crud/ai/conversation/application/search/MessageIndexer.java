@@ -0,0 +1,192 @@
+package com.example.crud.ai.conversation.application.search;
+
+import com.example.crud.ai.analytics.domain.InteractionRingBuffer;
+import com.example.crud.ai.config.MessageSearchProperties;
+import com.example.crud.ai.conversation.domain.event.MessageCreatedEvent;
+import com.example.crud.ai.conversation.domain.repository.ConversationMessageRepository;
+import com.example.crud.ai.conversation.domain.search.MessageDocument;
+import com.example.crud.ai.conversation.domain.search.MessageSearchBackend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대화 메시지 검색 색인기
+ *
+ * - MessageCreatedEvent(커밋 후) → 링 버퍼에 넣고 즉시 반환 (요청 스레드에서 색인 IO 없음)
+ * - flush-interval 마다 batch-size 단위 bulk 색인, 일시 실패 문서만 지수 백오프로 max-retries 회 재시도
+ * - 색인/재시도 대기는 searchIndexExecutor 에서 (스케줄러 스레드는 넘기기만 → 하트비트 등 다른 주기 작업이 밀리지 않음)
+ * - 버퍼 포화/재시도 초과 문서는 버리고 지표로 집계 → 필요 시 reindexAll 로 복구
+ * - 구조화 추천 메시지(content 비어 있음)는 색인하지 않음
+ */
+@Component
+@Slf4j
+public class MessageIndexer {
+
+    private final MessageSearchBackend backend;
+    private final ConversationMessageRepository messageRepository;
+    private final MessageSearchProperties properties;
+    private final InteractionRingBuffer<MessageDocument> buffer;
+    private final Executor searchIndexExecutor;
+    private final AtomicBoolean reindexing = new AtomicBoolean(false);
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+
+    public MessageIndexer(MessageSearchBackend backend,
+                          ConversationMessageRepository messageRepository,
+                          MessageSearchProperties properties,
+                          MeterRegistry meterRegistry,
+                          Executor searchIndexExecutor) {
+        this.backend = backend;
+        this.searchIndexExecutor = searchIndexExecutor;
+        this.messageRepository = messageRepository;
+        this.properties = properties;
+        this.buffer = new InteractionRingBuffer<>(properties.bufferSize());
+        this.indexedCounter = Counter.builder("search.message.indexed")
+                .tag("backend", backend.name())
+                .description("색인된 대화 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("search.message.failed")
+                .tag("backend", backend.name())
+                .description("재시도 초과로 버려진 대화 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("search.message.buffered", buffer, InteractionRingBuffer::size)
+                .description("색인 대기 중인 대화 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("search.message.dropped", buffer, InteractionRingBuffer::dropped)
+                .description("버퍼가 가득 차 버려진 대화 메시지 누적 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            backend.ensureIndex();
+        } catch (Exception e) {
+            log.error("메시지 검색 색인 준비 실패 ({}) - 색인 요청은 재시도됨: {}", backend.name(), e.toString());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageCreated(MessageCreatedEvent event) {
+        if (event.getMessageId() == null || event.getContent() == null || event.getContent().isBlank()) {
+            return;
+        }
+        buffer.offer(new MessageDocument(event.getMessageId(), event.getConversationId(), event.getUserId(),
+                event.getMessageType(), event.getContent(), LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${search.message.flush-interval:PT2S}")
+    public void scheduleFlush() {
+        if (buffer.size() == 0 || !flushing.compareAndSet(false, true)) {
+            return; // 비었거나 이전 flush 가 아직 진행 중
+        }
+        try {
+            searchIndexExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushing.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            flushing.set(false);
+        }
+    }
+
+    public void flush() {
+        int batchSize = properties.batchSize();
+        List<MessageDocument> batch = new ArrayList<>(batchSize);
+        int drained;
+        do {
+            batch.clear();
+            drained = buffer.drain(batch::add, batchSize);
+            if (drained > 0) {
+                indexWithRetry(batch);
+            }
+        } while (drained == batchSize);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 기존 대화 이력 전체 재색인 (messageId keyset 페이징, 동시에 하나만)
+     *
+     * @return 색인 요청한 메시지 수, 이미 진행 중이면 -1
+     */
+    public long reindexAll() {
+        if (!reindexing.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            long afterId = 0;
+            long total = 0;
+            PageRequest page = PageRequest.of(0, properties.reindexPageSize());
+            List<MessageDocument> documents;
+            do {
+                documents = messageRepository.findSearchDocumentsAfter(afterId, page);
+                if (documents.isEmpty()) {
+                    break;
+                }
+                indexWithRetry(documents);
+                total += documents.size();
+                afterId = documents.get(documents.size() - 1).messageId();
+            } while (documents.size() == properties.reindexPageSize());
+            log.info("대화 메시지 재색인 완료: {}건 ({})", total, backend.name());
+            return total;
+        } finally {
+            reindexing.set(false);
+        }
+    }
+
+    private void indexWithRetry(List<MessageDocument> documents) {
+        List<MessageDocument> pending = documents;
+        for (int attempt = 0; ; attempt++) {
+            int requested = pending.size();
+            try {
+                pending = backend.bulkIndex(pending);
+            } catch (Exception e) {
+                log.warn("메시지 bulk 색인 실패 (시도 {}): {}", attempt + 1, e.toString());
+            }
+            // 예외 시 pending 은 그대로 → 전체 재시도
+            indexedCounter.increment(requested - pending.size());
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (attempt >= properties.maxRetries()) {
+                failedCounter.increment(pending.size());
+                log.error("메시지 색인 재시도 초과 - {}건 버림", pending.size());
+                return;
+            }
+            sleep(properties.retryBackoff().toMillis() << attempt);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
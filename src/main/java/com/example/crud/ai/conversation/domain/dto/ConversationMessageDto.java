@@ -0,0 +1,19 @@
+package com.example.crud.ai.conversation.domain.dto;
+
+import com.example.crud.enums.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 메시지 조회 응답 (구조화 메시지는 content 를 조회 시점에 렌더링)
+ *
+ * @param payload 추천 응답일 때만 존재 (노출 상품 ID/점수)
+ */
+public record ConversationMessageDto(
+        Long id,
+        MessageType messageType,
+        String content,
+        String templateId,
+        RecommendationPayload payload,
+        LocalDateTime timestamp
+) {}
@@ -0,0 +1,14 @@
+package com.example.crud.ai.conversation.domain.dto;
+
+import java.util.List;
+
+/**
+ * 추천 응답 메시지의 구조화 데이터 (conversation_message.payload, jsonb)
+ *
+ * 렌더링된 문장 대신 노출 상품 ID/점수만 보관 → 저장 공간 절약,
+ * 클릭/구매 이벤트와 productId 로 바로 매칭해 CTR/CVR 집계 가능
+ */
+public record RecommendationPayload(List<Item> items) {
+
+    public record Item(Long productId, double score) {}
+}
@@ -1,5 +1,6 @@
 package com.example.crud.ai.conversation.domain.entity;
 
+import com.example.crud.ai.conversation.domain.dto.RecommendationPayload;
 import com.example.crud.entity.Member;
 import com.example.crud.enums.ConversationStatus;
 import com.example.crud.enums.MessageType;
@@ -64,7 +65,15 @@ public class Conversation {
 
     /** 메시지를 추가하고, 양방향 연관 & 타임스탬프 업데이트 */
     public ConversationMessage addMessage(MessageType type, String content) {
-        ConversationMessage msg = ConversationMessage.of(this, type, content);
+        return append(ConversationMessage.of(this, type, content));
+    }
+
+    /** 추천 응답을 구조화 데이터로 추가 */
+    public ConversationMessage addRecommendationMessage(String templateId, RecommendationPayload payload) {
+        return append(ConversationMessage.recommendation(this, templateId, payload));
+    }
+
+    private ConversationMessage append(ConversationMessage msg) {
         this.messages.add(msg);
         this.lastUpdated = LocalDateTime.now();
         return msg;
@@ -1,9 +1,12 @@
 package com.example.crud.ai.conversation.domain.entity;
 
+import com.example.crud.ai.conversation.domain.dto.RecommendationPayload;
 import com.example.crud.enums.MessageType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -15,7 +18,9 @@ import java.time.LocalDateTime;
 @Builder
 public class ConversationMessage {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conversation_message_seq")
+    @SequenceGenerator(name = "conversation_message_seq", sequenceName = "conversation_message_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -26,9 +31,19 @@ public class ConversationMessage {
     @Column(nullable = false, length = 16)
     private MessageType messageType;
 
+    // 구조화 메시지(payload 있음)는 빈 문자열, 조회 시 템플릿으로 렌더링
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 추천 응답 템플릿 ID (ResponseTemplate enum 이름)
+    @Column(name = "template_id", length = 32)
+    private String templateId;
+
+    // 추천 응답 노출 상품 ID/점수
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private RecommendationPayload payload;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime timestamp;
@@ -41,4 +56,18 @@ public class ConversationMessage {
                 .content(content)
                 .build();
     }
+
+    public static ConversationMessage recommendation(Conversation conv, String templateId, RecommendationPayload payload) {
+        return ConversationMessage.builder()
+                .conversation(conv)
+                .messageType(MessageType.ASSISTANT)
+                .content("")
+                .templateId(templateId)
+                .payload(payload)
+                .build();
+    }
+
+    public boolean isStructured() {
+        return payload != null;
+    }
 }
\ No newline at end of file
@@ -28,6 +28,18 @@ public class UserPreference {
     @Column(columnDefinition = "TEXT")
     private String preferences;
 
+    // 행동 기반 취향 벡터 - 상품 임베딩 가중 평균을 float16 으로 저장 (TasteVector 로 인코딩/디코딩)
+    @Column(columnDefinition = "bytea")
+    private byte[] tasteVector;
+
+    // 취향 벡터에 반영된 가중치 합 (personalization.max-weight 에서 상한)
+    @Column
+    private Double tasteWeight;
+
     @Column
     private LocalDateTime lastUpdated;
+
+    public boolean hasTaste(double minWeight) {
+        return tasteVector != null && tasteWeight != null && tasteWeight >= minWeight;
+    }
 }
@@ -1,10 +1,13 @@
 package com.example.crud.ai.conversation.domain.repository;
 
 import com.example.crud.ai.conversation.domain.entity.ConversationMessage;
+import com.example.crud.ai.conversation.domain.search.MessageDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,4 +26,14 @@ public interface ConversationMessageRepository extends JpaRepository<Conversatio
     findByConversation_IdAndTimestampBefore(Long conversationId,
                                             LocalDateTime before,
                                             Pageable pageable);
+
+    // 검색 재색인용 keyset 페이지 (구조화 추천 메시지 제외)
+    @Query("""
+        SELECT new com.example.crud.ai.conversation.domain.search.MessageDocument(
+            m.id, c.id, c.member.number, m.messageType, m.content, m.timestamp)
+        FROM ConversationMessage m JOIN m.conversation c
+        WHERE m.id > :afterId AND m.content <> ''
+        ORDER BY m.id
+        """)
+    List<MessageDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -3,8 +3,12 @@ package com.example.crud.ai.conversation.domain.repository;
 import com.example.crud.ai.conversation.domain.entity.UserPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserPreferenceRepository extends JpaRepository<UserPreference, Long> {
     Optional<UserPreference> findByMember_Number(Long memberId);
+
+    List<UserPreference> findByMember_NumberIn(Collection<Long> memberIds);
 }
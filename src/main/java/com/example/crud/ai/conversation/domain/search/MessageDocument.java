@@ -0,0 +1,24 @@
+package com.example.crud.ai.conversation.domain.search;
+
+import com.example.crud.enums.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 문서 (es/mappings_message.json 과 같은 필드)
+ */
+public record MessageDocument(
+        Long messageId,
+        Long conversationId,
+        Long userId,
+        String type,
+        String content,
+        LocalDateTime timestamp
+) {
+
+    // JPQL 생성자 표현식용 (재색인)
+    public MessageDocument(Long messageId, Long conversationId, Long userId, MessageType type,
+                           String content, LocalDateTime timestamp) {
+        this(messageId, conversationId, userId, type.name(), content, timestamp);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.crud.ai.conversation.domain.search;
+
+import java.util.List;
+
+/**
+ * 메시지 검색 저장소 (search.message.backend 로 선택)
+ *
+ * - elasticsearch : Elasticsearch / OpenSearch 호환 REST (_bulk, _search)
+ * - memory        : 노드 로컬 역색인, 외부 의존성 없는 개발/테스트용
+ */
+public interface MessageSearchBackend {
+
+    String name();
+
+    /**
+     * 색인이 없으면 생성 (기동 시 1회)
+     */
+    void ensureIndex();
+
+    /**
+     * 일괄 색인 - 같은 messageId 는 덮어씀
+     *
+     * @return 다시 시도할 만한 일시 실패 문서 (영구 실패는 로그만 남기고 제외)
+     */
+    List<MessageDocument> bulkIndex(List<MessageDocument> documents);
+
+    MessageSearchResult search(MessageSearchQuery query);
+}
@@ -0,0 +1,15 @@
+package com.example.crud.ai.conversation.domain.search;
+
+/**
+ * 메시지 검색 조건 - 검색어 외 조건은 null 이면 무시
+ *
+ * @param keyword 공백으로 구분된 단어가 모두 포함된 메시지만
+ */
+public record MessageSearchQuery(
+        String keyword,
+        Long userId,
+        Long conversationId,
+        String type,
+        int page,
+        int size
+) {}
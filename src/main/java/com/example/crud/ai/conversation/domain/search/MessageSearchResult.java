@@ -0,0 +1,23 @@
+package com.example.crud.ai.conversation.domain.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메시지 검색 결과 (점수 내림차순, 동점은 최신순)
+ */
+public record MessageSearchResult(long total, List<Hit> hits) {
+
+    /**
+     * @param highlight 검색어 주변 발췌 (<em> 강조), 백엔드가 지원하지 않으면 원문
+     */
+    public record Hit(
+            Long messageId,
+            Long conversationId,
+            Long userId,
+            String type,
+            String highlight,
+            LocalDateTime timestamp,
+            double score
+    ) {}
+}
@@ -0,0 +1,215 @@
+package com.example.crud.ai.conversation.infrastructure;
+
+import com.example.crud.ai.config.MessageSearchProperties;
+import com.example.crud.ai.conversation.domain.search.MessageDocument;
+import com.example.crud.ai.conversation.domain.search.MessageSearchBackend;
+import com.example.crud.ai.conversation.domain.search.MessageSearchQuery;
+import com.example.crud.ai.conversation.domain.search.MessageSearchResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Elasticsearch / OpenSearch 호환 메시지 색인 (search.message.backend=elasticsearch)
+ *
+ * - 색인 생성: es/settings_message.json + es/mappings_message.json (content 는 korean 분석기)
+ * - 적재: _bulk NDJSON, 문서 ID = messageId (재시도/재색인 시 중복 없음)
+ * - 클라이언트 라이브러리 대신 WebClient 로 REST 직접 호출 → ES/OpenSearch 버전 의존성 없음
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.message", name = "backend", havingValue = "elasticsearch")
+@Slf4j
+public class ElasticsearchMessageSearchBackend implements MessageSearchBackend {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String index;
+    private final Duration timeout;
+
+    public ElasticsearchMessageSearchBackend(MessageSearchProperties properties,
+                                             WebClient.Builder webClientBuilder,
+                                             ObjectMapper objectMapper) {
+        this.webClient = webClientBuilder
+                .baseUrl(properties.url())
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+        this.objectMapper = objectMapper;
+        this.index = properties.index();
+        this.timeout = properties.requestTimeout();
+    }
+
+    @Override
+    public String name() {
+        return "elasticsearch";
+    }
+
+    @Override
+    public void ensureIndex() {
+        try {
+            webClient.head().uri("/{index}", index).retrieve().toBodilessEntity().block(timeout);
+            log.info("메시지 검색 색인 확인: {}", index);
+            return;
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().value() != HttpStatus.NOT_FOUND.value()) {
+                throw e;
+            }
+        }
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set("settings", readResource("es/settings_message.json"));
+        body.set("mappings", readResource("es/mappings_message.json"));
+        try {
+            webClient.put().uri("/{index}", index)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .retrieve().toBodilessEntity().block(timeout);
+            log.info("메시지 검색 색인 생성: {}", index);
+        } catch (WebClientResponseException e) {
+            // 다른 노드가 먼저 생성한 경우
+            if (!e.getResponseBodyAsString().contains("resource_already_exists_exception")) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public List<MessageDocument> bulkIndex(List<MessageDocument> documents) {
+        StringBuilder ndjson = new StringBuilder(documents.size() * 256);
+        try {
+            for (MessageDocument document : documents) {
+                ndjson.append("{\"index\":{\"_index\":\"").append(index)
+                        .append("\",\"_id\":\"").append(document.messageId()).append("\"}}\n");
+                ndjson.append(objectMapper.writeValueAsString(toSource(document))).append('\n');
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("메시지 색인 문서 직렬화 실패", e);
+        }
+
+        JsonNode response = webClient.post().uri("/_bulk")
+                .contentType(NDJSON)
+                .bodyValue(ndjson.toString())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(timeout);
+        if (response == null || !response.path("errors").asBoolean(false)) {
+            return List.of();
+        }
+
+        // 항목별 결과는 요청 순서와 같음 - 429/5xx 만 재시도 대상, 나머지(매핑 오류 등)는 버림
+        List<MessageDocument> retryable = new ArrayList<>();
+        JsonNode items = response.path("items");
+        for (int i = 0; i < items.size() && i < documents.size(); i++) {
+            JsonNode result = items.get(i).path("index");
+            int status = result.path("status").asInt(200);
+            if (status == 429 || status >= 500) {
+                retryable.add(documents.get(i));
+            } else if (status >= 300) {
+                log.warn("메시지 색인 실패(재시도 안 함): messageId={}, status={}, error={}",
+                        documents.get(i).messageId(), status, result.path("error").path("reason").asText());
+            }
+        }
+        return retryable;
+    }
+
+    @Override
+    public MessageSearchResult search(MessageSearchQuery query) {
+        JsonNode response = webClient.post().uri("/{index}/_search", index)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(searchBody(query))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(timeout);
+        if (response == null) {
+            return new MessageSearchResult(0, List.of());
+        }
+
+        List<MessageSearchResult.Hit> hits = new ArrayList<>();
+        for (JsonNode hit : response.path("hits").path("hits")) {
+            JsonNode source = hit.path("_source");
+            JsonNode highlight = hit.path("highlight").path("content");
+            hits.add(new MessageSearchResult.Hit(
+                    source.path("messageId").asLong(),
+                    source.path("conversationId").asLong(),
+                    source.hasNonNull("userId") ? source.path("userId").asLong() : null,
+                    source.path("type").asText(),
+                    highlight.isArray() && !highlight.isEmpty()
+                            ? highlight.get(0).asText()
+                            : HtmlUtils.htmlEscape(source.path("content").asText()),
+                    source.hasNonNull("timestamp") ? LocalDateTime.parse(source.path("timestamp").asText()) : null,
+                    hit.path("_score").asDouble()));
+        }
+        return new MessageSearchResult(response.path("hits").path("total").path("value").asLong(), hits);
+    }
+
+    private ObjectNode toSource(MessageDocument document) {
+        ObjectNode source = objectMapper.createObjectNode();
+        source.put("id", String.valueOf(document.messageId()));
+        source.put("messageId", document.messageId());
+        source.put("conversationId", document.conversationId());
+        source.put("userId", document.userId());
+        source.put("type", document.type());
+        source.put("content", document.content());
+        source.put("timestamp", document.timestamp() != null ? document.timestamp().toString() : null);
+        return source;
+    }
+
+    private ObjectNode searchBody(MessageSearchQuery query) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("from", query.page() * query.size());
+        body.put("size", query.size());
+        body.put("track_total_hits", true);
+
+        ObjectNode bool = body.putObject("query").putObject("bool");
+        bool.putArray("must").addObject().putObject("match").putObject("content")
+                .put("query", query.keyword())
+                .put("operator", "and");
+        ArrayNode filter = bool.putArray("filter");
+        if (query.userId() != null) {
+            filter.addObject().putObject("term").put("userId", query.userId());
+        }
+        if (query.conversationId() != null) {
+            filter.addObject().putObject("term").put("conversationId", query.conversationId());
+        }
+        if (query.type() != null) {
+            filter.addObject().putObject("term").put("type", query.type());
+        }
+
+        ArrayNode sort = body.putArray("sort");
+        sort.add("_score");
+        sort.addObject().putObject("timestamp").put("order", "desc");
+        // encoder=html: 하이라이트 조각의 원문을 이스케이프하고 <em> 만 추가 (상담사 화면 XSS 방지)
+        ObjectNode highlight = body.putObject("highlight");
+        highlight.put("encoder", "html");
+        highlight.putObject("fields").putObject("content")
+                .put("fragment_size", 120)
+                .put("number_of_fragments", 1);
+        return body;
+    }
+
+    private JsonNode readResource(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("색인 정의 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
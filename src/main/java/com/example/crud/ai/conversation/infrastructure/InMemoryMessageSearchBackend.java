@@ -0,0 +1,230 @@
+package com.example.crud.ai.conversation.infrastructure;
+
+import com.example.crud.ai.config.MessageSearchProperties;
+import com.example.crud.ai.conversation.domain.search.MessageDocument;
+import com.example.crud.ai.conversation.domain.search.MessageSearchBackend;
+import com.example.crud.ai.conversation.domain.search.MessageSearchQuery;
+import com.example.crud.ai.conversation.domain.search.MessageSearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 메시지 역색인 (search.message.backend=memory, 기본값)
+ *
+ * - 토큰: 단어 전체 + 문자 2-gram (Bm25Index 와 같은 방식) → 형태소 분석기 없이 한국어 부분 일치
+ * - 검색: 검색어 단어마다 2-gram 포스팅 교집합으로 후보를 좁힌 뒤 원문 포함 여부로 확정, 점수 = 등장 횟수 합
+ * - memory-max-documents 초과 시 messageId 가 가장 작은(오래된) 메시지부터 제거
+ * - 노드마다 자기 노드에서 생성된 메시지만 보유 → 다중 노드 운영은 elasticsearch 백엔드 사용
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.message", name = "backend", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryMessageSearchBackend implements MessageSearchBackend {
+
+    private static final int SNIPPET_RADIUS = 40;
+
+    private final int maxDocuments;
+    private final NavigableMap<Long, MessageDocument> documents = new TreeMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryMessageSearchBackend(MessageSearchProperties properties) {
+        this.maxDocuments = properties.memoryMaxDocuments();
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void ensureIndex() {
+        log.info("메시지 검색: 로컬 메모리 색인 사용 (최대 {}건)", maxDocuments);
+    }
+
+    @Override
+    public List<MessageDocument> bulkIndex(List<MessageDocument> batch) {
+        lock.writeLock().lock();
+        try {
+            for (MessageDocument document : batch) {
+                remove(document.messageId());
+                documents.put(document.messageId(), document);
+                tokenize(document.content(), token ->
+                        postings.computeIfAbsent(token, k -> new HashSet<>()).add(document.messageId()));
+            }
+            while (documents.size() > maxDocuments) {
+                remove(documents.firstKey());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return List.of();
+    }
+
+    @Override
+    public MessageSearchResult search(MessageSearchQuery query) {
+        List<String> words = new ArrayList<>();
+        forEachWord(query.keyword(), (text, start, end) -> words.add(text.substring(start, end)));
+        if (words.isEmpty()) {
+            return new MessageSearchResult(0, List.of());
+        }
+
+        List<MessageSearchResult.Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long messageId : candidates(words)) {
+                MessageDocument document = documents.get(messageId);
+                if (!matchesFilter(document, query)) {
+                    continue;
+                }
+                String content = document.content().toLowerCase(Locale.ROOT);
+                int score = 0;
+                for (String word : words) {
+                    int occurrences = countOccurrences(content, word);
+                    if (occurrences == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += occurrences;
+                }
+                if (score > 0) {
+                    hits.add(new MessageSearchResult.Hit(document.messageId(), document.conversationId(),
+                            document.userId(), document.type(), snippet(document.content(), content, words.get(0)),
+                            document.timestamp(), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(MessageSearchResult.Hit::score).reversed()
+                .thenComparing(MessageSearchResult.Hit::timestamp, Comparator.reverseOrder()));
+        int from = Math.min(query.page() * query.size(), hits.size());
+        int to = Math.min(from + query.size(), hits.size());
+        return new MessageSearchResult(hits.size(), List.copyOf(hits.subList(from, to)));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 단어별 포스팅 교집합 (가장 짧은 목록부터)
+     */
+    private Set<Long> candidates(List<String> words) {
+        Set<Long> result = null;
+        for (String word : words) {
+            List<String> tokens = new ArrayList<>();
+            if (word.length() <= 2) {
+                tokens.add(word);
+            } else {
+                for (int i = 0; i + 2 <= word.length(); i++) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+            for (String token : tokens) {
+                Set<Long> posting = postings.getOrDefault(token, Set.of());
+                if (result == null) {
+                    result = new HashSet<>(posting);
+                } else {
+                    result.retainAll(posting);
+                }
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+        }
+        return result == null ? Set.of() : result;
+    }
+
+    private void remove(Long messageId) {
+        MessageDocument previous = documents.remove(messageId);
+        if (previous == null) {
+            return;
+        }
+        tokenize(previous.content(), token -> {
+            Set<Long> posting = postings.get(token);
+            if (posting != null && posting.remove(messageId) && posting.isEmpty()) {
+                postings.remove(token);
+            }
+        });
+    }
+
+    private static boolean matchesFilter(MessageDocument document, MessageSearchQuery query) {
+        return (query.userId() == null || query.userId().equals(document.userId()))
+                && (query.conversationId() == null || query.conversationId().equals(document.conversationId()))
+                && (query.type() == null || query.type().equals(document.type()));
+    }
+
+    private static int countOccurrences(String text, String word) {
+        int count = 0;
+        for (int i = text.indexOf(word); i >= 0; i = text.indexOf(word, i + word.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 사용자 입력 원문은 HTML 이스케이프 후 <em> 만 추가 (상담사 화면에서 그대로 렌더링되므로)
+     */
+    private static String snippet(String original, String lower, String word) {
+        int at = Math.max(0, lower.indexOf(word));
+        if (at + word.length() > original.length()) {
+            return HtmlUtils.htmlEscape(original); // 소문자 변환으로 길이가 달라진 특수 문자
+        }
+        int start = Math.max(0, at - SNIPPET_RADIUS);
+        int end = Math.min(original.length(), at + word.length() + SNIPPET_RADIUS);
+        return (start > 0 ? "…" : "")
+                + HtmlUtils.htmlEscape(original.substring(start, at))
+                + "<em>" + HtmlUtils.htmlEscape(original.substring(at, at + word.length())) + "</em>"
+                + HtmlUtils.htmlEscape(original.substring(at + word.length(), end))
+                + (end < original.length() ? "…" : "");
+    }
+
+    /**
+     * 단어 전체 + 3글자 이상 단어의 문자 2-gram
+     */
+    private static void tokenize(String text, Consumer<String> sink) {
+        forEachWord(text, (lower, start, end) -> {
+            sink.accept(lower.substring(start, end));
+            if (end - start > 2) {
+                for (int i = start; i + 2 <= end; i++) {
+                    sink.accept(lower.substring(i, i + 2));
+                }
+            }
+        });
+    }
+
+    private interface WordSink {
+        void accept(String lowerText, int start, int end);
+    }
+
+    private static void forEachWord(String text, WordSink sink) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                sink.accept(lower, start, i);
+                start = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.crud.ai.conversation.presentation;
+
+import com.example.crud.ai.conversation.application.query.MessageSearchService;
+import com.example.crud.ai.conversation.application.search.MessageIndexer;
+import com.example.crud.ai.conversation.domain.search.MessageSearchQuery;
+import com.example.crud.ai.conversation.domain.search.MessageSearchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 상담사용 대화 이력 검색 API (ROLE_SUPPORT)
+ */
+@RestController
+@RequestMapping("/api/support/messages")
+@RequiredArgsConstructor
+public class MessageSearchController {
+
+    private final MessageSearchService messageSearchService;
+    private final MessageIndexer messageIndexer;
+    private final TaskExecutor dbTaskExecutor;
+
+    /**
+     * 전문 검색 - 공백으로 구분된 단어가 모두 포함된 메시지, 점수/최신순
+     */
+    @GetMapping("/search")
+    public ResponseEntity<MessageSearchResult> search(
+            @RequestParam("q") String keyword,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) Long conversationId,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(messageSearchService.search(
+                new MessageSearchQuery(keyword, memberId, conversationId, type, page, size)));
+    }
+
+    /**
+     * 기존 대화 이력 재색인 (백그라운드 실행)
+     */
+    @PostMapping("/reindex")
+    public ResponseEntity<Map<String, String>> reindex() {
+        dbTaskExecutor.execute(messageIndexer::reindexAll);
+        return ResponseEntity.accepted().body(Map.of("status", "started"));
+    }
+}
@@ -1,33 +1,31 @@
 package com.example.crud.ai.embedding;
 
+import com.example.crud.ai.embedding.provider.EmbeddingProvider;
+import com.example.crud.ai.embedding.provider.EmbeddingUpstreamException;
+import com.example.crud.ai.embedding.resilience.EmbeddingCircuitBreaker;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
 public class EmbeddingApiClient {
-    private final WebClient webClient;
+    private final EmbeddingProvider embeddingProvider;
     private final CacheManager cacheManager;
+    private final EmbeddingCircuitBreaker circuitBreaker;
 
-    @Value("${openai.api.key:}")
-    private String openaiApiKey;
-
-    public EmbeddingApiClient(@Qualifier("embeddingWebClient") WebClient webClient, CacheManager cacheManager) {
-        this.webClient = webClient;
+    public EmbeddingApiClient(EmbeddingProvider embeddingProvider, CacheManager cacheManager,
+                              EmbeddingCircuitBreaker circuitBreaker) {
+        this.embeddingProvider = embeddingProvider;
         this.cacheManager = cacheManager;
+        this.circuitBreaker = circuitBreaker;
     }
 
     // @Cacheable(value = "embedding", key = "#text.trim().toLowerCase().hashCode()") @Async랑 쓰면 프록시충돌.
@@ -38,17 +36,13 @@ public class EmbeddingApiClient {
             return CompletableFuture.failedFuture(new BaseException(ErrorCode.INVALID_MESSAGE_INPUT, "임베딩 생성할 텍스트가 없습니다"));
         }
 
-        if (openaiApiKey == null || openaiApiKey.trim().isEmpty()) {
-            log.error("OpenAI API 키가 설정되지 않았습니다");
-            return CompletableFuture.failedFuture(new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, "OpenAI API 키가 설정되지 않았습니다"));
-        }
-
+        String normalized = text.trim().toLowerCase();
         Cache cache = cacheManager.getCache("embeddings");
 
         if (cache == null) {
             log.info("Redis System Error, 캐시 없이 진행");
         } else {
-            String cacheKey = String.valueOf(text.trim().toLowerCase().hashCode());
+            String cacheKey = cacheKey(normalized);
             log.debug("Redis Cache Key Generate {}", cacheKey);
 
             Cache.ValueWrapper wrapper = cache.get(cacheKey);
@@ -67,26 +61,21 @@ public class EmbeddingApiClient {
         }
 
 
+        // 캐시 미스일 때만 서킷 확인 (캐시 히트는 장애와 무관하게 응답)
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("임베딩 서킷 OPEN - 호출 생략");
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, "임베딩 서비스를 일시적으로 사용할 수 없습니다"));
+        }
+
         try {
-            log.info("OpenAI API 호출 준비 중...");
-            String normalized = text.trim().toLowerCase();
-            Map<String, Object> request = Map.of(
-                    "input", normalized, // Cache Key와 동일한 정규화 텍스트를 API요청.
-                    "model", "text-embedding-3-small"
-            );
-
-            log.info("WebClient로 API 호출 시작");
-            CompletableFuture<float[]> future = webClient.post()
-                    .uri("/v1/embeddings")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .timeout(Duration.ofSeconds(10))
-                    .map(this::parseEmbeddingResponse)
-                    .toFuture();
+            log.info("임베딩 제공자 호출: provider={}", embeddingProvider.name());
+            long started = System.currentTimeMillis();
+            // Cache Key와 동일한 정규화 텍스트를 요청.
+            CompletableFuture<float[]> future = embeddingProvider.embed(normalized)
+                    .whenComplete((result, ex) -> recordOutcome(ex, System.currentTimeMillis() - started));
 
             if (cache != null) {
-                String cacheKey = String.valueOf(normalized.hashCode());
+                String cacheKey = cacheKey(normalized);
 
                 future = future.thenApply(result -> {
                     cache.put(cacheKey, result);
@@ -97,38 +86,84 @@ public class EmbeddingApiClient {
 
             return future;
         } catch (Exception e) {
+            recordOutcome(e, 0);
             log.error("임베딩 요청 실패", e);
             return CompletableFuture.failedFuture(new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, "임베딩 서비스를 일시적으로 사용할 수 없습니다"));
         }
     }
 
-    private float[] parseEmbeddingResponse(Map<String, Object> response) {
-        Object dataObj = response.get("data");
-        if (!(dataObj instanceof List<?> dataList) || dataList.isEmpty()) {
-            throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답에서 데이터를 찾을 수 없습니다");
+    /**
+     * 여러 텍스트 일괄 임베딩 (백그라운드 적재용, 입력 순서대로 반환)
+     * - 캐시 히트는 제외하고 미스만 제공자 배치 API 1회로 요청
+     * - 서킷 OPEN이면 즉시 실패 → 호출 측(아웃박스)이 백오프 후 재시도
+     */
+    public CompletableFuture<List<float[]>> generateEmbeddingsBatchAsync(List<String> texts) {
+        if (texts.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        Cache cache = cacheManager.getCache("embeddings");
+        float[][] results = new float[texts.size()][];
+        List<Integer> missIndexes = new ArrayList<>();
+        List<String> missTexts = new ArrayList<>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.trim().isEmpty()) {
+                return CompletableFuture.failedFuture(new BaseException(ErrorCode.INVALID_MESSAGE_INPUT, "임베딩 생성할 텍스트가 없습니다"));
+            }
+            String normalized = text.trim().toLowerCase();
+            Cache.ValueWrapper wrapper = cache != null ? cache.get(cacheKey(normalized)) : null;
+            if (wrapper != null && wrapper.get() instanceof float[] cached) {
+                results[i] = cached;
+            } else {
+                missIndexes.add(i);
+                missTexts.add(normalized);
+            }
         }
 
-        Object firstItem = dataList.get(0);
-        if (!(firstItem instanceof Map<?, ?> firstMap)) {
-            throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답의 데이터 형식이 올바르지 않습니다");
+        if (missTexts.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of(results));
         }
 
-        Object embeddingObj = firstMap.get("embedding");
-        if (!(embeddingObj instanceof List<?> rawList)) {
-            throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답에 임베딩이 없습니다");
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("임베딩 서킷 OPEN - 배치 호출 생략: size={}", missTexts.size());
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, "임베딩 서비스를 일시적으로 사용할 수 없습니다"));
         }
 
-        float[] result = new float[rawList.size()];
-        for (int i = 0; i < rawList.size(); i++) {
-            Object value = rawList.get(i);
-            if (value instanceof Number number) {
-                result[i] = number.floatValue();
-            } else {
-                throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "임베딩 벡터 요소가 숫자가 아닙니다: " + value);
-            }
+        log.info("임베딩 배치 호출: provider={}, size={}, cacheHit={}",
+                embeddingProvider.name(), missTexts.size(), texts.size() - missTexts.size());
+        return embeddingProvider.embedBatch(missTexts)
+                // 배치는 입력 크기에 따라 지연이 달라 느린 호출 판정에서 제외, 성공/실패만 반영
+                .whenComplete((vectors, ex) -> recordOutcome(ex, 0))
+                .thenApply(vectors -> {
+                    for (int j = 0; j < vectors.size(); j++) {
+                        results[missIndexes.get(j)] = vectors.get(j);
+                        if (cache != null) {
+                            cache.put(cacheKey(missTexts.get(j)), vectors.get(j));
+                        }
+                    }
+                    return List.of(results);
+                });
+    }
+
+    /**
+     * 서킷에는 일시적 장애(429/5xx, 타임아웃, 연결 오류)만 실패로 집계
+     * 400/401 같은 영구 오류는 제공자가 정상 응답한 것이므로 성공으로 기록 (잘못된 입력 하나로 서킷이 열리지 않도록,
+     * HALF_OPEN 시험 호출도 결과가 기록돼야 CLOSED 로 돌아감)
+     */
+    private void recordOutcome(Throwable failure, long elapsedMillis) {
+        if (failure != null && EmbeddingUpstreamException.isTransient(failure)) {
+            circuitBreaker.onFailure(elapsedMillis);
+        } else {
+            circuitBreaker.onSuccess(elapsedMillis);
         }
+    }
 
-        log.debug("임베딩 차원: {}", result.length);
-        return result;
+    /**
+     * 제공자별로 벡터 공간이 다르므로 캐시 키에 제공자 이름을 포함
+     */
+    private String cacheKey(String normalized) {
+        return embeddingProvider.name() + ":" + normalized.hashCode();
     }
 }
@@ -0,0 +1,58 @@
+package com.example.crud.ai.embedding.application;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.common.cluster.ProductPartitioner;
+import com.example.crud.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 임베딩 없는 상품 백필
+ *
+ * 아웃박스 적재 이전에 등록된 상품이나 DEAD 처리된 상품을 다시 아웃박스에 넣음.
+ * 노드마다 자기 담당 상품 ID 구간만 훑고, 실제 임베딩은 아웃박스 폴러가 나눠 처리
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddingBackfillJob {
+
+    private final ProductRepository productRepository;
+    private final EmbeddingOutboxService outboxService;
+    private final ProductPartitioner partitioner;
+    private final EmbeddingProperties embeddingProperties;
+
+    @Scheduled(cron = "${embedding.outbox.backfill-cron:0 0 4 * * *}")
+    public void backfill() {
+        if (!embeddingProperties.outbox().enabled()) {
+            return;
+        }
+        Optional<long[]> range = partitioner.currentRange();
+        if (range.isEmpty()) {
+            return;
+        }
+        long from = range.get()[0];
+        long to = range.get()[1];
+        int pageSize = embeddingProperties.outbox().batchSize() * 10;
+        long afterId = from - 1;
+        int enqueued = 0;
+
+        List<Long> page;
+        do {
+            page = productRepository.findIdsWithoutEmbeddingInRange(afterId, to, pageSize);
+            if (!page.isEmpty()) {
+                enqueued += outboxService.enqueueAll(page);
+                afterId = page.get(page.size() - 1);
+            }
+        } while (page.size() == pageSize);
+
+        if (enqueued > 0) {
+            log.info("임베딩 백필 적재: range=[{}, {}], {}건", from, to, enqueued);
+        }
+    }
+}
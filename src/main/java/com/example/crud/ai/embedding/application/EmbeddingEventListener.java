@@ -1,43 +1,43 @@
 package com.example.crud.ai.embedding.application;
 
 import com.example.crud.ai.embedding.event.ProductCreatedEvent;
+import com.example.crud.ai.embedding.event.ProductUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * 상품 관련 이벤트를 수신하여 임베딩 생성을 요청하는 리스너
+ * 상품 관련 이벤트를 수신하여 임베딩 작업을 아웃박스에 적재하는 리스너
+ *
+ * BEFORE_COMMIT → 상품 저장과 같은 트랜잭션에서 embedding_outbox INSERT
+ * (이전: @Async + AFTER_COMMIT 은 노드 종료/비동기 큐 포화 시 작업이 유실됨)
+ * 실제 임베딩 생성은 EmbeddingOutboxPoller가 담당
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EmbeddingEventListener {
 
-    private final ProductEmbeddingCommandService embeddingService;
+    private final EmbeddingOutboxService outboxService;
 
     /**
     * 상품 생성 이벤트 처리
     */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleProductCreated(ProductCreatedEvent event) {
-        try {
-            log.debug("상품 생성 이벤트 수신: productId={}", event.getProductId());
-
-            // EmbeddingService에 임베딩 생성 위임
-            embeddingService.createAndSaveEmbedding(event.getProductId());
-
-            log.info("상품 임베딩 생성 완료: productId={}", event.getProductId());
+        log.debug("상품 생성 이벤트 수신: productId={}", event.getProductId());
+        outboxService.enqueue(event.getProductId());
+    }
 
-        } catch (Exception e) {
-            // 임베딩 생성 실패해도 상품은 이미 저장됨
-            // 로그만 남기고 정상 종료 (예외 전파 안 함)
-            log.error("상품 임베딩 생성 실패: productId={}, error={}",
-                    event.getProductId(), e.getMessage(), e);
-        }
+    /**
+     * 상품 수정 이벤트 처리 (텍스트 지문이 바뀐 경우에만 발행됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleProductUpdated(ProductUpdatedEvent event) {
+        log.debug("상품 수정 이벤트 수신: productId={}", event.getProductId());
+        outboxService.enqueue(event.getProductId());
     }
 
 }
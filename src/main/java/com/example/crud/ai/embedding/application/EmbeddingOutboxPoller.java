@@ -0,0 +1,237 @@
+package com.example.crud.ai.embedding.application;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.embedding.EmbeddingApiClient;
+import com.example.crud.ai.embedding.application.EmbeddingOutboxService.OutboxJob;
+import com.example.crud.ai.embedding.domain.ProductTextBuilder;
+import com.example.crud.ai.embedding.provider.EmbeddingUpstreamException;
+import com.example.crud.common.cluster.RedisLeaseLock;
+import com.example.crud.entity.Product;
+import com.example.crud.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
+
+/**
+ * 임베딩 아웃박스 폴러
+ *
+ * 1. batch-size 만큼 작업 수거 (SKIP LOCKED, 노드 여러 대 동시 실행 가능)
+ * 2. 같은 상품 작업은 하나로 합치고, 텍스트 지문이 저장된 값과 같으면 API 호출 없이 완료
+ * 3. 나머지는 배치 임베딩 요청 1회 → 상품별 벡터 저장 → 완료 표시
+ * 4. 실패 시 지수 백오프 재시도, max-attempts 초과 시 DEAD
+ *    배치가 영구 오류(429 외 4xx, 예: 텍스트 길이 초과 400)로 거부되면 반씩 나눠 다시 요청
+ *    → 원인 상품의 작업만 실패로 기록되고 같은 배치의 나머지는 저장됨
+ *
+ * 완료 행 정리는 클러스터에서 한 노드만 실행 (RedisLeaseLock)
+ *
+ * 저장과 완료 표시는 별도 트랜잭션이지만, 그 사이 노드가 죽어 재처리돼도 지문이 같아 API 호출 없이 완료됨
+ *
+ * 지표
+ * - embedding.outbox.jobs{result=done|skipped|retry|dead}
+ * - embedding.outbox.lag : 적재 → 완료까지 걸린 시간
+ * - embedding.outbox.backlog / embedding.outbox.oldest.age / embedding.outbox.dead (주기적 집계)
+ */
+@Component
+@Slf4j
+public class EmbeddingOutboxPoller {
+
+    private static final Duration PURGE_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final EmbeddingOutboxService outboxService;
+    private final ProductRepository productRepository;
+    private final ProductTextBuilder productTextBuilder;
+    private final EmbeddingApiClient embeddingApiClient;
+    private final ProductEmbeddingCommandService embeddingCommandService;
+    private final EmbeddingProperties embeddingProperties;
+    private final RedisLeaseLock leaseLock;
+
+    private final Counter doneCounter;
+    private final Counter skippedCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final Timer lagTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final AtomicLong deadRows = new AtomicLong();
+
+    public EmbeddingOutboxPoller(EmbeddingOutboxService outboxService,
+                                 ProductRepository productRepository,
+                                 ProductTextBuilder productTextBuilder,
+                                 EmbeddingApiClient embeddingApiClient,
+                                 ProductEmbeddingCommandService embeddingCommandService,
+                                 EmbeddingProperties embeddingProperties,
+                                 RedisLeaseLock leaseLock,
+                                 MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.productRepository = productRepository;
+        this.productTextBuilder = productTextBuilder;
+        this.leaseLock = leaseLock;
+        this.embeddingApiClient = embeddingApiClient;
+        this.embeddingCommandService = embeddingCommandService;
+        this.embeddingProperties = embeddingProperties;
+
+        this.doneCounter = meterRegistry.counter("embedding.outbox.jobs", "result", "done");
+        this.skippedCounter = meterRegistry.counter("embedding.outbox.jobs", "result", "skipped");
+        this.retryCounter = meterRegistry.counter("embedding.outbox.jobs", "result", "retry");
+        this.deadCounter = meterRegistry.counter("embedding.outbox.jobs", "result", "dead");
+        this.lagTimer = Timer.builder("embedding.outbox.lag")
+                .description("아웃박스 적재부터 임베딩 저장 완료까지")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("embedding.outbox.backlog", backlog, AtomicLong::get)
+                .description("미처리(PENDING+PROCESSING) 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("embedding.outbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("가장 오래된 미처리 작업 경과 시간")
+                .register(meterRegistry);
+        Gauge.builder("embedding.outbox.dead", deadRows, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${embedding.outbox.poll-interval:PT2S}")
+    public void poll() {
+        if (!embeddingProperties.outbox().enabled()) {
+            return;
+        }
+
+        List<OutboxJob> jobs;
+        try {
+            jobs = outboxService.claim();
+        } catch (Exception e) {
+            log.error("임베딩 아웃박스 수거 실패", e);
+            return;
+        }
+        if (!jobs.isEmpty()) {
+            process(jobs);
+        }
+    }
+
+    private void process(List<OutboxJob> jobs) {
+        Map<Long, List<OutboxJob>> jobsByProduct = jobs.stream()
+                .collect(Collectors.groupingBy(OutboxJob::productId, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, Product> products = productRepository.findAllById(jobsByProduct.keySet()).stream()
+                .collect(Collectors.toMap(Product::getNumber, p -> p));
+
+        List<OutboxJob> completed = new ArrayList<>();
+        List<Long> pendingProductIds = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<String> fingerprints = new ArrayList<>();
+
+        for (Map.Entry<Long, List<OutboxJob>> entry : jobsByProduct.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                completed.addAll(entry.getValue()); // 그 사이 삭제된 상품
+                skippedCounter.increment(entry.getValue().size());
+                continue;
+            }
+            String text = productTextBuilder.buildProductText(product);
+            String fingerprint = productTextBuilder.fingerprint(text);
+            if (product.hasDescriptionVector() && fingerprint.equals(product.getEmbeddingFingerprint())) {
+                completed.addAll(entry.getValue());
+                skippedCounter.increment(entry.getValue().size());
+                continue;
+            }
+            pendingProductIds.add(entry.getKey());
+            texts.add(text);
+            fingerprints.add(fingerprint);
+        }
+
+        if (!texts.isEmpty()) {
+            for (Failure failure : embedAndSave(jobsByProduct, pendingProductIds, texts, fingerprints, completed)) {
+                int dead = outboxService.markFailed(failure.jobs(), failure.cause());
+                deadCounter.increment(dead);
+                retryCounter.increment(failure.jobs().size() - dead);
+            }
+        }
+
+        outboxService.markDone(completed.stream().map(OutboxJob::id).toList());
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxJob job : completed) {
+            lagTimer.record(Duration.between(job.createdAt(), now));
+        }
+    }
+
+    private record Failure(List<OutboxJob> jobs, Throwable cause) {}
+
+    /**
+     * @return 실패한 작업과 원인 (성공분은 completed에 추가)
+     */
+    private List<Failure> embedAndSave(Map<Long, List<OutboxJob>> jobsByProduct, List<Long> productIds,
+                                       List<String> texts, List<String> fingerprints,
+                                       List<OutboxJob> completed) {
+        List<float[]> vectors;
+        try {
+            vectors = embeddingApiClient.generateEmbeddingsBatchAsync(texts).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (productIds.size() > 1 && cause instanceof EmbeddingUpstreamException upstream && !upstream.isTransient()) {
+                log.debug("임베딩 배치 영구 오류 - 나눠서 재요청: size={}, status={}", texts.size(), upstream.getStatusCode());
+                int mid = productIds.size() / 2;
+                List<Failure> failures = new ArrayList<>(embedAndSave(jobsByProduct, productIds.subList(0, mid),
+                        texts.subList(0, mid), fingerprints.subList(0, mid), completed));
+                failures.addAll(embedAndSave(jobsByProduct, productIds.subList(mid, productIds.size()),
+                        texts.subList(mid, texts.size()), fingerprints.subList(mid, fingerprints.size()), completed));
+                return failures;
+            }
+            log.warn("임베딩 배치 실패: size={}, cause={}", texts.size(), cause.toString());
+            List<OutboxJob> all = productIds.stream()
+                    .flatMap(productId -> jobsByProduct.get(productId).stream())
+                    .toList();
+            return List.of(new Failure(all, cause));
+        }
+
+        List<Failure> failures = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            List<OutboxJob> productJobs = jobsByProduct.get(productId);
+            try {
+                embeddingCommandService.saveEmbedding(productId, vectors.get(i), fingerprints.get(i));
+                completed.addAll(productJobs);
+                doneCounter.increment(productJobs.size());
+            } catch (Exception e) {
+                log.warn("임베딩 저장 실패: productId={}", productId, e);
+                failures.add(new Failure(productJobs, e));
+            }
+        }
+        return failures;
+    }
+
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    public void refreshBacklogStats() {
+        try {
+            List<Object[]> rows = outboxService.backlogStats();
+            if (!rows.isEmpty()) {
+                Object[] row = rows.get(0);
+                backlog.set(extractLong(row[0], "backlog"));
+                oldestAgeSeconds.set(extractDouble(row[1], "oldestAge").longValue());
+                deadRows.set(extractLong(row[2], "dead"));
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 아웃박스 지표 갱신 실패: {}", e.toString());
+        }
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeDone() {
+        leaseLock.runExclusively("embedding-outbox-purge", PURGE_LOCK_TTL, () -> {
+            int deleted = outboxService.purgeDone();
+            if (deleted > 0) {
+                log.info("완료된 임베딩 아웃박스 정리: {}건", deleted);
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.crud.ai.embedding.application;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.embedding.domain.entity.EmbeddingOutbox;
+import com.example.crud.ai.embedding.domain.repository.EmbeddingOutboxRepository;
+import com.example.crud.enums.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
+
+/**
+ * 임베딩 아웃박스 상태 관리 (적재 / 수거 / 완료 / 재시도 / DEAD)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmbeddingOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmbeddingOutboxRepository outboxRepository;
+    private final EmbeddingProperties embeddingProperties;
+
+    /**
+     * 수거된 작업
+     *
+     * @param attempt 이번 시도 번호 (1부터)
+     */
+    public record OutboxJob(Long id, Long productId, int attempt, LocalDateTime createdAt) {}
+
+    /**
+     * 상품 저장 트랜잭션 안에서만 호출 (같이 커밋/롤백)
+     * 같은 상품의 대기 작업이 이미 있으면 추가하지 않음
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long productId) {
+        if (outboxRepository.existsByProductIdAndStatus(productId, OutboxStatus.PENDING)) {
+            return;
+        }
+        outboxRepository.save(EmbeddingOutbox.pending(productId));
+    }
+
+    /**
+     * 백필용 일괄 적재 (상품 저장과 무관하게 자체 트랜잭션)
+     *
+     * @return 새로 적재한 작업 수
+     */
+    @Transactional
+    public int enqueueAll(List<Long> productIds) {
+        int enqueued = 0;
+        for (Long productId : productIds) {
+            if (!outboxRepository.existsByProductIdAndStatus(productId, OutboxStatus.PENDING)) {
+                outboxRepository.save(EmbeddingOutbox.pending(productId));
+                enqueued++;
+            }
+        }
+        return enqueued;
+    }
+
+    /**
+     * 작업 수거 후 PROCESSING + 임대 시각 기록. 트랜잭션이 끝나면 행 잠금은 풀리고 임대 시각으로 소유를 표시
+     */
+    @Transactional
+    public List<OutboxJob> claim() {
+        EmbeddingProperties.Outbox outbox = embeddingProperties.outbox();
+        List<Object[]> rows = outboxRepository.lockNextBatch(outbox.batchSize());
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<OutboxJob> jobs = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            jobs.add(new OutboxJob(
+                    extractLong(row[0], "id"),
+                    extractLong(row[1], "productId"),
+                    extractInteger(row[2], "attempts") + 1,
+                    toLocalDateTime(row[3])
+            ));
+        }
+        outboxRepository.markProcessing(jobs.stream().map(OutboxJob::id).toList(), outbox.lease().toSeconds());
+        return jobs;
+    }
+
+    @Transactional
+    public void markDone(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxRepository.markDone(ids);
+        }
+    }
+
+    /**
+     * 실패 처리: 최대 시도 초과면 DEAD, 아니면 지수 백오프 후 재시도
+     *
+     * @return DEAD로 전환된 건수
+     */
+    @Transactional
+    public int markFailed(Collection<OutboxJob> jobs, Throwable cause) {
+        EmbeddingProperties.Outbox outbox = embeddingProperties.outbox();
+        String error = truncate(cause.toString());
+        int dead = 0;
+
+        for (OutboxJob job : jobs) {
+            if (job.attempt() >= outbox.maxAttempts()) {
+                outboxRepository.markDead(job.id(), error);
+                log.error("임베딩 아웃박스 DEAD: outboxId={}, productId={}, attempts={}, error={}",
+                        job.id(), job.productId(), job.attempt(), error);
+                dead++;
+            } else {
+                long delay = Math.min(outbox.maxBackoff().toSeconds(),
+                        outbox.backoff().toSeconds() << Math.min(job.attempt() - 1, 20));
+                outboxRepository.markRetry(job.id(), delay, error);
+            }
+        }
+        return dead;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Object[]> backlogStats() {
+        return outboxRepository.backlogStats();
+    }
+
+    @Transactional
+    public int purgeDone() {
+        return outboxRepository.deleteDoneOlderThan(embeddingProperties.outbox().retention().toSeconds());
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Instant instant) {
+            return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        }
+        return LocalDateTime.now();
+    }
+}
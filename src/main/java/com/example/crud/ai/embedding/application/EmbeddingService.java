@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 상품 임베딩 대량 생성 서비스 (테스트/관리자용)
@@ -23,6 +24,7 @@ public class EmbeddingService {
 
     private final ProductRepository productRepository;
     private final ProductEmbeddingCommandService productEmbeddingCommandService;
+    private final Executor embeddingBatchExecutor;
 
     // ==================== 동기 순차 처리 (비교 기준) ====================
 
@@ -89,7 +91,7 @@ public class EmbeddingService {
 
     /**
      * [비동기 병렬] 누락된 임베딩 생성
-     * - CompletableFuture로 병렬 처리
+     * - CompletableFuture로 병렬 처리 (embeddingBatchExecutor 크기만큼 동시 실행)
      * - 100개 상품 ÷ 20 스레드 = 5초
      *
      * @return 생성된 임베딩 개수를 포함한 CompletableFuture
@@ -121,7 +123,8 @@ public class EmbeddingService {
     public CompletableFuture<Integer> createBatchEmbeddingsAsync(List<Long> productIds) {
         log.info("[비동기 병렬] 임베딩 병렬 생성 시작: {} 개 상품", productIds.size());
 
-        // CompletableFuture.supplyAsync로 병렬 처리
+        // 전용 풀에서 병렬 처리 - 작업마다 join()으로 블로킹하므로 공용 ForkJoinPool 에 올리지 않음
+        // 풀이 가득 차면 호출 스레드에서 실행되어 제출 속도가 자연히 조절됨
         List<CompletableFuture<Boolean>> futures = productIds.stream()
                 .map(productId ->
                     CompletableFuture.supplyAsync(() -> {
@@ -132,7 +135,7 @@ public class EmbeddingService {
                             log.error("비동기 임베딩 생성 실패: productId={}", productId, e);
                             return false;
                         }
-                    })
+                    }, embeddingBatchExecutor)
                 )
                 .toList();
 
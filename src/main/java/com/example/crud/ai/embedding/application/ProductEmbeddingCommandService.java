@@ -3,12 +3,15 @@ package com.example.crud.ai.embedding.application;
 import com.example.crud.ai.common.VectorFormatter;
 import com.example.crud.ai.embedding.EmbeddingApiClient;
 import com.example.crud.ai.embedding.domain.ProductTextBuilder;
+import com.example.crud.ai.embedding.event.ProductEmbeddingUpdatedEvent;
+import com.example.crud.common.cache.L2CacheInvalidator;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
 import com.example.crud.entity.Product;
 import com.example.crud.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,14 +26,30 @@ public class ProductEmbeddingCommandService {
     private final ProductRepository productRepository;
     private final ProductTextBuilder productTextBuilder;
     private final EmbeddingApiClient embeddingApiClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final L2CacheInvalidator l2CacheInvalidator;
 
     @Transactional
     public void createAndSaveEmbedding(Long productId) {
+        createAndSaveEmbedding(productId, false);
+    }
+
+    /**
+     * @param force true면 텍스트 지문이 같아도 다시 임베딩 (모델 교체, 수동 재생성)
+     */
+    @Transactional
+    public void createAndSaveEmbedding(Long productId, boolean force) {
         try {
             Product product = productRepository.findById(productId)
                     .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
 
             String productText = productTextBuilder.buildProductText(product);
+            String fingerprint = productTextBuilder.fingerprint(productText);
+            if (!force && product.hasDescriptionVector()
+                    && fingerprint.equals(product.getEmbeddingFingerprint())) {
+                log.debug("임베딩 텍스트 변경 없음 - 재생성 생략: productId={}", productId);
+                return;
+            }
             log.info("상품 텍스트 준비 완료: productId={}, textLength={}", productId, productText.length());
 
             log.info("임베딩 API 호출 시작: productId={}", productId);
@@ -48,15 +67,7 @@ public class ProductEmbeddingCommandService {
 
             log.debug("임베딩 생성 완료: productId={}, dimension={}", productId, embedding.length);
 
-            String vectorString = VectorFormatter.formatForPostgreSQL(embedding);
-
-            int updateCount = productRepository.updateDescriptionVector(productId, vectorString);
-            if (updateCount == 0) {
-                log.error("벡터 업데이트 실패: productId={} - 0개 행 업데이트됨", productId);
-                throw new IllegalStateException("벡터 업데이트 실패 - 상품을 찾을 수 없습니다");
-            }
-
-            log.info("상품 임베딩 저장 완료: productId={}, vectorSize={}", productId, embedding.length);
+            saveEmbedding(productId, embedding, fingerprint);
         } catch (CompletionException completionException) {
             Throwable cause = completionException.getCause() != null ? completionException.getCause() : completionException;
             log.error("임베딩 생성 실패: productId={}", productId, cause);
@@ -72,4 +83,26 @@ public class ProductEmbeddingCommandService {
             throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, e.getMessage());
         }
     }
+
+    /**
+     * 생성된 벡터와 입력 텍스트 지문 저장 (단건 생성과 아웃박스 배치 처리에서 공용)
+     */
+    @Transactional
+    public void saveEmbedding(Long productId, float[] embedding, String fingerprint) {
+        String vectorString = VectorFormatter.formatForPostgreSQL(embedding);
+
+        int updateCount = productRepository.updateDescriptionVector(productId, vectorString, fingerprint);
+        if (updateCount == 0) {
+            log.error("벡터 업데이트 실패: productId={} - 0개 행 업데이트됨", productId);
+            throw new IllegalStateException("벡터 업데이트 실패 - 상품을 찾을 수 없습니다");
+        }
+
+        // 네이티브 UPDATE 는 엔티티 이벤트가 없으므로 이 상품의 2차 캐시만 직접 무효화 (다른 노드 포함)
+        l2CacheInvalidator.evictAfterCommit(Product.class, productId);
+
+        // 커밋 후 유사 상품 테이블 증분 갱신 대상으로 등록
+        eventPublisher.publishEvent(new ProductEmbeddingUpdatedEvent(productId));
+
+        log.info("상품 임베딩 저장 완료: productId={}, vectorSize={}", productId, embedding.length);
+    }
 }
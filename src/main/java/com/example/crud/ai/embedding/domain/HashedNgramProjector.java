@@ -0,0 +1,103 @@
+package com.example.crud.ai.embedding.domain;
+
+import java.util.Locale;
+
+/**
+ * 해시 n-gram 투영 기반 결정적(deterministic) 임베딩 생성기
+ *
+ * - 단어 토큰 + 문자 2-gram/3-gram을 해시해 고정 차원 벡터에 부호(+/-)와 함께 누적 (feature hashing)
+ * - L2 정규화하므로 코사인 유사도가 공유 n-gram 비율을 반영 → pgvector 검색 결과가 의미 있게 나옴
+ * - 한국어는 띄어쓰기 단위가 길어 문자 n-gram이 부분 일치(예: "러닝화" ↔ "러닝")를 잡아줌
+ * - 같은 입력은 항상 같은 벡터 → 네트워크/과금 없이 추천 파이프라인 부하 테스트 가능
+ */
+public class HashedNgramProjector {
+
+    private static final long WORD_SEED = 0x9E3779B97F4A7C15L;
+    private static final long BIGRAM_SEED = 0xC2B2AE3D27D4EB4FL;
+    private static final long TRIGRAM_SEED = 0x165667B19E3779F9L;
+
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float NGRAM_WEIGHT = 0.5f;
+
+    private final int dimension;
+
+    public HashedNgramProjector(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("임베딩 차원은 양수여야 합니다: " + dimension);
+        }
+        this.dimension = dimension;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public float[] project(String text) {
+        float[] vector = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+
+        String normalized = text.trim().toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int tokenStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean boundary = i == length || Character.isWhitespace(normalized.charAt(i));
+            if (!boundary && tokenStart < 0) {
+                tokenStart = i;
+            } else if (boundary && tokenStart >= 0) {
+                accumulateToken(vector, normalized, tokenStart, i);
+                tokenStart = -1;
+            }
+        }
+
+        normalize(vector);
+        return vector;
+    }
+
+    private void accumulateToken(float[] vector, String text, int from, int to) {
+        add(vector, hash(text, from, to, WORD_SEED), WORD_WEIGHT);
+        for (int i = from; i + 2 <= to; i++) {
+            add(vector, hash(text, i, i + 2, BIGRAM_SEED), NGRAM_WEIGHT);
+        }
+        for (int i = from; i + 3 <= to; i++) {
+            add(vector, hash(text, i, i + 3, TRIGRAM_SEED), NGRAM_WEIGHT);
+        }
+    }
+
+    private void add(float[] vector, long hash, float weight) {
+        int index = Math.floorMod(hash, dimension);
+        vector[index] += (hash >>> 63) == 0 ? weight : -weight;
+    }
+
+    /**
+     * FNV-1a 64bit + murmur3 finalizer (부분 문자열 할당 없이 구간 해시)
+     */
+    private static long hash(String text, int from, int to, long seed) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (int i = from; i < to; i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static void normalize(float[] vector) {
+        double sum = 0.0;
+        for (float v : vector) {
+            sum += (double) v * v;
+        }
+        if (sum == 0.0) {
+            return;
+        }
+        float inv = (float) (1.0 / Math.sqrt(sum));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inv;
+        }
+    }
+}
@@ -3,6 +3,11 @@ package com.example.crud.ai.embedding.domain;
 import com.example.crud.entity.Product;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 /**
  * Product Entity를 Embedding용 Text로 Extract하는 Builder
  */
@@ -53,10 +58,28 @@ public class ProductTextBuilder {
         return text.toString().trim();
     }
 
+    /**
+     * 임베딩 입력 텍스트의 지문 (SHA-256 hex)
+     * 재고/옵션/이미지만 바뀐 수정은 텍스트가 같으므로 지문도 같음 → 재임베딩 불필요
+     */
+    public String fingerprint(Product product) {
+        return fingerprint(buildProductText(product));
+    }
+
+    public String fingerprint(String productText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(productText.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
     /**
      * 카테고리별로 의미 있는 한국어/도메인 키워드를 추가해 임베딩 분리도를 높임
+     * (키워드 검색 색인에서도 같은 키워드를 사용)
      */
-    private String categoryKeywords(com.example.crud.enums.Category category) {
+    public String categoryKeywords(com.example.crud.enums.Category category) {
         return switch (category) {
             case OUTER -> "옷 의류 아우터 겨울용 코트 패딩 자켓 따뜻한 보온 보온성";
             case TOP -> "옷 의류 상의 티셔츠 니트 스웨터 후드 맨투맨 셔츠";
@@ -0,0 +1,67 @@
+package com.example.crud.ai.embedding.domain.entity;
+
+import com.example.crud.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임베딩 생성 작업 아웃박스
+ *
+ * - 상품 저장과 같은 트랜잭션에서 INSERT → 커밋되면 작업도 반드시 남음 (노드 종료/큐 포화로 유실 없음)
+ * - 폴러가 FOR UPDATE SKIP LOCKED로 수거하므로 여러 노드가 동시에 돌아도 같은 행을 중복 처리하지 않음
+ */
+@Entity
+@Table(name = "embedding_outbox",
+        indexes = {
+                @Index(name = "idx_embedding_outbox_poll", columnList = "status,next_attempt_at"),
+                @Index(name = "idx_embedding_outbox_product", columnList = "product_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EmbeddingOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /*──────── 정적 팩토리 ────────*/
+    public static EmbeddingOutbox pending(Long productId) {
+        return EmbeddingOutbox.builder()
+                .productId(productId)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
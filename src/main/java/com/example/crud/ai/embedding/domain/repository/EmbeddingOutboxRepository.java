@@ -0,0 +1,92 @@
+package com.example.crud.ai.embedding.domain.repository;
+
+import com.example.crud.ai.embedding.domain.entity.EmbeddingOutbox;
+import com.example.crud.enums.OutboxStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상태 전이/시각 계산은 모두 DB now() 기준 네이티브 쿼리 (노드 간 시계 차이 무관)
+ */
+public interface EmbeddingOutboxRepository extends JpaRepository<EmbeddingOutbox, Long> {
+
+    boolean existsByProductIdAndStatus(Long productId, OutboxStatus status);
+
+    /**
+     * 처리할 작업 수거: 대기 중이면서 재시도 시각이 지난 행 + 임대가 만료된 행(처리 중 노드 종료)
+     * SKIP LOCKED → 다른 노드가 잠근 행은 건너뛰므로 노드를 늘리면 처리량이 선형으로 늘어남
+     */
+    @Query(value = """
+        SELECT o.id, o.product_id, o.attempts, o.created_at
+        FROM embedding_outbox o
+        WHERE (o.status = 'PENDING' AND o.next_attempt_at <= now())
+           OR (o.status = 'PROCESSING' AND o.locked_until < now())
+        ORDER BY o.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Object[]> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "embedding_outbox"))
+    @Query(value = """
+        UPDATE embedding_outbox
+        SET status = 'PROCESSING', attempts = attempts + 1,
+            locked_until = now() + make_interval(secs => :leaseSeconds)
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "embedding_outbox"))
+    @Query(value = """
+        UPDATE embedding_outbox
+        SET status = 'DONE', processed_at = now(), locked_until = NULL, last_error = NULL
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int markDone(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "embedding_outbox"))
+    @Query(value = """
+        UPDATE embedding_outbox
+        SET status = 'PENDING', next_attempt_at = now() + make_interval(secs => :delaySeconds),
+            locked_until = NULL, last_error = :error
+        WHERE id = :id
+        """, nativeQuery = true)
+    int markRetry(@Param("id") Long id, @Param("delaySeconds") long delaySeconds, @Param("error") String error);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "embedding_outbox"))
+    @Query(value = """
+        UPDATE embedding_outbox
+        SET status = 'DEAD', processed_at = now(), locked_until = NULL, last_error = :error
+        WHERE id = :id
+        """, nativeQuery = true)
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    // [0]=미처리(PENDING+PROCESSING) 건수, [1]=가장 오래된 미처리 작업 경과 초, [2]=DEAD 건수
+    @Query(value = """
+        SELECT count(*) FILTER (WHERE o.status IN ('PENDING', 'PROCESSING')),
+               COALESCE(EXTRACT(EPOCH FROM (now() - min(o.created_at) FILTER (WHERE o.status IN ('PENDING', 'PROCESSING')))), 0),
+               count(*) FILTER (WHERE o.status = 'DEAD')
+        FROM embedding_outbox o
+        """, nativeQuery = true)
+    List<Object[]> backlogStats();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "embedding_outbox"))
+    @Query(value = """
+        DELETE FROM embedding_outbox
+        WHERE status = 'DONE' AND processed_at < now() - make_interval(secs => :retentionSeconds)
+        """, nativeQuery = true)
+    int deleteDoneOlderThan(@Param("retentionSeconds") long retentionSeconds);
+}
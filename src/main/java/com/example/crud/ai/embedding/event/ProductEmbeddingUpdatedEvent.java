@@ -0,0 +1,13 @@
+package com.example.crud.ai.embedding.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 임베딩 벡터 저장 완료 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ProductEmbeddingUpdatedEvent {
+    private final Long productId;
+}
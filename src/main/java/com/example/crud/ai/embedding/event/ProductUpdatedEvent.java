@@ -0,0 +1,13 @@
+package com.example.crud.ai.embedding.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 수정 이벤트 (임베딩 입력 텍스트가 바뀐 경우에만 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductUpdatedEvent {
+    private final Long productId;
+}
@@ -0,0 +1,87 @@
+package com.example.crud.ai.embedding.presentation;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.embedding.domain.HashedNgramProjector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI Embeddings API 호환 Mock 서버 (부하 테스트 전용)
+ *
+ * - embedding.mock-server.enabled=true 일 때만 등록
+ * - embedding.base-url=http://localhost:8080/mock/openai 로 지정하면
+ *   OpenAiEmbeddingProvider → WebClient → 커넥션 풀 경로를 그대로 타면서 과금 없이 측정 가능
+ * - 지연(latency + jitter)은 Mono.delay로 구현해 서블릿 스레드를 점유하지 않음
+ */
+@RestController
+@RequestMapping("/mock/openai")
+@ConditionalOnProperty(prefix = "embedding.mock-server", name = "enabled", havingValue = "true")
+@Slf4j
+public class MockEmbeddingServerController {
+
+    private final EmbeddingProperties.MockServer mockServer;
+    private final String model;
+    private final HashedNgramProjector projector;
+
+    public MockEmbeddingServerController(EmbeddingProperties properties) {
+        this.mockServer = properties.mockServer();
+        this.model = properties.model();
+        this.projector = new HashedNgramProjector(properties.dimension());
+        log.warn("임베딩 Mock 서버 활성화: latency={}ms, jitter={}ms, errorRate={}",
+                mockServer.latencyMs(), mockServer.jitterMs(), mockServer.errorRate());
+    }
+
+    @PostMapping("/v1/embeddings")
+    public Mono<ResponseEntity<Map<String, Object>>> embeddings(@RequestBody Map<String, Object> request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = mockServer.latencyMs() + (mockServer.jitterMs() > 0 ? random.nextLong(mockServer.jitterMs() + 1) : 0);
+        boolean fail = mockServer.errorRate() > 0 && random.nextDouble() < mockServer.errorRate();
+
+        return Mono.delay(Duration.ofMillis(delay))
+                .map(tick -> fail
+                        ? ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(Map.<String, Object>of("error", Map.of("message", "mock upstream unavailable")))
+                        : ResponseEntity.ok(buildResponse(request.get("input"))));
+    }
+
+    private Map<String, Object> buildResponse(Object input) {
+        List<String> inputs = new ArrayList<>();
+        if (input instanceof List<?> list) {
+            list.forEach(item -> inputs.add(String.valueOf(item)));
+        } else if (input != null) {
+            inputs.add(String.valueOf(input));
+        }
+
+        List<Map<String, Object>> data = new ArrayList<>(inputs.size());
+        int tokens = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            String text = inputs.get(i);
+            tokens += text.length();
+            data.add(Map.of(
+                    "object", "embedding",
+                    "index", i,
+                    "embedding", projector.project(text)
+            ));
+        }
+
+        return Map.of(
+                "object", "list",
+                "data", data,
+                "model", model,
+                "usage", Map.of("prompt_tokens", tokens, "total_tokens", tokens)
+        );
+    }
+}
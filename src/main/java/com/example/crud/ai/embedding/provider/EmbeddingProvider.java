@@ -0,0 +1,35 @@
+package com.example.crud.ai.embedding.provider;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 텍스트 → 임베딩 벡터 변환 제공자
+ *
+ * - openai : OpenAI Embeddings API (운영, Mock 서버로 base-url 교체 가능)
+ * - local  : 네트워크 없이 동작하는 해시 n-gram 투영 (부하 테스트/벤치마크)
+ *
+ * embedding.provider 프로퍼티로 하나만 활성화된다.
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * 캐시 키 구분용 이름 (제공자가 다르면 벡터 공간도 다르므로 캐시를 공유하면 안 됨)
+     */
+    String name();
+
+    /**
+     * @param text 정규화(trim, lowercase)가 끝난 텍스트
+     */
+    CompletableFuture<float[]> embed(String text);
+
+    /**
+     * 여러 텍스트를 한 번에 임베딩 (입력 순서대로 반환)
+     * 기본 구현은 embed를 동시에 호출, 배치 API가 있는 제공자는 요청 1회로 처리하도록 재정의
+     */
+    default CompletableFuture<List<float[]>> embedBatch(List<String> texts) {
+        List<CompletableFuture<float[]>> futures = texts.stream().map(this::embed).toList();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.crud.ai.embedding.provider;
+
+import lombok.Getter;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 임베딩 API가 4xx/5xx 를 돌려준 경우 (재시도 판단을 위해 상태 코드 보존)
+ */
+@Getter
+public class EmbeddingUpstreamException extends RuntimeException {
+
+    private final int statusCode;
+
+    public EmbeddingUpstreamException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * 429(요청 한도), 5xx 는 일시적 장애로 보고 재시도 대상
+     */
+    public boolean isTransient() {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * 일시적 장애 여부 (재시도 / 서킷 실패 집계 기준)
+     * 429·5xx, 타임아웃, 연결 오류만 true - 400/401 같은 영구 오류나 응답 형식 오류는 false
+     * CompletionException 등으로 감싼 원인과 헤징(firstWithValue) 실패 시 suppressed 로 붙은 원인까지 확인
+     */
+    public static boolean isTransient(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof EmbeddingUpstreamException upstream) {
+                return upstream.isTransient();
+            }
+            if (t instanceof TimeoutException || t instanceof WebClientRequestException) {
+                return true;
+            }
+            for (Throwable suppressed : t.getSuppressed()) {
+                if (isTransient(suppressed)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.crud.ai.embedding.provider;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.embedding.domain.HashedNgramProjector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 네트워크 없이 동작하는 로컬 임베딩 제공자 (embedding.provider=local)
+ *
+ * - ONNX/모델 파일 없이 해시 n-gram 투영으로 1536차원 벡터 생성
+ * - OpenAI 과금 없이 추천 파이프라인 전체(Redis 캐시 → pgvector → 변환)를 부하 테스트할 때 사용
+ * - 벡터 공간이 OpenAI와 다르므로 상품 임베딩도 같은 제공자로 다시 생성해야 함
+ */
+@Component
+@ConditionalOnProperty(prefix = "embedding", name = "provider", havingValue = "local")
+@Slf4j
+public class LocalHashEmbeddingProvider implements EmbeddingProvider {
+
+    private final HashedNgramProjector projector;
+
+    public LocalHashEmbeddingProvider(EmbeddingProperties properties) {
+        this.projector = new HashedNgramProjector(properties.dimension());
+        log.info("로컬 해시 임베딩 제공자 활성화: dimension={}", properties.dimension());
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public CompletableFuture<float[]> embed(String text) {
+        return CompletableFuture.completedFuture(projector.project(text));
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.crud.ai.embedding.provider;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.config.EmbeddingResilienceProperties;
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.common.metrics.RollingLatencyWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * OpenAI Embeddings API 제공자 (embedding.provider=openai, 기본값)
+ *
+ * embedding.base-url을 Mock 서버로 바꾸면 WebClient/커넥션 풀 경로까지 포함해 오프라인 부하 테스트 가능
+ *
+ * 복원력 (embedding.resilience.*)
+ * - 적응형 타임아웃: 시도별 타임아웃 = clamp(최근 p99 × 배수), 전체 deadline으로 재시도 포함 상한
+ * - 재시도: 지수 백오프 + 지터. 임베딩은 같은 입력 → 같은 결과인 멱등 호출이라 재전송이 안전하며,
+ *   429/5xx/연결 오류/타임아웃만 재시도하고 400/401 같은 영구 오류는 즉시 실패
+ * - 헤징(선택): p95 이후에도 응답이 없으면 동일 요청을 한 번 더 보내 먼저 온 응답 사용, 느린 쪽은 취소
+ *
+ * 배치(embedBatch)는 input 배열로 요청 1회. 백그라운드 작업이므로 헤징 없이 max-attempt 타임아웃을 쓰고,
+ * 지연 통계(p95/p99)에도 넣지 않아 단건 요청의 적응형 타임아웃을 흐리지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "embedding", name = "provider", havingValue = "openai", matchIfMissing = true)
+@Slf4j
+public class OpenAiEmbeddingProvider implements EmbeddingProvider {
+
+    private static final String OPENAI_HOST = "api.openai.com";
+
+    private final WebClient webClient;
+    private final EmbeddingProperties properties;
+    private final EmbeddingResilienceProperties resilience;
+    private final RollingLatencyWindow latencyWindow = new RollingLatencyWindow(512);
+
+    private final Timer attemptTimer;
+    private final Counter retryCounter;
+    private final Counter timeoutCounter;
+    private final Counter hedgeIssuedCounter;
+    private final Counter hedgeWonCounter;
+
+    @Value("${openai.api.key:}")
+    private String openaiApiKey;
+
+    public OpenAiEmbeddingProvider(@Qualifier("embeddingWebClient") WebClient webClient,
+                                   EmbeddingProperties properties,
+                                   EmbeddingResilienceProperties resilience,
+                                   MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.resilience = resilience;
+
+        this.attemptTimer = Timer.builder("embedding.client.attempt")
+                .description("임베딩 API 단일 시도 지연 (성공 기준)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.retryCounter = meterRegistry.counter("embedding.client.retries");
+        this.timeoutCounter = meterRegistry.counter("embedding.client.timeouts");
+        this.hedgeIssuedCounter = meterRegistry.counter("embedding.client.hedges", "result", "issued");
+        this.hedgeWonCounter = meterRegistry.counter("embedding.client.hedges", "result", "won");
+        Gauge.builder("embedding.client.latency.p95", latencyWindow, w -> w.percentile(0.95))
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "openai";
+    }
+
+    @Override
+    public CompletableFuture<float[]> embed(String text) {
+        if (isApiKeyMissing()) {
+            log.error("OpenAI API 키가 설정되지 않았습니다");
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, "OpenAI API 키가 설정되지 않았습니다"));
+        }
+
+        Map<String, Object> request = Map.of(
+                "input", text,
+                "model", properties.model()
+        );
+
+        long[] recent = latencyWindow.percentiles(0.95, 0.99);
+        Duration attemptTimeout = adaptiveTimeout(recent[1]);
+
+        Mono<float[]> attempt = Mono.defer(() -> callOnce(request, response -> parseEmbeddingResponse(response, 1).get(0), true))
+                .timeout(attemptTimeout)
+                .doOnError(TimeoutException.class, e -> timeoutCounter.increment());
+
+        log.debug("WebClient로 API 호출 시작: attemptTimeout={}ms", attemptTimeout.toMillis());
+        return withRetry(withHedge(attempt, recent[0]));
+    }
+
+    @Override
+    public CompletableFuture<List<float[]>> embedBatch(List<String> texts) {
+        if (texts.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        if (isApiKeyMissing()) {
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, "OpenAI API 키가 설정되지 않았습니다"));
+        }
+
+        Map<String, Object> request = Map.of(
+                "input", texts,
+                "model", properties.model()
+        );
+
+        Mono<List<float[]>> attempt = Mono.defer(() -> callOnce(request,
+                        response -> parseEmbeddingResponse(response, texts.size()), false))
+                .timeout(resilience.timeout().maxAttempt())
+                .doOnError(TimeoutException.class, e -> timeoutCounter.increment());
+
+        return withRetry(attempt);
+    }
+
+    // Mock 서버 대상일 때는 API 키 불필요
+    private boolean isApiKeyMissing() {
+        return properties.baseUrl().contains(OPENAI_HOST) && (openaiApiKey == null || openaiApiKey.trim().isEmpty());
+    }
+
+    private <T> CompletableFuture<T> withRetry(Mono<T> attempt) {
+        EmbeddingResilienceProperties.Retry retry = resilience.retry();
+        return attempt
+                .retryWhen(Retry.backoff(retry.maxRetries(), retry.backoff())
+                        .maxBackoff(retry.maxBackoff())
+                        .jitter(retry.jitter())
+                        .filter(EmbeddingUpstreamException::isTransient)
+                        .doBeforeRetry(signal -> {
+                            retryCounter.increment();
+                            log.warn("임베딩 API 재시도: attempt={}, cause={}",
+                                    signal.totalRetries() + 1, signal.failure().toString());
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(resilience.timeout().deadline())
+                .toFuture();
+    }
+
+    private <T> Mono<T> callOnce(Map<String, Object> request, Function<Map<String, Object>, T> parser,
+                                 boolean recordLatency) {
+        long started = System.nanoTime();
+        return webClient.post()
+                .uri("/v1/embeddings")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .map(parser)
+                .doOnNext(result -> {
+                    if (recordLatency) {
+                        long elapsed = System.nanoTime() - started;
+                        attemptTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        latencyWindow.record(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                    }
+                });
+    }
+
+    /**
+     * 최근 p95가 지나도 응답이 없으면 헤지 요청 발행. 먼저 값을 낸 쪽을 쓰고 나머지는 취소된다.
+     */
+    private Mono<float[]> withHedge(Mono<float[]> attempt, long p95Millis) {
+        EmbeddingResilienceProperties.Hedging hedging = resilience.hedging();
+        if (!hedging.enabled() || latencyWindow.size() < hedging.minSamples() || p95Millis <= 0) {
+            return attempt;
+        }
+
+        Duration delay = Duration.ofMillis(Math.max(p95Millis, hedging.minDelay().toMillis()));
+        Mono<float[]> hedge = Mono.delay(delay)
+                .doOnNext(tick -> hedgeIssuedCounter.increment())
+                .then(attempt)
+                .doOnNext(vector -> hedgeWonCounter.increment());
+        return Mono.firstWithValue(attempt, hedge);
+    }
+
+    private Duration adaptiveTimeout(long p99Millis) {
+        EmbeddingResilienceProperties.Timeout timeout = resilience.timeout();
+        if (p99Millis <= 0) {
+            return timeout.maxAttempt();
+        }
+        long candidate = (long) (p99Millis * timeout.p99Multiplier());
+        long clamped = Math.max(timeout.minAttempt().toMillis(), Math.min(timeout.maxAttempt().toMillis(), candidate));
+        return Duration.ofMillis(clamped);
+    }
+
+    /**
+     * data[].embedding 을 data[].index 순서(=요청 input 순서)로 반환
+     * 개수가 입력 수와 다르거나 index 가 중복/누락돼 빈 자리가 있으면 응답 전체를 거부
+     */
+    static List<float[]> parseEmbeddingResponse(Map<String, Object> response, int expected) {
+        Object dataObj = response.get("data");
+        if (!(dataObj instanceof List<?> dataList) || dataList.isEmpty()) {
+            throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답에서 데이터를 찾을 수 없습니다");
+        }
+        if (dataList.size() != expected) {
+            throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED,
+                    "임베딩 개수 불일치: 요청 " + expected + ", 응답 " + dataList.size());
+        }
+
+        float[][] ordered = new float[expected][];
+        for (int i = 0; i < dataList.size(); i++) {
+            if (!(dataList.get(i) instanceof Map<?, ?> item)) {
+                throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답의 데이터 형식이 올바르지 않습니다");
+            }
+            int index = item.get("index") instanceof Number number ? number.intValue() : i;
+            if (index < 0 || index >= ordered.length || ordered[index] != null) {
+                throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답 index 범위/중복 오류: " + index);
+            }
+            ordered[index] = toVector(item.get("embedding"));
+        }
+        // 개수가 같고 중복이 없으면 모든 자리가 채워짐
+        return List.of(ordered);
+    }
+
+    private static float[] toVector(Object embeddingObj) {
+        if (!(embeddingObj instanceof List<?> rawList)) {
+            throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "OpenAI API 응답에 임베딩이 없습니다");
+        }
+
+        float[] result = new float[rawList.size()];
+        for (int i = 0; i < rawList.size(); i++) {
+            Object value = rawList.get(i);
+            if (value instanceof Number number) {
+                result[i] = number.floatValue();
+            } else {
+                throw new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED, "임베딩 벡터 요소가 숫자가 아닙니다: " + value);
+            }
+        }
+
+        log.debug("임베딩 차원: {}", result.length);
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.crud.ai.embedding.resilience;
+
+import com.example.crud.ai.config.EmbeddingResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 임베딩 API 서킷 브레이커 (지연 인지형)
+ *
+ * - CLOSED    : 최근 windowSize 개 호출 중 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN      : openDuration 동안 즉시 거절 → 요청이 10초씩 매달리지 않음
+ * - HALF_OPEN : halfOpenCalls 개만 통과시켜 모두 빠르게 성공하면 CLOSED, 하나라도 실패/지연이면 다시 OPEN
+ *
+ * 느린 성공도 장애 신호로 취급하는 이유: OpenAI 장애는 에러보다 지연 증가로 먼저 나타남
+ */
+@Component
+@Slf4j
+public class EmbeddingCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final EmbeddingResilienceProperties.CircuitBreaker config;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    // CLOSED 상태 슬라이딩 윈도우 (record()에서만 접근, synchronized)
+    private final byte[] outcomes;
+    private int cursor;
+    private int count;
+    private int failures;
+    private int slowCalls;
+    private int halfOpenSuccesses;
+
+    private final Counter rejectedCounter;
+    private final MeterRegistry meterRegistry;
+
+    public EmbeddingCircuitBreaker(EmbeddingResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.circuitBreaker();
+        this.outcomes = new byte[config.windowSize()];
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("embedding.circuit.rejected")
+                .description("서킷 OPEN으로 거절된 임베딩 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("embedding.circuit.state", state, s -> s.get().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허용 여부. false면 호출하지 말고 즉시 실패 처리
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        if (current == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < config.openDuration().toMillis()) {
+                rejectedCounter.increment();
+                return false;
+            }
+            synchronized (this) {
+                if (state.get() == State.OPEN) {
+                    halfOpenPermits.set(config.halfOpenCalls());
+                    halfOpenSuccesses = 0;
+                    transitionTo(State.HALF_OPEN);
+                }
+            }
+        }
+
+        if (halfOpenPermits.getAndDecrement() > 0) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public boolean isOpen() {
+        return state.get() == State.OPEN
+                && System.currentTimeMillis() - openedAtMillis < config.openDuration().toMillis();
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public void onSuccess(long latencyMillis) {
+        record(latencyMillis >= config.slowCallThreshold().toMillis() ? SLOW : SUCCESS);
+    }
+
+    public void onFailure(long latencyMillis) {
+        record(FAILURE);
+    }
+
+    private synchronized void record(byte outcome) {
+        State current = state.get();
+
+        if (current == State.HALF_OPEN) {
+            if (outcome != SUCCESS) {
+                open();
+            } else if (++halfOpenSuccesses >= config.halfOpenCalls()) {
+                resetWindow();
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        if (current == State.OPEN) {
+            return; // OPEN 이전에 출발한 호출 결과는 무시
+        }
+
+        if (count == outcomes.length) {
+            byte evicted = outcomes[cursor];
+            if (evicted == FAILURE) failures--;
+            if (evicted == SLOW) slowCalls--;
+        } else {
+            count++;
+        }
+        outcomes[cursor] = outcome;
+        cursor = (cursor + 1) % outcomes.length;
+        if (outcome == FAILURE) failures++;
+        if (outcome == SLOW) slowCalls++;
+
+        if (count >= config.minCalls()) {
+            double failureRate = (double) failures / count;
+            double slowRate = (double) slowCalls / count;
+            if (failureRate >= config.failureRateThreshold() || slowRate >= config.slowCallRateThreshold()) {
+                log.warn("임베딩 서킷 OPEN: failureRate={}, slowRate={}, window={}",
+                        String.format("%.2f", failureRate), String.format("%.2f", slowRate), count);
+                open();
+            }
+        }
+    }
+
+    private void open() {
+        openedAtMillis = System.currentTimeMillis();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void resetWindow() {
+        cursor = 0;
+        count = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state.getAndSet(next);
+        if (previous != next) {
+            log.info("임베딩 서킷 상태 전이: {} → {}", previous, next);
+            meterRegistry.counter("embedding.circuit.transitions", "to", next.name()).increment();
+        }
+    }
+}
@@ -1,16 +1,32 @@
 package com.example.crud.ai.recommendation.application;
 
+import com.example.crud.ai.analytics.application.InteractionRecorder;
+import com.example.crud.ai.analytics.domain.Audience;
+import com.example.crud.ai.config.ChatGptProperties;
 import com.example.crud.ai.conversation.application.command.ConversationCommandService;
+import com.example.crud.ai.conversation.domain.dto.RecommendationPayload;
+import com.example.crud.ai.recommendation.domain.ExperimentVariant;
+import com.example.crud.ai.recommendation.domain.RecommendationMessageRenderer;
+import com.example.crud.ai.recommendation.domain.ResponseTemplate;
 import com.example.crud.ai.recommendation.domain.converter.ProductResponseDtoConverter;
 import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
 import com.example.crud.ai.recommendation.domain.dto.RecommendationResponseDto;
+import com.example.crud.ai.recommendation.domain.dto.Recommendations;
+import com.example.crud.common.tracing.StageTracer;
 import com.example.crud.data.product.dto.ProductResponseDto;
 import com.example.crud.enums.MessageType;
+import io.micrometer.observation.Observation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 /*
  응답 메시지도 저장하는 이유.
@@ -53,24 +69,43 @@ public class ConversationalRecommendationService {
     private final RecommendationEngine recommendationEngine;
     private final ConversationCommandService commandService;
     private final ProductResponseDtoConverter productResponseDtoConverter;
+    private final ChatGptProperties chatGptProperties;
+    private final TaskExecutor dbTaskExecutor;
+    private final TaskExecutor persistenceTaskExecutor;
+    private final InteractionRecorder interactionRecorder;
+    private final ExperimentAssigner experimentAssigner;
+    private final StageTracer stageTracer;
+
+    private static final int RECOMMENDATION_LIMIT = 5;
+    public static final String PIPELINE = "conversation";
+
+    /**
+     * 턴 1건 = pipeline.turn, 임베딩/벡터 검색/키워드 검색/개인화/상품 변환/저장은 그 하위 단계로 기록
+     */
+    public CompletableFuture<RecommendationResponseDto> processUserMessage(Long id, Audience audience, String message) {
+        Observation turn = stageTracer.startTurn(PIPELINE);
+        CompletableFuture<RecommendationResponseDto> future;
+        try {
+            future = stageTracer.inScope(turn, () -> recommend(turn, id, audience, message));
+        } catch (RuntimeException e) {
+            stageTracer.endTurn(turn, e);
+            throw e;
+        }
+        return future.whenComplete((response, ex) -> stageTracer.endTurn(turn, ex));
+    }
 
-    public CompletableFuture<RecommendationResponseDto> processUserMessage(Long id, String message) {
-        CompletableFuture.runAsync(() -> commandService.addMessage(id, MessageType.USER, message))
-                .exceptionally(ex -> {
-                    log.error("사용자 메시지 저장 실패: conversationId={}", id, ex);
-                    return null;
-                });
+    private CompletableFuture<RecommendationResponseDto> recommend(Observation turn, Long id, Audience audience, String message) {
+        saveMessageAsync(turn, id, MessageType.USER, message);
+        ExperimentVariant variant = experimentAssigner.assign(audience.memberId(), id);
 
-        return recommendationEngine.getRecommendations(message, 5)
-                .thenApply(recommendations -> {
-                    List<ProductResponseDto> productResponseDtos = productResponseDtoConverter.convertToProductResponseDtos(recommendations);
+        return recommendationEngine.recommend(message, RECOMMENDATION_LIMIT, variant, audience.memberId())
+                .thenApply(result -> {
+                    List<ProductMatch> recommendations = result.matches();
+                    interactionRecorder.recordImpressions(id, audience, recommendations, result.attributionKey());
+                    List<ProductResponseDto> productResponseDtos = stageTracer.stage(turn, "hydration",
+                            () -> productResponseDtoConverter.convertToProductResponseDtos(result));
                     String aiResponse = generateAIResponse(recommendations);
-
-                    CompletableFuture.runAsync(() -> commandService.addMessage(id, MessageType.ASSISTANT, aiResponse))
-                            .exceptionally(ex -> {
-                                log.error("AI 응답 메시지 저장 실패: conversationId={}", id, ex);
-                                return null;
-                            });
+                    saveRecommendationAsync(turn, id, recommendations);
 
                     return RecommendationResponseDto.builder()
                             .conversationId(id)
@@ -78,59 +113,130 @@ public class ConversationalRecommendationService {
                             .recommendations(recommendations)
                             .recommendedProducts(productResponseDtos)
                             .totalRecommendations(recommendations.size())
+                            .variant(result.variant())
                             .build();
                 });
     }
 
-    public String generateAIResponse(List<ProductMatch> recommendations) {
-        if (recommendations.isEmpty()) {
-            return "죄송합니다. 현재 조건에 맞는 상품을 찾을 수 없습니다. 다른 검색어를 시도해 주세요.";
-        }
+    /**
+     * 단계별 스트리밍 추천 (SSE)
+     *
+     * 1. ack      : 요청 수신 즉시 (배정된 실험 변형 포함)
+     * 2. matches  : 상품 ID/점수 (검색 완료 시점)
+     * 3. products : 상품 카드 (DB 조회 완료 시점)
+     * 4. text     : AI 응답 문구, chatgpt.stream-chunk-limit 글자 단위로 분할
+     * 5. done     : 종료 표시 / 실패 시 error
+     *
+     * 응답은 processUserMessage와 동일하게 구조화 메시지로 저장, turn 은 스트림 종료(완료/오류/취소) 시 종료
+     */
+    public Flux<ServerSentEvent<Object>> streamUserMessage(Long id, Audience audience, String message) {
+        Observation turn = stageTracer.startTurn(PIPELINE);
+        saveMessageAsync(turn, id, MessageType.USER, message);
+        ExperimentVariant variant = experimentAssigner.assign(audience.memberId(), id);
+
+        Mono<ServerSentEvent<Object>> ack = Mono.fromSupplier(() ->
+                event("ack", Map.of("conversationId", id, "variant", variant.name())));
+
+        Flux<ServerSentEvent<Object>> stages = Mono.fromFuture(() -> stageTracer.inScope(turn,
+                        () -> recommendationEngine.recommend(message, RECOMMENDATION_LIMIT, variant, audience.memberId())))
+                .flatMapMany(result -> {
+                    List<ProductMatch> recommendations = result.matches();
+                    interactionRecorder.recordImpressions(id, audience, recommendations, result.attributionKey());
+                    // 벡터 검색이 카드까지 반환했으면 바로 변환, 키워드 검색 상품이 섞였으면 DB 스레드 풀에서 추가 조회
+                    Mono<ServerSentEvent<Object>> products = (productResponseDtoConverter.isFullyHydrated(result)
+                            ? Mono.fromSupplier(() -> hydrate(turn, result))
+                            : Mono.fromFuture(() -> CompletableFuture.supplyAsync(() -> hydrate(turn, result), dbTaskExecutor)))
+                            .map(dtos -> event("products", dtos));
+
+                    Flux<ServerSentEvent<Object>> text = Flux.defer(() -> {
+                        String aiResponse = generateAIResponse(recommendations);
+                        saveRecommendationAsync(turn, id, recommendations);
+                        return Flux.fromIterable(splitChunks(aiResponse, chatGptProperties.streamChunkLimit()))
+                                .map(chunk -> event("text", Map.of("delta", chunk)));
+                    });
+
+                    return Flux.concat(
+                            Mono.just(event("matches", recommendations)),
+                            products,
+                            text,
+                            Mono.just(event("done", Map.of("totalRecommendations", recommendations.size()))));
+                });
 
-        StringBuilder sb = new StringBuilder();
-        int productCount = recommendations.size();
+        return Flux.concat(ack, stages)
+                .doOnError(turn::error)
+                .onErrorResume(ex -> {
+                    log.error("스트리밍 추천 실패: conversationId={}", id, ex);
+                    return Mono.just(event("error", Map.of("message", "추천 처리 중 오류가 발생했습니다.")));
+                })
+                .doFinally(signal -> stageTracer.endTurn(turn, null));
+    }
 
-        // 상품 개수에 따른 맞춤형 메시지
-        if (productCount == 1) {
-            sb.append("검색 조건에 맞는 상품을 찾았습니다! ");
-        } else {
-            sb.append(String.format("총 %d개의 상품을 찾았습니다. ", productCount));
-        }
+    private List<ProductResponseDto> hydrate(Observation turn, Recommendations result) {
+        return stageTracer.stage(turn, "hydration", () -> productResponseDtoConverter.convertToProductResponseDtos(result));
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
 
-        // 상품 소개 문구 개선
-        if (productCount == 1) {
-            sb.append(" 추천 상품을 소개해드릴게요:\n");
-        } else if (productCount <= 3) {
-            sb.append(" 모든 상품을 소개해드릴게요:\n");
-        } else {
-            sb.append(" 상위 3개 상품을 소개해드릴게요:\n");
+    /**
+     * limit 글자 이하로 분할, 가능하면 줄바꿈 직후에서 끊음 (0 이하면 분할하지 않음)
+     */
+    static List<String> splitChunks(String text, int limit) {
+        if (limit <= 0 || text.length() <= limit) {
+            return List.of(text);
         }
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(start + limit, text.length());
+            if (end < text.length()) {
+                int newline = text.lastIndexOf('\n', end - 1);
+                if (newline >= start) {
+                    end = newline + 1;
+                }
+            }
+            chunks.add(text.substring(start, end));
+            start = end;
+        }
+        return chunks;
+    }
 
-        // 상품 목록 표시 (최대 3개)
-        recommendations.stream()
-                .limit(3)
-                .forEach(product -> {
-                    double percentage = product.score() * 100;
-                    if (percentage >= 50.0) {
-                        sb.append(String.format("\n• %s (%.1f%% 일치 - 높은 관련성)",
-                                product.name(), percentage));
-                    } else if (percentage >= 20.0) {
-                        sb.append(String.format("\n• %s (%.1f%% 일치)",
-                                product.name(), percentage));
-                    } else {
-                        sb.append(String.format("\n• %s (%.1f%% 일치 - 참고용)",
-                                product.name(), percentage));
-                    }
+    /**
+     * 메시지 저장은 전용 풀에서 (포화 시 호출 스레드에서 실행 - 유실 없이 제출 속도 조절)
+     */
+    private void saveMessageAsync(Observation turn, Long id, MessageType type, String content) {
+        CompletableFuture.runAsync(() -> stageTracer.stage(turn, "persist", () -> {
+                    commandService.addMessage(id, type, content);
+                    return null;
+                }), persistenceTaskExecutor)
+                .exceptionally(ex -> {
+                    log.error("{} 메시지 저장 실패: conversationId={}", type, id, ex);
+                    return null;
                 });
+    }
 
-        // 맞춤형 마무리 메시지
-        if (productCount == 1) {
-            sb.append("\n\n이 상품에 대해 더 자세히 알고 싶으시거나 다른 검색어로 찾아보고 싶으시면 언제든 말씀해 주세요!");
-        } else {
-            sb.append(String.format("\n\n%s더 자세한 정보나 다른 상품을 원하시면 언제든 말씀해 주세요!",
-                    productCount > 3 ? "다른 상품들도 있습니다. " : ""));
+    public String generateAIResponse(List<ProductMatch> recommendations) {
+        return RecommendationMessageRenderer.render(recommendations);
+    }
+
+    /**
+     * 추천 응답 저장 - 문장 대신 템플릿 ID + 노출 상품 ID/점수
+     */
+    private void saveRecommendationAsync(Observation turn, Long id, List<ProductMatch> recommendations) {
+        List<RecommendationPayload.Item> items = new ArrayList<>(recommendations.size());
+        for (ProductMatch match : recommendations) {
+            items.add(new RecommendationPayload.Item(match.id(), match.score()));
         }
+        String templateId = ResponseTemplate.select(recommendations.size()).name();
 
-        return sb.toString();
+        CompletableFuture.runAsync(() -> stageTracer.stage(turn, "persist", () -> {
+                    commandService.addRecommendationMessage(id, templateId, new RecommendationPayload(items));
+                    return null;
+                }), persistenceTaskExecutor)
+                .exceptionally(ex -> {
+                    log.error("AI 응답 메시지 저장 실패: conversationId={}", id, ex);
+                    return null;
+                });
     }
 }
@@ -0,0 +1,103 @@
+package com.example.crud.ai.recommendation.application;
+
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.recommendation.domain.ExperimentVariant;
+import com.example.crud.ai.recommendation.domain.RankingParams;
+import com.example.crud.ai.recommendation.domain.RecommendationStrategy;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 실험 변형 배정
+ *
+ * - 버킷 = FNV-1a(실험 이름 + ":" + 회원/대화 ID) mod 10000 → 변형 weight 누적 구간으로 매핑
+ * - 같은 회원(또는 대화)은 노드/재시작과 무관하게 항상 같은 변형, 저장소 조회 없음
+ * - 실험 이름을 바꾸면 전체가 새로 섞임
+ */
+@Component
+public class ExperimentAssigner {
+
+    public static final String CONTROL = "control";
+    public static final int BUCKETS = 10_000;
+
+    private final RecommendationProperties.Experiment experiment;
+    private final ExperimentVariant control;
+    private final List<ExperimentVariant> variants = new ArrayList<>();
+    private final int[] upperBounds; // 변형별 버킷 상한 (배타)
+
+    public ExperimentAssigner(RecommendationProperties properties, List<RecommendationStrategy> strategies) {
+        this.experiment = properties.experiment();
+        RecommendationProperties.Hybrid hybrid = properties.hybrid();
+        RankingParams defaults = RankingParams.from(hybrid);
+        this.control = new ExperimentVariant(CONTROL,
+                hybrid.enabled() ? HybridRecommendationStrategy.NAME : VectorOnlyRecommendationStrategy.NAME,
+                defaults);
+
+        Set<String> strategyNames = strategies.stream().map(RecommendationStrategy::name).collect(Collectors.toSet());
+        int totalWeight = 0;
+        for (RecommendationProperties.Variant v : experiment.variants()) {
+            if (v.name() == null || v.name().isBlank()) {
+                throw new IllegalStateException("실험 변형 이름이 비어 있습니다.");
+            }
+            if (!strategyNames.contains(v.strategy())) {
+                throw new IllegalStateException("알 수 없는 추천 전략: " + v.strategy() + " (사용 가능: " + strategyNames + ")");
+            }
+            variants.add(new ExperimentVariant(v.name(), v.strategy(), new RankingParams(
+                    v.vectorThreshold() != null ? v.vectorThreshold() : defaults.vectorThreshold(),
+                    v.vectorWeight() != null ? v.vectorWeight() : defaults.vectorWeight(),
+                    v.lexicalWeight() != null ? v.lexicalWeight() : defaults.lexicalWeight(),
+                    defaults.candidateMultiplier(),
+                    defaults.rrfK())));
+            totalWeight += Math.max(0, v.weight());
+        }
+
+        this.upperBounds = new int[variants.size()];
+        int cumulative = 0;
+        for (int i = 0; i < variants.size(); i++) {
+            cumulative += Math.max(0, experiment.variants().get(i).weight());
+            upperBounds[i] = totalWeight == 0 ? 0 : (int) ((long) cumulative * BUCKETS / totalWeight);
+        }
+    }
+
+    public ExperimentVariant defaultVariant() {
+        return control;
+    }
+
+    public ExperimentVariant assign(Long memberId, Long conversationId) {
+        if (!experiment.enabled() || variants.isEmpty()) {
+            return control;
+        }
+        Long unitId = experiment.unit() == RecommendationProperties.Experiment.Unit.MEMBER && memberId != null
+                ? memberId
+                : conversationId;
+        if (unitId == null) {
+            return control;
+        }
+
+        int bucket = bucket(experiment.name(), unitId);
+        for (int i = 0; i < upperBounds.length; i++) {
+            if (bucket < upperBounds[i]) {
+                return variants.get(i);
+            }
+        }
+        return control;
+    }
+
+    /**
+     * 0 ~ BUCKETS-1
+     */
+    public static int bucket(String experimentName, long unitId) {
+        byte[] key = (experimentName + ":" + unitId).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return (int) Long.remainderUnsigned(hash, BUCKETS);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.crud.ai.recommendation.application;
+
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.embedding.resilience.EmbeddingCircuitBreaker;
+import com.example.crud.ai.recommendation.domain.RankFusion;
+import com.example.crud.ai.recommendation.domain.RankingParams;
+import com.example.crud.ai.recommendation.domain.RecommendationStrategy;
+import com.example.crud.ai.recommendation.domain.dto.ProductCard;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import com.example.crud.ai.recommendation.domain.dto.Recommendations;
+import com.example.crud.ai.recommendation.infrastructure.LexicalProductIndex;
+import com.example.crud.ai.recommendation.infrastructure.ProductVectorService;
+import com.example.crud.ai.recommendation.infrastructure.ProductVectorService.ProductSimilarity;
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.common.tracing.StageTracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 벡터(pgvector) + 키워드(BM25) 병렬 검색 후 가중 RRF 결합 (lexicalWeight 가 0 이면 벡터 검색만)
+ *
+ * - 장애 대응: 임베딩 서킷 OPEN, 벡터 검색 지연(latency-budget 초과) 또는 실패 시 키워드(BM25) 검색 결과로 대체.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HybridRecommendationStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "hybrid";
+
+    private final ProductVectorService vectorService;
+    private final LexicalProductIndex lexicalIndex;
+    private final EmbeddingCircuitBreaker circuitBreaker;
+    private final RecommendationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final StageTracer stageTracer;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public CompletableFuture<Recommendations> recommend(String message, int limit, RankingParams params) {
+        RecommendationProperties.Fallback fallback = properties.fallback();
+
+        // 서킷 OPEN이면 임베딩 호출 자체를 건너뛰고 바로 키워드 검색
+        if (fallback.enabled() && circuitBreaker.isOpen() && lexicalIndex.isReady()) {
+            return CompletableFuture.completedFuture(
+                    Recommendations.lexical(lexicalRecommendations(message, limit, "circuit_open")));
+        }
+
+        boolean fuse = params.lexicalWeight() > 0 && lexicalIndex.isReady();
+        int candidates = fuse ? limit * params.candidateMultiplier() : limit;
+
+        CompletableFuture<List<ProductSimilarity>> vectorFuture = vectorService
+                .findSimilarProducts(message, candidates, params.vectorThreshold());
+
+        if (fallback.enabled()) {
+            // 지연 예산 초과 시 응답은 키워드 결과로, 진행 중인 임베딩 호출은 끝나면 캐시에 적재됨
+            vectorFuture = vectorFuture.orTimeout(fallback.latencyBudget().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        // 벡터 검색(임베딩 API + pgvector)이 도는 동안 인메모리 키워드 검색 → 전체 지연은 둘 중 느린 쪽
+        List<ProductMatch> lexicalMatches = fuse
+                ? stageTracer.stage(stageTracer.current(), "lexical_search",
+                        () -> lexicalIndex.search(message, candidates, fallback.minScore()))
+                : List.of();
+
+        return vectorFuture.handle((similarities, ex) -> {
+            if (ex == null) {
+                List<ProductMatch> vectorMatches = similarities.stream()
+                        .map(s -> new ProductMatch(
+                                s.productId(),
+                                s.productName(),
+                                s.similarity()
+                        ))
+                        .collect(Collectors.toList());
+                Map<Long, ProductCard> cards = new HashMap<>(similarities.size() * 2);
+                for (ProductSimilarity s : similarities) {
+                    cards.put(s.productId(), s.card());
+                }
+                if (!fuse) {
+                    return new Recommendations(vectorMatches, cards, Recommendations.MODEL_VECTOR);
+                }
+                return new Recommendations(RankFusion.fuse(params.rrfK(), limit,
+                        new RankFusion.Ranking(vectorMatches, params.vectorWeight()),
+                        new RankFusion.Ranking(lexicalMatches, params.lexicalWeight())), cards, Recommendations.MODEL_HYBRID);
+            }
+            if (fallback.enabled() && lexicalIndex.isReady()) {
+                Throwable cause = unwrap(ex);
+                String reason = cause instanceof TimeoutException ? "timeout" : "error";
+                log.warn("벡터 검색 {} → 키워드 검색으로 대체: {}", reason, cause.toString());
+                if (fuse) {
+                    meterRegistry.counter("recommendation.fallback", "reason", reason).increment();
+                    return Recommendations.lexical(lexicalMatches.subList(0, Math.min(limit, lexicalMatches.size())));
+                }
+                return Recommendations.lexical(lexicalRecommendations(message, limit, reason));
+            }
+            throw mapRecommendationException(ex, message, limit);
+        });
+    }
+
+    private List<ProductMatch> lexicalRecommendations(String message, int limit, String reason) {
+        meterRegistry.counter("recommendation.fallback", "reason", reason).increment();
+        return lexicalIndex.search(message, limit, properties.fallback().minScore());
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private RuntimeException mapRecommendationException(Throwable throwable, String message, int limit) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof BaseException baseException) {
+            return baseException;
+        }
+        log.error("추천 생성 중 오류 발생: message={}, limit={}", message, limit, cause);
+        return new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.crud.ai.recommendation.application;
+
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.embedding.event.ProductEmbeddingUpdatedEvent;
+import com.example.crud.common.cluster.ProductPartitioner;
+import com.example.crud.data.product.event.ProductFacetChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유사 상품 테이블 증분 갱신 스케줄러
+ *
+ * 1. 임베딩이 바뀐 상품 (dirty) 재계산 - 메모리에만 보관, 유실돼도 임베딩 저장 시 neighbors_computed_at 을 비우므로 3에서 복구
+ * 2. 그 상품의 기존/신규 이웃 + 그 상품을 이웃으로 가진 상품을 한 단계만 추가 재계산 (연쇄 전파 없음)
+ * 3. 아직 계산되지 않은 상품을 batch-size 만큼 채움 (신규 상품, 최초 적재 - 계산 여부는 product.neighbors_computed_at)
+ * 4. full-refresh-cron 마다 전체 재계산 (새 상품이 기존 상품의 이웃이 되는 경우 반영)
+ *
+ * 1, 2는 임베딩을 저장한 노드가 처리하고, 3, 4는 노드별 상품 ID 구간(ProductPartitioner)만 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductNeighborRefreshJob {
+
+    private final ProductNeighborService neighborService;
+    private final RecommendationProperties properties;
+    private final ProductPartitioner partitioner;
+
+    private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmbeddingUpdated(ProductEmbeddingUpdatedEvent event) {
+        dirtyProductIds.add(event.getProductId());
+    }
+
+    // 상품 삭제: 그 상품의 행과 다른 상품 목록의 이웃 행을 지우고, 자리가 빈 상품은 다음 주기에 재계산
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductDeleted(ProductFacetChangedEvent event) {
+        if (event.getAfter() != null) {
+            return; // 생성/수정
+        }
+        dirtyProductIds.remove(event.getProductId());
+        try {
+            dirtyProductIds.addAll(neighborService.remove(event.getProductId()));
+        } catch (Exception e) {
+            log.warn("삭제된 상품의 유사 상품 정리 실패: productId={}", event.getProductId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.similar.refresh-interval:PT1M}",
+            initialDelayString = "${recommendation.similar.refresh-interval:PT1M}")
+    public void refresh() {
+        int batchSize = properties.similar().batchSize();
+        long started = System.currentTimeMillis();
+
+        List<Long> changed = drainDirty(batchSize);
+        Set<Long> affected = new LinkedHashSet<>();
+        int refreshed = 0;
+        for (Long productId : changed) {
+            affected.addAll(refreshSafely(productId));
+            refreshed++;
+        }
+
+        affected.removeAll(changed);
+        for (Long productId : affected) {
+            refreshSafely(productId);
+            refreshed++;
+        }
+
+        Optional<long[]> range = partitioner.currentRange();
+        if (range.isPresent()) {
+            long[] r = range.get();
+            for (Long productId : neighborService.findProductIdsWithoutNeighbors(r[0], r[1], batchSize)) {
+                refreshSafely(productId);
+                refreshed++;
+            }
+        }
+
+        if (refreshed > 0) {
+            log.info("유사 상품 테이블 갱신: changed={}, affected={}, total={}, {}ms",
+                    changed.size(), affected.size(), refreshed, System.currentTimeMillis() - started);
+        }
+    }
+
+    @Scheduled(cron = "${recommendation.similar.full-refresh-cron:0 30 3 * * *}")
+    public void refreshAll() {
+        Optional<long[]> range = partitioner.currentRange();
+        if (range.isEmpty()) {
+            return;
+        }
+        long from = range.get()[0];
+        long to = range.get()[1];
+        int batchSize = properties.similar().batchSize();
+        long started = System.currentTimeMillis();
+        long afterId = from - 1;
+        int refreshed = 0;
+
+        List<Long> page;
+        do {
+            page = neighborService.findEmbeddedProductIds(afterId, to, batchSize);
+            for (Long productId : page) {
+                refreshSafely(productId);
+                refreshed++;
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1);
+            }
+        } while (page.size() == batchSize);
+
+        log.info("유사 상품 전체 재계산 완료: range=[{}, {}], total={}, {}ms",
+                from, to, refreshed, System.currentTimeMillis() - started);
+    }
+
+    private List<Long> drainDirty(int max) {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> it = dirtyProductIds.iterator();
+        while (it.hasNext() && drained.size() < max) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    private Set<Long> refreshSafely(Long productId) {
+        try {
+            return neighborService.refresh(productId);
+        } catch (Exception e) {
+            log.warn("유사 상품 갱신 실패, 다음 주기에 재시도: productId={}", productId, e);
+            dirtyProductIds.add(productId);
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.crud.ai.recommendation.application;
+
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.recommendation.domain.repository.ProductNeighborRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품별 유사 상품 Top-K 사전 계산 (product_similarity 갱신)
+ *
+ * - 상품 하나당 트랜잭션 하나: 기존 행 삭제 → DB 안에서 ANN 계산 결과 INSERT ... SELECT
+ * - 조회 쪽은 트랜잭션 커밋 전까지 이전 목록을 그대로 보게 됨 (빈 목록 노출 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductNeighborService {
+
+    private final ProductNeighborRepository neighborRepository;
+    private final RecommendationProperties properties;
+
+    /**
+     * 상품 하나의 이웃 목록을 다시 계산
+     *
+     * @return 이 상품의 변경으로 목록이 바뀌었을 수 있는 다른 상품 ID (기존/신규 이웃 + 이 상품을 이웃으로 가진 상품)
+     */
+    @Transactional
+    public Set<Long> refresh(Long productId) {
+        RecommendationProperties.Similar similar = properties.similar();
+
+        Set<Long> affected = new HashSet<>(neighborRepository.findNeighborIds(productId));
+        affected.addAll(neighborRepository.findProductIdsReferencing(productId));
+
+        neighborRepository.deleteByProductId(productId);
+        int inserted = neighborRepository.insertTopNeighbors(productId, similar.topK(), similar.threshold());
+        neighborRepository.markComputed(productId);
+
+        affected.addAll(neighborRepository.findNeighborIds(productId));
+        affected.remove(productId);
+
+        log.debug("유사 상품 갱신: productId={}, neighbors={}", productId, inserted);
+        return affected;
+    }
+
+    /**
+     * 삭제된 상품의 유사 상품 행 정리
+     *
+     * @return 이웃 자리가 비어 다시 계산해야 할 상품 ID
+     */
+    @Transactional
+    public Set<Long> remove(Long productId) {
+        Set<Long> affected = new HashSet<>(neighborRepository.findProductIdsReferencing(productId));
+        neighborRepository.deleteAllInvolving(productId);
+        affected.remove(productId);
+        return affected;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findProductIdsWithoutNeighbors(long fromId, long toId, int limit) {
+        return neighborRepository.findProductIdsWithoutNeighbors(fromId, toId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findEmbeddedProductIds(long afterId, long toId, int limit) {
+        return neighborRepository.findEmbeddedProductIds(afterId, toId, limit);
+    }
+}
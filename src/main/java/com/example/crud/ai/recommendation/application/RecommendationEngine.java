@@ -1,36 +1,160 @@
 package com.example.crud.ai.recommendation.application;
 
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.recommendation.domain.ExperimentVariant;
+import com.example.crud.ai.recommendation.domain.RecommendationStrategy;
 import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
-import com.example.crud.ai.recommendation.infrastructure.ProductVectorService;
+import com.example.crud.ai.recommendation.domain.dto.Recommendations;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.example.crud.common.tracing.StageTracer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
 /**
  * 메시지 기반으로 유사한 상품을 조회해 상위 결과를 반환하는 추천 엔진.
  *
  * - 입력 검증: 공백 메시지, limit 1~10 범위 확인.
- * - 처리: ProductVectorService로 유사도 계산 후 ProductMatch로 변환.
- * - 최적화: description 등 장문 필드 제외로 메모리/네트워크 비용 절감.
+ * - 처리: 배정된 실험 변형의 RecommendationStrategy 빈(hybrid / vector)으로 위임, 결과에 변형 이름 태깅.
+ * - 개인화: 회원 취향 벡터가 있으면 limit * n 개 후보를 받아 취향 유사도와 가중 합산 후 재정렬.
+ * - 최적화: description 등 장문 필드 제외로 메모리/네트워크 비용 절감, 벡터 검색이 카드 컬럼까지 함께 반환.
  * - 예외: 검증/내부 오류는 BaseException으로 전달해 글로벌 핸들러에서 일관 처리.
+ * - 지표: 변형별 지연(recommendation.variant.latency), 결과 수/최고 점수 (CTR/CVR 은 노출 이벤트 집계에서 model=변형)
+ * - 추적: 개인화 재정렬은 pipeline.stage{stage=personalize} 로 요청 turn 하위에 기록
  *
  *  추가 개선할 사항 -> 캐싱 구현.
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class RecommendationEngine {
 
-    private final ProductVectorService vectorService;
+    private final Map<String, RecommendationStrategy> strategies = new HashMap<>();
+    private final ExperimentAssigner experimentAssigner;
+    private final TasteProfileService tasteProfileService;
+    private final RecommendationProperties properties;
+    private final Executor dbTaskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final StageTracer stageTracer;
+
+    public RecommendationEngine(List<RecommendationStrategy> strategies,
+                                ExperimentAssigner experimentAssigner,
+                                TasteProfileService tasteProfileService,
+                                RecommendationProperties properties,
+                                Executor dbTaskExecutor,
+                                MeterRegistry meterRegistry,
+                                StageTracer stageTracer) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.name(), strategy));
+        this.experimentAssigner = experimentAssigner;
+        this.tasteProfileService = tasteProfileService;
+        this.properties = properties;
+        this.dbTaskExecutor = dbTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.stageTracer = stageTracer;
+    }
 
     public CompletableFuture<List<ProductMatch>> getRecommendations(String message, int limit) {
+        return recommend(message, limit).thenApply(Recommendations::matches);
+    }
+
+    /**
+     * 기본 변형(control)으로 추천
+     */
+    public CompletableFuture<Recommendations> recommend(String message, int limit) {
+        validate(message, limit);
+        return recommend(message, limit, experimentAssigner.defaultVariant());
+    }
+
+    /**
+     * 추천 + 벡터 검색에서 함께 읽어온 카드 (키워드 검색으로만 나온 상품은 카드 없음)
+     */
+    public CompletableFuture<Recommendations> recommend(String message, int limit, ExperimentVariant variant) {
+        return recommend(message, limit, variant, null);
+    }
+
+    /**
+     * 회원 취향 벡터로 재정렬한 추천 (memberId 가 null 이면 재정렬 없음)
+     */
+    public CompletableFuture<Recommendations> recommend(String message, int limit, ExperimentVariant variant,
+                                                       Long memberId) {
+        validate(message, limit);
+
+        RecommendationStrategy strategy = strategies.get(variant.strategy());
+        if (strategy == null) {
+            log.error("등록되지 않은 추천 전략: variant={}, strategy={}", variant.name(), variant.strategy());
+            throw new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+        }
+
+        RecommendationProperties.Personalization personalization = properties.personalization();
+        boolean personalize = memberId != null && personalization.enabled() && personalization.weight() > 0;
+        int candidates = personalize ? limit * personalization.candidateMultiplier() : limit;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<Recommendations> future = strategy.recommend(message, candidates, variant.params());
+        if (personalize) {
+            // 취향 벡터 조회 + pgvector 유사도 계산은 DB 스레드 풀에서 (검색 완료 스레드가 임의이므로 부모는 여기서 잡음)
+            Observation parent = stageTracer.current();
+            future = future.thenApplyAsync(result -> stageTracer.stage(parent, "personalize",
+                            () -> personalize(result, memberId, limit, personalization.weight())),
+                    dbTaskExecutor);
+        }
+        return future
+                .thenApply(result -> result.withVariant(variant.name()))
+                .whenComplete((result, ex) -> record(variant, sample, result, ex));
+    }
+
+    /**
+     * 정렬 키 = (1 - weight) * 검색 순위 점수 + weight * 취향 유사도, 상위 limit 개
+     * 취향 벡터가 없거나 조회에 실패하면 검색 순위 그대로 limit 개
+     *
+     * 검색 순위 점수는 match.score() 가 아니라 전략이 정한 순서에서 계산 (1위 1.0 → 마지막 1/n)
+     * hybrid 의 score 는 화면 표시용 원점수라 RRF 융합 순서/실험 가중치(vectorWeight, lexicalWeight)를 담고 있지 않음
+     * 반환 score 는 원래 표시 점수 그대로 ("n% 일치" 의미 유지)
+     */
+    private Recommendations personalize(Recommendations result, Long memberId, int limit, double weight) {
+        List<ProductMatch> matches = result.matches();
+        Map<Long, Double> affinities;
+        try {
+            affinities = tasteProfileService.affinities(memberId, matches.stream().map(ProductMatch::id).toList());
+        } catch (Exception e) {
+            log.warn("취향 유사도 조회 실패 - 재정렬 생략: memberId={}, {}", memberId, e.toString());
+            affinities = Map.of();
+        }
+
+        List<ProductMatch> ranked;
+        if (affinities.isEmpty()) {
+            ranked = matches;
+        } else {
+            int n = matches.size();
+            Map<Long, Double> keys = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                ProductMatch match = matches.get(i);
+                double relevance = (double) (n - i) / n;
+                double affinity = Math.max(0, affinities.getOrDefault(match.id(), 0.0));
+                keys.put(match.id(), (1 - weight) * relevance + weight * affinity);
+            }
+            ranked = new ArrayList<>(matches);
+            ranked.sort(Comparator.comparingDouble((ProductMatch match) -> keys.get(match.id())).reversed());
+        }
+        meterRegistry.counter("recommendation.personalization",
+                "applied", String.valueOf(!affinities.isEmpty())).increment();
+
+        List<ProductMatch> top = ranked.size() > limit ? List.copyOf(ranked.subList(0, limit)) : ranked;
+        return new Recommendations(top, result.cards(), result.model(), result.variant());
+    }
+
+    private void validate(String message, int limit) {
         if (message == null || message.trim().isEmpty()) {
             log.warn("빈 메시지로 추천 생성 요청됨.");
             throw new BaseException(ErrorCode.INVALID_MESSAGE_INPUT);
@@ -39,33 +163,32 @@ public class RecommendationEngine {
             log.warn("잘못된 추천 개수 요청: {}", limit);
             throw new BaseException(ErrorCode.INVALID_MESSAGE_INPUT, "추천 개수는 1~10 사이여야 합니다.");
         }
-
-        return vectorService.findSimilarProducts(message, limit)
-                .thenApply(vectorMatches ->
-                    vectorMatches.stream()
-                            .map(s -> new ProductMatch(
-                                    s.productId(),
-                                    s.productName(),
-                                    s.similarity()
-                            ))
-                            .collect(Collectors.toList())
-                )
-                .handle((result, ex) -> {
-                    if (ex != null) {
-                        throw mapRecommendationException(ex, message, limit);
-                    }
-                    return result;
-                });
     }
 
-    private RuntimeException mapRecommendationException(Throwable throwable, String message, int limit) {
-        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
-                ? throwable.getCause()
-                : throwable;
-        if (cause instanceof BaseException baseException) {
-            return baseException;
+    private void record(ExperimentVariant variant, Timer.Sample sample, Recommendations result, Throwable ex) {
+        sample.stop(Timer.builder("recommendation.variant.latency")
+                .description("실험 변형별 추천 지연")
+                .tag("variant", variant.name())
+                .tag("strategy", variant.strategy())
+                .tag("outcome", ex == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        if (result == null) {
+            return;
+        }
+        DistributionSummary.builder("recommendation.variant.results")
+                .description("실험 변형별 추천 결과 수")
+                .tag("variant", variant.name())
+                .register(meterRegistry)
+                .record(result.matches().size());
+        if (!result.matches().isEmpty()) {
+            DistributionSummary.builder("recommendation.variant.top.score")
+                    .description("실험 변형별 1위 점수")
+                    .tag("variant", variant.name())
+                    .register(meterRegistry)
+                    .record(result.matches().get(0).score());
         }
-        log.error("추천 생성 중 오류 발생: message={}, limit={}", message, limit, cause);
-        return new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+        meterRegistry.counter("recommendation.variant.path", "variant", variant.name(),
+                "path", String.valueOf(result.model())).increment();
     }
 }
@@ -0,0 +1,153 @@
+package com.example.crud.ai.recommendation.application;
+
+import com.example.crud.ai.analytics.domain.InteractionEvent;
+import com.example.crud.ai.common.VectorFormatter;
+import com.example.crud.ai.config.RecommendationProperties;
+import com.example.crud.ai.conversation.domain.entity.UserPreference;
+import com.example.crud.ai.conversation.domain.repository.UserPreferenceRepository;
+import com.example.crud.ai.recommendation.domain.TasteVector;
+import com.example.crud.repository.MemberRepository;
+import com.example.crud.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
+
+/**
+ * 회원 취향 벡터 증분 학습 / 조회
+ *
+ * - 갱신: InteractionFlushJob 이 비운 이벤트 배치 단위로 호출 → 상품 임베딩 1회 조회 + 회원별 O(dim) 가중 평균
+ * - 조회: 추천 후보와 취향 벡터의 코사인 유사도를 pgvector 로 계산 (후보 임베딩을 애플리케이션으로 가져오지 않음)
+ * - 오프라인 학습 없음, 콜드 스타트(누적 가중치 < min-weight) 회원은 재정렬하지 않음
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TasteProfileService {
+
+    private final UserPreferenceRepository userPreferenceRepository;
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final RecommendationProperties properties;
+
+    /**
+     * 조회/클릭/장바구니/구매 이벤트를 회원 취향 벡터에 반영
+     */
+    @Transactional
+    public void apply(List<InteractionEvent> events) {
+        RecommendationProperties.Personalization config = properties.personalization();
+        if (!config.enabled()) {
+            return;
+        }
+
+        Map<Long, List<InteractionEvent>> byMember = new HashMap<>();
+        for (InteractionEvent event : events) {
+            if (event.memberId() != null && weightOf(event, config) > 0) {
+                byMember.computeIfAbsent(event.memberId(), k -> new ArrayList<>()).add(event);
+            }
+        }
+        if (byMember.isEmpty()) {
+            return;
+        }
+
+        Set<Long> productIds = byMember.values().stream()
+                .flatMap(List::stream)
+                .map(InteractionEvent::productId)
+                .collect(Collectors.toSet());
+        Map<Long, float[]> embeddings = new HashMap<>();
+        for (Object[] row : productRepository.findEmbeddings(productIds)) {
+            embeddings.put(extractLong(row[0], "productId"), VectorFormatter.parse(extractString(row[1], "vector")));
+        }
+        if (embeddings.isEmpty()) {
+            return; // 임베딩 생성 전 상품만 있는 배치
+        }
+
+        Map<Long, UserPreference> preferences = userPreferenceRepository.findByMember_NumberIn(byMember.keySet())
+                .stream()
+                .collect(Collectors.toMap(p -> p.getMember().getNumber(), Function.identity()));
+
+        List<UserPreference> changed = new ArrayList<>();
+        byMember.forEach((memberId, memberEvents) -> {
+            UserPreference preference = preferences.get(memberId);
+            if (preference == null) {
+                preference = UserPreference.builder()
+                        .member(memberRepository.getReferenceById(memberId))
+                        .build();
+            }
+            if (update(preference, memberEvents, embeddings, config)) {
+                changed.add(preference);
+            }
+        });
+        userPreferenceRepository.saveAll(changed);
+        log.debug("취향 벡터 갱신: 회원 {}명, 이벤트 {}건", changed.size(), events.size());
+    }
+
+    /**
+     * 후보 상품별 취향 유사도 (취향 벡터가 없거나 학습량이 부족하면 빈 맵)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> affinities(Long memberId, Collection<Long> productIds) {
+        RecommendationProperties.Personalization config = properties.personalization();
+        if (memberId == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        Optional<UserPreference> preference = userPreferenceRepository.findByMember_Number(memberId)
+                .filter(p -> p.hasTaste(config.minWeight()));
+        if (preference.isEmpty()) {
+            return Map.of();
+        }
+
+        String tasteVector = VectorFormatter.formatForPostgreSQL(TasteVector.decode(preference.get().getTasteVector()));
+        Map<Long, Double> affinities = new HashMap<>();
+        for (Object[] row : productRepository.findTasteAffinities(productIds, tasteVector)) {
+            affinities.put(extractLong(row[0], "productId"), extractDouble(row[1], "affinity"));
+        }
+        return affinities;
+    }
+
+    private boolean update(UserPreference preference, List<InteractionEvent> events,
+                           Map<Long, float[]> embeddings, RecommendationProperties.Personalization config) {
+        float[] mean = preference.getTasteVector() != null ? TasteVector.decode(preference.getTasteVector()) : null;
+        double total = preference.getTasteWeight() != null ? preference.getTasteWeight() : 0;
+        boolean updated = false;
+
+        for (InteractionEvent event : events) {
+            float[] embedding = embeddings.get(event.productId());
+            if (embedding == null) {
+                continue;
+            }
+            if (mean == null || mean.length != embedding.length) {
+                // 첫 행동 또는 임베딩 모델(차원) 변경 → 새로 시작
+                mean = new float[embedding.length];
+                total = 0;
+            }
+            double weight = weightOf(event, config);
+            TasteVector.accumulate(mean, embedding, weight, total);
+            total = Math.min(total + weight, config.maxWeight());
+            updated = true;
+        }
+
+        if (updated) {
+            preference.setTasteVector(TasteVector.encode(mean));
+            preference.setTasteWeight(total);
+            preference.setLastUpdated(LocalDateTime.now());
+        }
+        return updated;
+    }
+
+    private static double weightOf(InteractionEvent event, RecommendationProperties.Personalization config) {
+        return switch (event.type()) {
+            case VIEW, CLICK -> config.viewWeight();
+            case CART -> config.cartWeight();
+            case PURCHASE -> config.purchaseWeight();
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.crud.ai.recommendation.application;
+
+import com.example.crud.ai.recommendation.domain.RankingParams;
+import com.example.crud.ai.recommendation.domain.RecommendationStrategy;
+import com.example.crud.ai.recommendation.domain.dto.Recommendations;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 벡터 검색만 사용 (키워드 결합 없음, 장애 시 키워드 대체는 유지)
+ */
+@Component
+@RequiredArgsConstructor
+public class VectorOnlyRecommendationStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "vector";
+
+    private final HybridRecommendationStrategy hybridStrategy;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public CompletableFuture<Recommendations> recommend(String message, int limit, RankingParams params) {
+        return hybridStrategy.recommend(message, limit, params.withLexicalWeight(0));
+    }
+}
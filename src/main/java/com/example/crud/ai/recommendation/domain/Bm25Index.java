@@ -0,0 +1,197 @@
+package com.example.crud.ai.recommendation.domain;
+
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 상품 키워드 검색용 불변 BM25 역색인
+ *
+ * - 토큰: 단어 전체 + 문자 2-gram → 형태소 분석기 없이도 한국어 부분 일치("러닝화" ↔ "러닝") 처리
+ * - 필드 가중치: 상품명 3, 브랜드 2, 카테고리/키워드 1, 설명 1 (tf에 가중치를 곱하는 BM25F 단순화)
+ * - 점수는 질의 토큰이 모두 최대로 일치했을 때의 이론상 최대값으로 나눠 0~1 범위로 반환
+ * - 한번 만들면 변경하지 않음 → 재색인은 새 인스턴스를 만들어 참조만 교체 (검색 중 락 없음)
+ */
+public class Bm25Index {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    public static final float NAME_WEIGHT = 3.0f;
+    public static final float BRAND_WEIGHT = 2.0f;
+    public static final float CATEGORY_WEIGHT = 1.0f;
+    public static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    /**
+     * 색인 대상 문서 (필드별 원문)
+     */
+    public record Document(Long productId, String name, String brand, String category, String description) {}
+
+    private record Posting(int[] docs, float[] tfs) {}
+
+    private final long[] productIds;
+    private final String[] names;
+    private final float[] docLengths;
+    private final float avgDocLength;
+    private final Map<String, Posting> postings;
+
+    private Bm25Index(long[] productIds, String[] names, float[] docLengths, float avgDocLength,
+                      Map<String, Posting> postings) {
+        this.productIds = productIds;
+        this.names = names;
+        this.docLengths = docLengths;
+        this.avgDocLength = avgDocLength;
+        this.postings = postings;
+    }
+
+    public static Bm25Index empty() {
+        return new Bm25Index(new long[0], new String[0], new float[0], 0f, Map.of());
+    }
+
+    public static Bm25Index build(List<Document> documents) {
+        int n = documents.size();
+        long[] ids = new long[n];
+        String[] names = new String[n];
+        float[] lengths = new float[n];
+        Map<String, List<Integer>> docsByTerm = new HashMap<>();
+        Map<String, List<Float>> tfsByTerm = new HashMap<>();
+        double totalLength = 0;
+
+        for (int i = 0; i < n; i++) {
+            Document doc = documents.get(i);
+            ids[i] = doc.productId();
+            names[i] = doc.name();
+
+            Map<String, Float> tf = new HashMap<>();
+            addField(tf, doc.name(), NAME_WEIGHT);
+            addField(tf, doc.brand(), BRAND_WEIGHT);
+            addField(tf, doc.category(), CATEGORY_WEIGHT);
+            addField(tf, doc.description(), DESCRIPTION_WEIGHT);
+
+            float length = 0f;
+            for (Map.Entry<String, Float> e : tf.entrySet()) {
+                length += e.getValue();
+                docsByTerm.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(i);
+                tfsByTerm.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue());
+            }
+            lengths[i] = length;
+            totalLength += length;
+        }
+
+        Map<String, Posting> postings = new HashMap<>(docsByTerm.size() * 2);
+        for (Map.Entry<String, List<Integer>> e : docsByTerm.entrySet()) {
+            List<Integer> docs = e.getValue();
+            List<Float> tfs = tfsByTerm.get(e.getKey());
+            int[] docArray = new int[docs.size()];
+            float[] tfArray = new float[docs.size()];
+            for (int j = 0; j < docArray.length; j++) {
+                docArray[j] = docs.get(j);
+                tfArray[j] = tfs.get(j);
+            }
+            postings.put(e.getKey(), new Posting(docArray, tfArray));
+        }
+
+        float avg = n == 0 ? 0f : (float) (totalLength / n);
+        return new Bm25Index(ids, names, lengths, avg, postings);
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+
+    /**
+     * BM25 상위 limit개 검색
+     *
+     * @param minScore 정규화 점수(0~1) 하한
+     */
+    public List<ProductMatch> search(String query, int limit, double minScore) {
+        int n = productIds.length;
+        if (n == 0 || query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(query, terms::add);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        float[] scores = new float[n];
+        double maxPossible = 0;
+        for (String term : terms) {
+            Posting posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            int df = posting.docs().length;
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            maxPossible += idf * (K1 + 1);
+            for (int j = 0; j < posting.docs().length; j++) {
+                int doc = posting.docs()[j];
+                float tf = posting.tfs()[j];
+                double norm = K1 * (1 - B + B * docLengths[doc] / avgDocLength);
+                scores[doc] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+            }
+        }
+        if (maxPossible == 0) {
+            return List.of();
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(i -> scores[i]));
+        for (int i = 0; i < n; i++) {
+            if (scores[i] <= 0f) {
+                continue;
+            }
+            top.offer(i);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<ProductMatch> matches = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            int doc = top.poll();
+            double score = Math.min(1.0, scores[doc] / maxPossible);
+            if (score >= minScore) {
+                matches.add(new ProductMatch(productIds[doc], names[doc], score));
+            }
+        }
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    private static void addField(Map<String, Float> tf, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        tokenize(text, token -> tf.merge(token, weight, Float::sum));
+    }
+
+    /**
+     * 소문자화 후 문자/숫자 연속 구간을 단어로 보고, 단어 전체와 문자 2-gram을 토큰으로 발행
+     */
+    static void tokenize(String text, Consumer<String> sink) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                emitWord(lower, start, i, sink);
+                start = -1;
+            }
+        }
+    }
+
+    private static void emitWord(String text, int start, int end, Consumer<String> sink) {
+        sink.accept(text.substring(start, end));
+        if (end - start > 2) {
+            for (int i = start; i + 2 <= end; i++) {
+                sink.accept(text.substring(i, i + 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.crud.ai.recommendation.domain;
+
+/**
+ * 배정된 실험 변형
+ *
+ * @param name     응답/노출 이벤트에 붙는 변형 이름
+ * @param strategy 사용할 RecommendationStrategy 이름
+ */
+public record ExperimentVariant(String name, String strategy, RankingParams params) {}
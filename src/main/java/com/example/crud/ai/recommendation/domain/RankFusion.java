@@ -0,0 +1,49 @@
+package com.example.crud.ai.recommendation.domain;
+
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+
+import java.util.*;
+
+/**
+ * 가중 Reciprocal Rank Fusion (RRF)
+ *
+ * - fused(d) = Σ weight_i / (k + rank_i(d)),  rank는 1부터
+ * - 점수 스케일이 다른 검색 결과(코사인 유사도 vs BM25)를 순위만으로 합치므로 별도 정규화가 필요 없음
+ * - 정렬은 fused 점수로 하되, 반환 score는 각 검색기의 원래 점수 중 최대값 (화면의 "n% 일치" 의미 유지)
+ */
+public final class RankFusion {
+
+    /**
+     * 개별 검색기 결과 (점수 내림차순) 와 가중치
+     */
+    public record Ranking(List<ProductMatch> matches, double weight) {}
+
+    private RankFusion() {
+    }
+
+    public static List<ProductMatch> fuse(int k, int limit, Ranking... rankings) {
+        Map<Long, double[]> fused = new HashMap<>(); // [0]=fused 점수, [1]=최대 원점수
+        Map<Long, String> names = new HashMap<>();
+
+        for (Ranking ranking : rankings) {
+            if (ranking.weight() <= 0 || ranking.matches() == null) {
+                continue;
+            }
+            int rank = 0;
+            for (ProductMatch match : ranking.matches()) {
+                rank++;
+                double[] acc = fused.computeIfAbsent(match.id(), id -> new double[2]);
+                acc[0] += ranking.weight() / (k + rank);
+                acc[1] = Math.max(acc[1], match.score());
+                names.putIfAbsent(match.id(), match.name());
+            }
+        }
+
+        return fused.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, double[]> e) -> e.getValue()[0]).reversed()
+                        .thenComparing(e -> e.getValue()[1], Comparator.reverseOrder()))
+                .limit(limit)
+                .map(e -> new ProductMatch(e.getKey(), names.get(e.getKey()), e.getValue()[1]))
+                .toList();
+    }
+}
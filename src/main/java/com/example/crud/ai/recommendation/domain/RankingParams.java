@@ -0,0 +1,24 @@
+package com.example.crud.ai.recommendation.domain;
+
+import com.example.crud.ai.config.RecommendationProperties;
+
+/**
+ * 검색/결합 파라미터 (실험군마다 다르게 지정 가능)
+ */
+public record RankingParams(
+        double vectorThreshold,
+        double vectorWeight,
+        double lexicalWeight,
+        int candidateMultiplier,
+        int rrfK
+) {
+
+    public static RankingParams from(RecommendationProperties.Hybrid hybrid) {
+        return new RankingParams(hybrid.vectorThreshold(), hybrid.vectorWeight(), hybrid.lexicalWeight(),
+                hybrid.candidateMultiplier(), hybrid.rrfK());
+    }
+
+    public RankingParams withLexicalWeight(double weight) {
+        return new RankingParams(vectorThreshold, vectorWeight, weight, candidateMultiplier, rrfK);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.crud.ai.recommendation.domain;
+
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+
+import java.util.List;
+
+/**
+ * 추천 응답 문구 렌더러
+ *
+ * - 템플릿 고정 문구는 enum 상수, 가변 부분(개수/상품명/일치율)만 이어붙임
+ * - 스레드별 StringBuilder 재사용, 일치율은 String.format 없이 소수 첫째 자리까지 직접 기록
+ */
+public final class RecommendationMessageRenderer {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private RecommendationMessageRenderer() {
+    }
+
+    public static String render(List<ProductMatch> recommendations) {
+        return render(ResponseTemplate.select(recommendations.size()), recommendations);
+    }
+
+    public static String render(ResponseTemplate template, List<ProductMatch> recommendations) {
+        if (template == ResponseTemplate.NO_RESULT) {
+            return template.head();
+        }
+
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+
+        sb.append(template.head());
+        if (template.afterCount() != null) {
+            sb.append(recommendations.size()).append(template.afterCount());
+        }
+
+        int listed = Math.min(ResponseTemplate.MAX_LISTED, recommendations.size());
+        for (int i = 0; i < listed; i++) {
+            ProductMatch product = recommendations.get(i);
+            double percentage = product.score() * 100;
+            sb.append("\n• ").append(product.name()).append(" (");
+            appendPercent(sb, percentage);
+            if (percentage >= 50.0) {
+                sb.append("% 일치 - 높은 관련성)");
+            } else if (percentage >= 20.0) {
+                sb.append("% 일치)");
+            } else {
+                sb.append("% 일치 - 참고용)");
+            }
+        }
+
+        sb.append(template.closing());
+        String result = sb.toString();
+
+        // 비정상적으로 긴 상품명으로 커진 버퍼는 스레드에 붙잡아 두지 않음
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * %.1f 와 같은 형식 (소수 첫째 자리 반올림)
+     */
+    static void appendPercent(StringBuilder sb, double percentage) {
+        long tenths = Math.round(percentage * 10);
+        if (tenths < 0) {
+            sb.append('-');
+            tenths = -tenths;
+        }
+        sb.append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.crud.ai.recommendation.domain;
+
+import com.example.crud.ai.recommendation.domain.dto.Recommendations;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 추천 전략 - 빈으로 등록하면 실험 변형의 strategy 이름으로 선택 가능
+ */
+public interface RecommendationStrategy {
+
+    /** recommendation.experiment.variants[n].strategy 에 쓰는 이름 */
+    String name();
+
+    CompletableFuture<Recommendations> recommend(String message, int limit, RankingParams params);
+}
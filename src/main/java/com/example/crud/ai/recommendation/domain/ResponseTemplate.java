@@ -0,0 +1,53 @@
+package com.example.crud.ai.recommendation.domain;
+
+/**
+ * 추천 응답 문구 템플릿 (결과 개수로 선택)
+ *
+ * 대화 메시지에는 렌더링된 문장 대신 템플릿 ID(enum 이름) + 상품 ID/점수만 저장하고,
+ * 조회 시 RecommendationMessageRenderer 로 다시 렌더링
+ */
+public enum ResponseTemplate {
+
+    NO_RESULT("죄송합니다. 현재 조건에 맞는 상품을 찾을 수 없습니다. 다른 검색어를 시도해 주세요.", null, ""),
+    SINGLE("검색 조건에 맞는 상품을 찾았습니다!  추천 상품을 소개해드릴게요:\n", null,
+            "\n\n이 상품에 대해 더 자세히 알고 싶으시거나 다른 검색어로 찾아보고 싶으시면 언제든 말씀해 주세요!"),
+    FEW("총 ", "개의 상품을 찾았습니다.  모든 상품을 소개해드릴게요:\n",
+            "\n\n더 자세한 정보나 다른 상품을 원하시면 언제든 말씀해 주세요!"),
+    MANY("총 ", "개의 상품을 찾았습니다.  상위 3개 상품을 소개해드릴게요:\n",
+            "\n\n다른 상품들도 있습니다. 더 자세한 정보나 다른 상품을 원하시면 언제든 말씀해 주세요!");
+
+    /** 본문에 나열하는 최대 상품 수 */
+    public static final int MAX_LISTED = 3;
+
+    private final String head;
+    private final String afterCount; // null 이면 개수 표시 없음
+    private final String closing;
+
+    ResponseTemplate(String head, String afterCount, String closing) {
+        this.head = head;
+        this.afterCount = afterCount;
+        this.closing = closing;
+    }
+
+    public static ResponseTemplate select(int productCount) {
+        if (productCount == 0) {
+            return NO_RESULT;
+        }
+        if (productCount == 1) {
+            return SINGLE;
+        }
+        return productCount <= MAX_LISTED ? FEW : MANY;
+    }
+
+    String head() {
+        return head;
+    }
+
+    String afterCount() {
+        return afterCount;
+    }
+
+    String closing() {
+        return closing;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.crud.ai.recommendation.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 회원 취향 벡터 연산/직렬화
+ *
+ * - 갱신: 상품 임베딩의 누적 가중 평균 mean += (x - mean) * w / (W + w), 이벤트당 O(dim)
+ * - 저장: float16 little-endian (1536차원 기준 3KB, float32 의 절반 / 텍스트 형식의 1/5)
+ *   평균 벡터 성분은 ±0.1 안쪽이라 float16 정밀도(유효숫자 약 3자리)로 코사인 순위가 바뀌지 않음
+ */
+public final class TasteVector {
+
+    private TasteVector() {
+        throw new AssertionError("TasteVector는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 가중 평균에 벡터 하나를 반영 (mean 을 직접 수정)
+     *
+     * @param totalWeight 지금까지 반영된 가중치 합 (상한을 두면 오래된 행동이 지수적으로 희석됨)
+     */
+    public static void accumulate(float[] mean, float[] x, double weight, double totalWeight) {
+        float ratio = (float) (weight / (totalWeight + weight));
+        for (int i = 0; i < mean.length; i++) {
+            mean[i] += (x[i] - mean[i]) * ratio;
+        }
+    }
+
+    public static double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return normA == 0 || normB == 0 ? 0 : dot / Math.sqrt(normA * normB);
+    }
+
+    public static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (float v : vector) {
+            buffer.putShort(toHalf(v));
+        }
+        return buffer.array();
+    }
+
+    public static float[] decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        float[] vector = new float[bytes.length / 2];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = toFloat(buffer.getShort());
+        }
+        return vector;
+    }
+
+    /**
+     * IEEE 754 binary16 변환 (round-half-even, 범위 초과는 ±Inf, 2^-25 미만은 0)
+     */
+    static short toHalf(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xff;
+        int mantissa = bits & 0x7fffff;
+
+        if (exponent == 0xff) {
+            return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 : 0)); // Inf / NaN
+        }
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1f) {
+            return (short) (sign | 0x7c00);
+        }
+        if (halfExponent <= 0) {
+            if (halfExponent < -10) {
+                return (short) sign;
+            }
+            // 비정규화 수: 암묵적 1 을 붙여 자리 이동
+            mantissa |= 0x800000;
+            int shift = 14 - halfExponent;
+            return (short) (sign | roundShift(mantissa, shift));
+        }
+        // 반올림 올림이 지수로 넘어가도 비트 배치상 올바른 값 (최대값 초과 시 Inf)
+        return (short) (sign | roundShift((halfExponent << 23) | mantissa, 13));
+    }
+
+    static float toFloat(short half) {
+        int sign = (half & 0x8000) << 16;
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+
+        if (exponent == 0) {
+            float magnitude = mantissa * 0x1p-24f;
+            return sign != 0 ? -magnitude : magnitude;
+        }
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+    }
+
+    private static int roundShift(int value, int shift) {
+        int result = value >>> shift;
+        int remainder = value & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        if (remainder > halfway || (remainder == halfway && (result & 1) != 0)) {
+            result++;
+        }
+        return result;
+    }
+}
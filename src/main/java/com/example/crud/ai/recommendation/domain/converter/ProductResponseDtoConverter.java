@@ -1,13 +1,15 @@
 package com.example.crud.ai.recommendation.domain.converter;
 
+import com.example.crud.ai.recommendation.domain.dto.ProductCard;
 import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import com.example.crud.ai.recommendation.domain.dto.Recommendations;
 import com.example.crud.data.product.dto.ProductResponseDto;
-import com.example.crud.entity.Product;
 import com.example.crud.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.text.NumberFormat;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -17,6 +19,7 @@ import java.util.stream.Collectors;
  * ProductMatch를 ProductResponseDto로 변환하는 컨버터
  *
  * RecommendationTestController와 ConversationalRecommendationService에서 공통으로 사용
+ * 카드에 필요한 컬럼만 사용 (description 은 카드에 표시하지 않아 조회하지 않음)
  */
 @Component
 @RequiredArgsConstructor
@@ -35,31 +38,51 @@ public class ProductResponseDtoConverter {
      * @return ProductResponseDto 리스트
      */
     public List<ProductResponseDto> convertToProductResponseDtos(List<ProductMatch> matches) {
-        List<Long> productIds = matches.stream()
+        return convertToProductResponseDtos(Recommendations.of(matches));
+    }
+
+    /**
+     * 추천 결과를 카드 DTO로 변환
+     * 검색 단계에서 받은 카드는 그대로 쓰고, 없는 상품만 카드 컬럼 projection 으로 한 번에 조회
+     */
+    public List<ProductResponseDto> convertToProductResponseDtos(Recommendations recommendations) {
+        List<ProductMatch> matches = recommendations.matches();
+        Map<Long, ProductCard> cards = new HashMap<>(recommendations.cards());
+
+        List<Long> missingIds = matches.stream()
                 .map(ProductMatch::id)
+                .filter(id -> cards.get(id) == null)
                 .toList();
-
-        // 한 번의 쿼리로 모든 Product 조회 (N+1 방지)
-        Map<Long, Product> productMap = productRepository.findAllById(productIds)
-                .stream()
-                .collect(Collectors.toMap(Product::getNumber, p -> p));
+        if (!missingIds.isEmpty()) {
+            for (ProductCard card : productRepository.findRecommendationCards(missingIds)) {
+                cards.put(card.id(), card);
+            }
+        }
 
         return matches.stream()
-                .map(match -> convertToProductResponseDto(match, productMap.get(match.id())))
+                .map(match -> convertToProductResponseDto(match, cards.get(match.id())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 모든 추천 상품의 카드가 이미 있는지 (DB 조회 없이 변환 가능한지)
+     */
+    public boolean isFullyHydrated(Recommendations recommendations) {
+        return recommendations.matches().stream()
+                .allMatch(match -> recommendations.cards().get(match.id()) != null);
+    }
+
     /**
      * 단일 ProductMatch를 ProductResponseDto로 변환
      *
      * @param match ProductMatch
-     * @param product Product 엔티티 (null 가능)
+     * @param card 카드 컬럼 (null 가능)
      * @return ProductResponseDto
      */
-    private ProductResponseDto convertToProductResponseDto(ProductMatch match, Product product) {
+    private ProductResponseDto convertToProductResponseDto(ProductMatch match, ProductCard card) {
         ProductResponseDto dto = new ProductResponseDto();
 
-        if (product == null) {
+        if (card == null) {
             // Product를 찾을 수 없는 경우 기본 DTO 반환
             dto.setNumber(match.id());
             dto.setName(match.name());
@@ -67,22 +90,20 @@ public class ProductResponseDtoConverter {
         }
 
         // Direct mapping (BeanUtils.copyProperties 대신 직접 매핑으로 성능 최적화)
-        dto.setNumber(product.getNumber());
-        dto.setName(product.getName());
+        dto.setNumber(card.id());
+        dto.setName(card.name());
+        dto.setBrand(card.brand());
+        dto.setImageUrl(card.imageUrl());
+        dto.setSubCategory(card.subCategory());
 
         // 가격 포맷팅
-        if (product.getPrice() != null) {
-            dto.setPrice(PRICE_FORMATTER.get().format(product.getPrice()) + "원");
+        if (card.price() != null) {
+            dto.setPrice(PRICE_FORMATTER.get().format(card.price()) + "원");
         }
 
         // 카테고리 설정
-        if (product.getCategory() != null) {
-            dto.setCategory(product.getCategory().name());
-        }
-
-        // 설명 줄바꿈 처리 (HTML 표시용)
-        if (product.getDescription() != null) {
-            dto.setDescription(product.getDescription().replace("\n", "<br>"));
+        if (card.category() != null) {
+            dto.setCategory(card.category().name());
         }
 
         // 매칭 점수 (유사도) 추가
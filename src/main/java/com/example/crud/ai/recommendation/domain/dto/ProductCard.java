@@ -0,0 +1,17 @@
+package com.example.crud.ai.recommendation.domain.dto;
+
+import com.example.crud.enums.Category;
+
+/**
+ * 추천 카드 표시용 상품 컬럼 (description/벡터 등 장문 컬럼 제외)
+ * 벡터 검색 쿼리가 함께 반환하거나, 키워드 검색 결과는 findRecommendationCards 로 한 번에 조회
+ */
+public record ProductCard(
+        Long id,
+        String name,
+        String brand,
+        Integer price,
+        String imageUrl,
+        Category category,
+        String subCategory
+) {}
@@ -14,4 +14,5 @@ public class RecommendationResponseDto {
     private List<ProductMatch> recommendations;
     private List<ProductResponseDto> recommendedProducts;
     private Integer totalRecommendations;
+    private String variant; // 실험 변형 이름
 }
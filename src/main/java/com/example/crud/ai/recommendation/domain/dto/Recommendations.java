@@ -0,0 +1,42 @@
+package com.example.crud.ai.recommendation.domain.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 결과 + 검색 단계에서 이미 읽어온 카드 (상품 ID → 카드)
+ * cards 에 없는 상품만 ProductResponseDtoConverter 에서 추가 조회
+ *
+ * @param model   결과를 만든 검색 경로 (vector / hybrid / lexical)
+ * @param variant 실험 변형 이름 (노출 이벤트/지표 집계 기준), 엔진을 거치기 전에는 null
+ */
+public record Recommendations(List<ProductMatch> matches, Map<Long, ProductCard> cards, String model, String variant) {
+
+    public static final String MODEL_VECTOR = "vector";
+    public static final String MODEL_HYBRID = "hybrid";
+    public static final String MODEL_LEXICAL = "lexical";
+
+    public Recommendations(List<ProductMatch> matches, Map<Long, ProductCard> cards, String model) {
+        this(matches, cards, model, null);
+    }
+
+    public static Recommendations of(List<ProductMatch> matches) {
+        return new Recommendations(matches, Map.of(), null);
+    }
+
+    public static Recommendations lexical(List<ProductMatch> matches) {
+        return new Recommendations(matches, Map.of(), MODEL_LEXICAL);
+    }
+
+    public Recommendations withVariant(String variant) {
+        return new Recommendations(matches, cards, model, variant);
+    }
+
+    /**
+     * 노출 이벤트 model 컬럼 값 - "변형/검색 경로" (변형 미지정 시 검색 경로만)
+     * 시간별 집계가 model 단위라 변형별 CTR/CVR 이 그대로 나옴
+     */
+    public String attributionKey() {
+        return variant == null ? model : variant + "/" + model;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.crud.ai.recommendation.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 유사 상품 Top-K 사전 계산 결과
+ *
+ * - PK(product_id, rank_no) → 상세 페이지 "비슷한 상품"은 PK 범위 스캔 한번으로 끝남 (ANN 쿼리 없음)
+ * - 벡터 대신 이웃 ID/점수만 저장해 행 크기를 작게 유지
+ * - 행 생성/교체는 ProductNeighborRepository 네이티브 쿼리(INSERT ... SELECT)로만 수행
+ */
+@Entity
+@Table(name = "product_similarity",
+        indexes = @Index(name = "idx_product_similarity_neighbor", columnList = "neighbor_id"))
+@IdClass(ProductNeighbor.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductNeighbor {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "rank_no")
+    private Integer rank;
+
+    @Column(name = "neighbor_id", nullable = false)
+    private Long neighborId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long productId;
+        private Integer rank;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.crud.ai.recommendation.domain.repository;
+
+import com.example.crud.ai.recommendation.domain.entity.ProductNeighbor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductNeighborRepository extends JpaRepository<ProductNeighbor, ProductNeighbor.Key> {
+
+    // 사전 계산된 유사 상품 조회 (PK 범위 스캔 + 상품 PK 조인)
+    @Query(value = """
+        SELECT s.neighbor_id AS productId,
+               p.name        AS productName,
+               s.score       AS similarity
+        FROM product_similarity s
+        JOIN product p ON p.number = s.neighbor_id
+        WHERE s.product_id = :productId
+        ORDER BY s.rank_no
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findNeighbors(@Param("productId") Long productId, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_similarity"))
+    @Query(value = "DELETE FROM product_similarity WHERE product_id = :productId", nativeQuery = true)
+    int deleteByProductId(@Param("productId") Long productId);
+
+    // 삭제된 상품의 목록 + 다른 상품 목록에 이웃으로 들어 있던 행
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_similarity"))
+    @Query(value = "DELETE FROM product_similarity WHERE product_id = :productId OR neighbor_id = :productId",
+            nativeQuery = true)
+    int deleteAllInvolving(@Param("productId") Long productId);
+
+    // 계산 완료 표시 - 쿼리 공간을 product_similarity 로 둬서 상품 2차 캐시 영역 전체가 비워지지 않게 함
+    // (neighbors_computed_at 은 읽기 전용 매핑이라 캐시된 엔티티 값이 오래돼도 영향 없음)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_similarity"))
+    @Query(value = "UPDATE product SET neighbors_computed_at = now() WHERE number = :productId", nativeQuery = true)
+    int markComputed(@Param("productId") Long productId);
+
+    /**
+     * 대상 상품의 Top-K 이웃을 DB 안에서 계산해 바로 적재
+     * 벡터가 애플리케이션으로 나오지 않고, ANN 인덱스(ivfflat/hnsw)를 그대로 사용
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_similarity"))
+    @Query(value = """
+        INSERT INTO product_similarity (product_id, rank_no, neighbor_id, score, computed_at)
+        SELECT :productId,
+               row_number() OVER (ORDER BY n.distance),
+               n.number,
+               1 - n.distance,
+               now()
+        FROM (
+            SELECT c.number,
+                   c.description_vector <=> t.description_vector AS distance
+            FROM product t
+            JOIN product c ON c.number <> t.number
+            WHERE t.number = :productId
+              AND t.description_vector IS NOT NULL
+              AND c.description_vector IS NOT NULL
+            ORDER BY c.description_vector <=> t.description_vector
+            LIMIT :topK
+        ) n
+        WHERE 1 - n.distance >= :threshold
+        """, nativeQuery = true)
+    int insertTopNeighbors(@Param("productId") Long productId,
+                           @Param("topK") int topK,
+                           @Param("threshold") double threshold);
+
+    // 이 상품을 이웃으로 가진 상품들 (임베딩 변경 시 함께 갱신 대상)
+    @Query(value = "SELECT DISTINCT s.product_id FROM product_similarity s WHERE s.neighbor_id = :productId",
+            nativeQuery = true)
+    List<Long> findProductIdsReferencing(@Param("productId") Long productId);
+
+    @Query(value = "SELECT s.neighbor_id FROM product_similarity s WHERE s.product_id = :productId",
+            nativeQuery = true)
+    List<Long> findNeighborIds(@Param("productId") Long productId);
+
+    // 임베딩은 있는데 아직 계산되지 않은 상품 (신규 상품, 최초 적재) - 노드 담당 구간 내
+    // 이웃이 0개로 끝난 상품도 neighbors_computed_at 이 채워지므로 매 주기 다시 뽑히지 않음
+    @Query(value = """
+        SELECT p.number
+        FROM product p
+        WHERE p.description_vector IS NOT NULL
+          AND p.number BETWEEN :fromId AND :toId
+          AND p.neighbors_computed_at IS NULL
+        ORDER BY p.number
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findProductIdsWithoutNeighbors(@Param("fromId") long fromId,
+                                              @Param("toId") long toId,
+                                              @Param("limit") int limit);
+
+    // 전체 재계산용 구간 내 임베딩 보유 상품 (keyset 페이징)
+    @Query(value = """
+        SELECT p.number
+        FROM product p
+        WHERE p.description_vector IS NOT NULL
+          AND p.number > :afterId AND p.number <= :toId
+        ORDER BY p.number
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findEmbeddedProductIds(@Param("afterId") long afterId,
+                                      @Param("toId") long toId,
+                                      @Param("limit") int limit);
+}
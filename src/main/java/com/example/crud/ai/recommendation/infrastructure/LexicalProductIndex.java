@@ -0,0 +1,92 @@
+package com.example.crud.ai.recommendation.infrastructure;
+
+import com.example.crud.ai.embedding.domain.ProductTextBuilder;
+import com.example.crud.ai.recommendation.domain.Bm25Index;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import com.example.crud.enums.Category;
+import com.example.crud.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
+
+/**
+ * 임베딩 장애 시 사용하는 인메모리 키워드 검색 색인
+ *
+ * - 상품명/브랜드/카테고리 키워드(ProductTextBuilder와 동일)/설명을 BM25로 색인
+ * - OpenAI/pgvector 와 무관하게 동작 → 임베딩 서킷 OPEN 상태에서도 추천 가능
+ * - 기동 직후 1회 + refresh-interval 주기로 전체 재색인, 새 색인이 완성되면 참조만 교체
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LexicalProductIndex {
+
+    private final ProductRepository productRepository;
+    private final ProductTextBuilder productTextBuilder;
+    private final Executor dbTaskExecutor;
+
+    private volatile Bm25Index index = Bm25Index.empty();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        // 기동 지연 방지: 첫 색인은 DB 스레드 풀에서
+        dbTaskExecutor.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.fallback.refresh-interval:PT5M}",
+            initialDelayString = "${recommendation.fallback.refresh-interval:PT5M}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return; // 이미 재색인 중
+        }
+        try {
+            long started = System.currentTimeMillis();
+            List<Object[]> rows = productRepository.findLexicalDocuments();
+            List<Bm25Index.Document> documents = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                Category category = (Category) row[3];
+                String subCategory = extractString(row[4], "subCategory");
+                StringBuilder categoryText = new StringBuilder();
+                if (category != null) {
+                    categoryText.append(category.getGroupName()).append(' ')
+                            .append(productTextBuilder.categoryKeywords(category));
+                }
+                if (subCategory != null) {
+                    categoryText.append(' ').append(subCategory);
+                }
+                documents.add(new Bm25Index.Document(
+                        extractLong(row[0], "productId"),
+                        extractString(row[1], "productName"),
+                        extractString(row[2], "brand"),
+                        categoryText.toString(),
+                        extractString(row[5], "description")
+                ));
+            }
+            index = Bm25Index.build(documents);
+            log.info("키워드 색인 갱신 완료: {}개 상품, {}ms", documents.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("키워드 색인 갱신 실패 - 이전 색인 유지", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return index.size() > 0;
+    }
+
+    public List<ProductMatch> search(String query, int limit, double minScore) {
+        return index.search(query, limit, minScore);
+    }
+}
@@ -2,13 +2,19 @@ package com.example.crud.ai.recommendation.infrastructure;
 
 import com.example.crud.ai.common.VectorFormatter;
 import com.example.crud.ai.embedding.EmbeddingApiClient;
+import com.example.crud.ai.recommendation.domain.dto.ProductCard;
+import com.example.crud.ai.recommendation.domain.repository.ProductNeighborRepository;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
-import com.example.crud.entity.Product;
+import com.example.crud.common.datasource.ReplicaRouting;
+import com.example.crud.common.tracing.StageTracer;
+import com.example.crud.enums.Category;
 import com.example.crud.repository.ProductRepository;
+import io.micrometer.observation.Observation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -27,14 +33,18 @@ import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
 public class ProductVectorService {
 
     private final ProductRepository productRepository;
+    private final ProductNeighborRepository productNeighborRepository;
     private final EmbeddingApiClient embeddingApiClient;
     private final Executor dbTaskExecutor;
+    private final StageTracer stageTracer;
 
-    public CompletableFuture<List<ProductSimilarity>> findSimilarProducts(String queryText, int limit) {
-        log.info("🔍 상품 유사도 검색 시작: 쿼리='{}', limit={}, threshold=0.3", queryText, limit);
+    public CompletableFuture<List<ProductSimilarity>> findSimilarProducts(String queryText, int limit, double threshold) {
+        log.info("🔍 상품 유사도 검색 시작: 쿼리='{}', limit={}, threshold={}", queryText, limit, threshold);
         // embeddingApiClient에서 널값 예외처리.
         // Tomcat 스레드가 아닌 별도 embedding 스레드 풀에서 API 호출이 실행. Tomcat 스레드 풀 고갈 방지.
-        return embeddingApiClient.generateEmbeddingAsync(queryText)
+        // 콜백은 WebClient(Netty) 스레드에서 실행될 수 있으므로 부모 turn 을 진입 시점에 잡아 둠
+        Observation parent = stageTracer.current();
+        return stageTracer.stageAsync(parent, "embedding", () -> embeddingApiClient.generateEmbeddingAsync(queryText))
                 .thenApply(queryVector -> {
                     log.info("✅ 임베딩 벡터 생성 성공: 차원={}", queryVector.length);
                     // 벡터를 PostgreSQL 형식으로 변환
@@ -43,9 +53,9 @@ public class ProductVectorService {
                     return vectorString;
                 })
                 .thenApplyAsync(vectorString -> {
-                    // 인덱스 사용으로 0.3 고정시키고 쿼리문 한번만 날림
-                    return productRepository.findSimilarProductsByVector(
-                            vectorString, 0.3, limit);
+                    // 임계값을 쿼리에 넣어 인덱스 스캔 한번으로 끝냄, DB CPU 를 많이 쓰므로 replica 에서 (주문 쓰기와 분리)
+                    return stageTracer.stage(parent, "vector_search", () -> ReplicaRouting.onReplica(
+                            () -> productRepository.findSimilarProductsByVector(vectorString, threshold, limit)));
                 }, dbTaskExecutor)
                 .thenApply(results -> {
                     List<ProductSimilarity> similarities = new ArrayList<>();
@@ -53,11 +63,18 @@ public class ProductVectorService {
                         try {
                             Long productId = extractLong(row[0], "productId");
                             String productName = extractString(row[1], "productName");
-                            String description = extractString(row[2], "description");
-                            Double similarity = extractDouble(row[3], "similarity");
+                            Double similarity = extractDouble(row[2], "similarity");
+                            ProductCard card = new ProductCard(
+                                    productId,
+                                    productName,
+                                    extractString(row[3], "brand"),
+                                    extractInteger(row[4], "price"),
+                                    extractString(row[5], "imageUrl"),
+                                    Category.valueOf(extractString(row[6], "category")),
+                                    extractString(row[7], "subCategory"));
 
                             similarities.add(new ProductSimilarity(
-                                    productId, similarity, productName, description
+                                    productId, similarity, productName, card
                             ));
                             log.debug("🎯 상품 매칭: id={}, 유사도={}, 상품명='{}'", productId, String.format("%.4f", similarity), productName);
                         } catch (Exception e) {
@@ -69,7 +86,7 @@ public class ProductVectorService {
                     if (similarities.isEmpty()) {
                         log.warn("⚠️ 빈 결과 발생! 원인 분석:");
                         log.warn("  - 쿼리: '{}'", queryText);
-                        log.warn("  - 임계값: 0.3 (30% 이상 유사도)");
+                        log.warn("  - 임계값: {}", threshold);
                         log.warn("  - SQL 결과 개수: {}", results.size());
                         log.warn("  💡 해결방안: 임계값을 낮추거나 상품 데이터 확인 필요");
                     } else {
@@ -95,56 +112,44 @@ public class ProductVectorService {
         return new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE);
     }
 
+    /**
+     * 상품 상세 "비슷한 상품" - product_similarity 사전 계산 결과 조회 (ANN 쿼리 없음)
+     * 아직 계산되지 않은 신규 상품은 빈 목록, 다음 갱신 주기(ProductNeighborRefreshJob)에 채워짐
+     */
+    @Transactional(readOnly = true)
     public List<ProductSimilarity> findSimilarProductsByProduct(Long productId, int limit) {
-        try {
+        List<Object[]> results = productNeighborRepository.findNeighbors(productId, limit);
 
-            Product targetProduct = productRepository.findById(productId).orElseThrow();
-            String vectorString = targetProduct.getDescriptionVector();
-
-            if (vectorString == null || vectorString.isEmpty()) {
-                throw new IllegalArgumentException("대상 상품에 임베딩 벡터가 없습니다.");
-            }
+        if (results.isEmpty() && !productRepository.existsById(productId)) {
+            throw new BaseException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
 
-            // PostgreSQL에서 직접 유사도 검색 수행 (더 높은 임계값 사용)
-            List<Object[]> results = productRepository.findSimilarProductsByVector(
-                vectorString, 0.4, limit
-            );
-
-            List<ProductSimilarity> similarities = new ArrayList<>();
-            for (Object[] row : results) {
-                try {
-                    Long currentProductId = extractLong(row[0], "productId");
-
-                    // 자기 자신은 제외
-                    if (!currentProductId.equals(productId)) {
-                        String productName = extractString(row[1], "productName");
-                        String description = extractString(row[2], "description");
-                        Double similarity = extractDouble(row[3], "similarity");
-
-                        similarities.add(new ProductSimilarity(
-                            currentProductId, similarity, productName, description
-                        ));
-                    }
-                } catch (Exception e) {
-                    log.warn("상품 데이터 변환 실패, 해당 상품 건너뜀: {}", Arrays.toString(row), e);
-                }
+        List<ProductSimilarity> similarities = new ArrayList<>(results.size());
+        for (Object[] row : results) {
+            try {
+                similarities.add(new ProductSimilarity(
+                        extractLong(row[0], "productId"),
+                        extractDouble(row[2], "similarity"),
+                        extractString(row[1], "productName"),
+                        null
+                ));
+            } catch (Exception e) {
+                log.warn("상품 데이터 변환 실패, 해당 상품 건너뜀: {}", Arrays.toString(row), e);
             }
-
-            return similarities;
-
-        } catch (Exception e) {
-            throw new RuntimeException("상품과 상품간의 유사도 검색 중 오류 발생", e);
         }
+        return similarities;
     }
 
     /**
      * 카테고리별 유사 상품 검색
+     *
+     * @param card 벡터 검색 결과에만 포함 (사전 계산 이웃 조회는 null)
      */
     public record ProductSimilarity(
             Long productId,
             double similarity,
             String productName,
-            String description) {
+            ProductCard card) {
     }
 }
 
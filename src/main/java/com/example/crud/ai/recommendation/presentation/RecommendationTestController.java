@@ -2,11 +2,14 @@ package com.example.crud.ai.recommendation.presentation;
 
 import com.example.crud.ai.embedding.application.EmbeddingService;
 import com.example.crud.ai.embedding.application.ProductEmbeddingCommandService;
+import com.example.crud.ai.recommendation.application.ConversationalRecommendationService;
 import com.example.crud.ai.recommendation.application.RecommendationEngine;
 import com.example.crud.ai.recommendation.domain.converter.ProductResponseDtoConverter;
 import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
 import com.example.crud.ai.recommendation.infrastructure.ProductVectorService;
 import com.example.crud.ai.recommendation.infrastructure.ProductVectorService.ProductSimilarity;
+import com.example.crud.common.tracing.StageLatency;
+import com.example.crud.common.tracing.StageLatencyCollector;
 import com.example.crud.data.product.dto.ProductResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +36,7 @@ public class RecommendationTestController {
     private final EmbeddingService productEmbeddingService;
     private final ProductResponseDtoConverter productResponseDtoConverter;
     private final Executor dbTaskExecutor;
+    private final StageLatencyCollector stageLatencyCollector;
 
     /**
      * 텍스트 기반 상품 추천 테스트
@@ -54,13 +58,14 @@ public class RecommendationTestController {
         log.info("텍스트 기반 추천 테스트: userId={}, query={}", userId, query);
 
         // RecommendationEngine만 호출 (중복 호출 제거)
-        return recommendationEngine.getRecommendations(query, 5)
-                .thenApply(recommendations -> {
+        return recommendationEngine.recommend(query, 5)
+                .thenApply(result -> {
+                    List<ProductMatch> recommendations = result.matches();
                     long endTime = System.currentTimeMillis();
                     long processingTime = endTime - startTime;
 
                     // ProductMatch를 ProductResponseDto로 변환 (Converter 사용)
-                    List<ProductResponseDto> products = productResponseDtoConverter.convertToProductResponseDtos(recommendations);
+                    List<ProductResponseDto> products = productResponseDtoConverter.convertToProductResponseDtos(result);
 
                     Map<String, Object> response = Map.of(
                             "query", query,
@@ -81,6 +86,15 @@ public class RecommendationTestController {
                 });
     }
 
+    /**
+     * 파이프라인 단계별 최근 지연 (p50/p95/p99/max, ms) - 임베딩/DB/변환 중 어디가 느려졌는지 확인용
+     */
+    @GetMapping("/latency")
+    public ResponseEntity<List<StageLatency>> stageLatency(
+            @RequestParam(defaultValue = ConversationalRecommendationService.PIPELINE) String pipeline) {
+        return ResponseEntity.ok(stageLatencyCollector.snapshot(pipeline));
+    }
+
     /**
      * 상품간 유사도 테스트
      */
@@ -195,7 +209,7 @@ public class RecommendationTestController {
             log.info("상품 임베딩 재생성: productId={}", productId);
 
             long startTime = System.currentTimeMillis();
-            productEmbeddingCommandService.createAndSaveEmbedding(productId);
+            productEmbeddingCommandService.createAndSaveEmbedding(productId, true);
             long endTime = System.currentTimeMillis();
 
             Map<String, Object> response = Map.of(
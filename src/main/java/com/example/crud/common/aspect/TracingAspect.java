@@ -0,0 +1,157 @@
+package com.example.crud.common.aspect;
+
+import com.example.crud.common.exception.BaseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 서비스 구현체 / @Transactional 메서드 추적 (기존 LoggingAspect + TransactionLoggingAspect 대체)
+ *
+ * - 지표: 모든 호출을 method.latency{class, method, outcome} Timer 로 기록 (Timer 는 메서드별 캐시)
+ * - 로그: sample-rate 비율만 DEBUG 한 줄, slow-threshold 초과 호출은 항상 WARN
+ * - 파라미터는 기본적으로 타입만 남김 (로그인/가입/비밀번호 변경처럼 BCrypt 로 느린 호출이 WARN 으로 평문 비밀번호를 남기지 않도록)
+ *   값은 log-args=true 일 때 서비스 구현체(data.*.service.impl)의 DEBUG 샘플 로그에만, 비밀번호/토큰류는 마스킹
+ * - 파라미터 문자열은 실제로 로그가 출력될 때만 생성 (LazyArgs.toString)
+ * - 비즈니스 예외(BaseException)는 글로벌 핸들러가 처리하므로 추적 로그만, 그 외 예외는 WARN
+ */
+@Aspect
+@Component
+@Slf4j
+public class TracingAspect {
+
+    private final TracingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    private static final int SUCCESS = 0;
+    private static final int ERROR = 1;
+
+    private static final String SERVICE_IMPL_PACKAGE = "com\\.example\\.crud\\.data\\.[^.]+\\.service\\.impl";
+    // 파라미터 이름 또는 toString 안의 "password=..." 같은 필드
+    private static final Pattern SENSITIVE_NAME = Pattern.compile("(?i).*(password|passwd|pwd|secret|token|credential).*");
+    private static final Pattern SENSITIVE_FIELD = Pattern.compile(
+            "(?i)([\\w.]*(?:password|passwd|pwd|secret|token|credential)[\\w.]*\\s*[=:]\\s*)[^,)\\]}]*");
+
+    public TracingAspect(TracingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.crud.data.*.service.impl.*.*(..))"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.enabled()) {
+            return joinPoint.proceed();
+        }
+
+        long started = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timersOf(method, joinPoint.getTarget())[failure == null ? SUCCESS : ERROR]
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            report(joinPoint, method, elapsed, failure);
+        }
+    }
+
+    private void report(ProceedingJoinPoint joinPoint, Method method, long elapsedNanos, Throwable failure) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String outcome = failure == null ? "success" : "error";
+
+        if (failure != null && !(failure instanceof BaseException)) {
+            log.warn("trace method={}.{} outcome={} elapsedMs={} error={}: {}",
+                    method.getDeclaringClass().getSimpleName(), method.getName(), outcome, elapsedMs,
+                    failure.getClass().getSimpleName(), failure.getMessage());
+        } else if (elapsedMs >= properties.slowThreshold().toMillis()) {
+            log.warn("trace method={}.{} outcome={} elapsedMs={} slow=true argTypes={}",
+                    method.getDeclaringClass().getSimpleName(), method.getName(), outcome, elapsedMs,
+                    new LazyArgs(((MethodSignature) joinPoint.getSignature()).getParameterNames(), joinPoint.getArgs(), false, properties.maxArgLength()));
+        } else if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < properties.sampleRate()) {
+            boolean values = properties.logArgs() && isServiceImpl(joinPoint);
+            log.debug("trace method={}.{} outcome={} elapsedMs={} args={}",
+                    method.getDeclaringClass().getSimpleName(), method.getName(), outcome, elapsedMs,
+                    new LazyArgs(((MethodSignature) joinPoint.getSignature()).getParameterNames(), joinPoint.getArgs(), values, properties.maxArgLength()));
+        }
+    }
+
+    private Timer[] timersOf(Method method, Object target) {
+        Timer[] cached = timers.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        String className = target != null ? target.getClass().getSimpleName() : method.getDeclaringClass().getSimpleName();
+        return timers.computeIfAbsent(method, m -> new Timer[]{
+                timer(className, m.getName(), "success"),
+                timer(className, m.getName(), "error")
+        });
+    }
+
+    private Timer timer(String className, String methodName, String outcome) {
+        return Timer.builder("method.latency")
+                .description("서비스/트랜잭션 메서드 실행 시간")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(properties.percentileHistogram())
+                .register(meterRegistry);
+    }
+
+    // 인터페이스 프록시든 CGLIB 든 실제 구현 클래스 기준
+    private static boolean isServiceImpl(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        return target != null && target.getClass().getPackageName().matches(SERVICE_IMPL_PACKAGE);
+    }
+
+    /**
+     * 로거가 메시지를 포맷할 때만 파라미터를 문자열로 변환
+     * values=false 면 타입만, true 면 값 (민감한 이름의 파라미터/필드는 ***, 긴 값은 잘라냄)
+     */
+    private record LazyArgs(String[] names, Object[] args, boolean values, int maxLength) {
+
+        @Override
+        public String toString() {
+            if (args == null || args.length == 0) {
+                return "[]";
+            }
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) sb.append(", ");
+                if (!values) {
+                    sb.append(args[i] == null ? "null" : args[i].getClass().getSimpleName());
+                    continue;
+                }
+                String name = names != null && i < names.length ? names[i] : null;
+                if (name != null && SENSITIVE_NAME.matcher(name).matches()) {
+                    sb.append(name).append("=***");
+                    continue;
+                }
+                String value = SENSITIVE_FIELD.matcher(String.valueOf(args[i])).replaceAll("$1***");
+                if (value.length() > maxLength) {
+                    sb.append(value, 0, maxLength).append("…(").append(value.length()).append(')');
+                } else {
+                    sb.append(value);
+                }
+            }
+            return sb.append(']').toString();
+        }
+    }
+}
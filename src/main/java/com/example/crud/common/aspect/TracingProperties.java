@@ -0,0 +1,21 @@
+package com.example.crud.common.aspect;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 서비스/트랜잭션 메서드 추적(TracingAspect) / 파이프라인 단계 지연(StageLatencyCollector) 설정
+ */
+@ConfigurationProperties(prefix = "tracing")
+public record TracingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.01") double sampleRate, // DEBUG 추적 로그를 남길 호출 비율 (0.0 ~ 1.0), 지표는 전수
+        @DefaultValue("500ms") Duration slowThreshold, // 이보다 느린 호출은 샘플링과 무관하게 WARN
+        @DefaultValue("false") boolean percentileHistogram, // true 면 method.latency 버킷 발행 (시계열 수 증가)
+        @DefaultValue("200") int maxArgLength, // 파라미터 하나당 렌더링 길이 상한
+        @DefaultValue("false") boolean logArgs, // true 면 서비스 구현체 DEBUG 추적 로그에 파라미터 값 (민감 필드는 마스킹), false 면 타입만
+        @DefaultValue("2s") Duration slowTurnThreshold, // 파이프라인 요청 1건이 이보다 느리면 단계별 시간 WARN
+        @DefaultValue("5m") Duration percentileWindow // 단계별 p50/p95/p99 집계 구간
+) {}
@@ -0,0 +1,20 @@
+package com.example.crud.common.cache;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 (엔티티 @Cache(region) / 쿼리 힌트와 SecondLevelCacheConfig 가 공유)
+ */
+public final class CacheRegions {
+
+    public static final String PRODUCT = "product";
+    public static final String MEMBER = "member";
+    public static final String MEMBER_ROLES = "member.roles";
+    public static final String PRODUCT_OPTION = "productOption";
+    public static final String PRODUCT_OPTION_LOOKUP = "productOptionLookup";
+
+    // Hibernate 기본 영역 (쿼리 캐시 결과 / 테이블별 갱신 시각)
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
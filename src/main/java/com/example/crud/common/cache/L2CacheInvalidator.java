@@ -0,0 +1,204 @@
+package com.example.crud.common.cache;
+
+import com.example.crud.common.cluster.ClusterMembership;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2차 캐시 노드 간 무효화 (Redis pub/sub)
+ *
+ * 2차 캐시는 노드마다 로컬(ehcache 힙)이라 다른 노드의 변경을 모름
+ * - 캐시 대상 엔티티의 insert/update/delete 커밋 후 "노드ID|엔티티|ID" 발행
+ * - 다른 노드는 해당 엔티티 + 소유 컬렉션 캐시 + 쿼리 캐시를 비움 (자기 메시지는 무시 - 로컬은 Hibernate 가 이미 처리)
+ * - 네이티브 UPDATE / MyBatis 처럼 Hibernate 가 모르는 변경은 evictAfterCommit 으로 직접 무효화
+ *   (JDBC 대량 변경은 evictAllAfterCommit - ID 자리에 "*" 를 보내 영역 전체를 비움)
+ * 메시지가 유실되면 cache.l2.time-to-live 후 만료되어 DB 에서 다시 읽음
+ */
+@Component
+@Slf4j
+public class L2CacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, MessageListener {
+
+    private static final char SEPARATOR = '|';
+    private static final String ALL = "*";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final ClusterMembership membership;
+    private final SecondLevelCacheProperties properties;
+    private final Counter published;
+    private final Counter received;
+    private final Map<String, List<String>> collectionRoles = new ConcurrentHashMap<>();
+
+    private SessionFactoryImplementor sessionFactory;
+
+    public L2CacheInvalidator(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate,
+                              ClusterMembership membership, SecondLevelCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.membership = membership;
+        this.properties = properties;
+        this.published = meterRegistry.counter("cache.l2.invalidation", "direction", "published");
+        this.received = meterRegistry.counter("cache.l2.invalidation", "direction", "received");
+    }
+
+    @PostConstruct
+    public void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        committed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        committed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        committed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백 - 다른 노드에 알릴 변경 없음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void committed(EntityPersister persister, Object id) {
+        // 같은 이벤트 그룹의 다른 리스너 때문에 캐시 대상이 아닌 엔티티로도 호출될 수 있음
+        if (persister.canWriteToCache()) {
+            publish(persister.getEntityName(), id);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 로컬 캐시에서 제거 + 다른 노드에 발행 (트랜잭션 밖이면 즉시)
+     */
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndPublish(entityClass, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAndPublish(entityClass, id);
+            }
+        });
+    }
+
+    /**
+     * JDBC 배치처럼 ID 를 일일이 알리기 어려운 대량 변경: 커밋 후 엔티티 영역 전체 + 쿼리 캐시를 비우고 발행
+     */
+    public void evictAllAfterCommit(Class<?> entityClass) {
+        evictAfterCommit(entityClass, ALL);
+    }
+
+    private void evictAndPublish(Class<?> entityClass, Object id) {
+        Cache cache = sessionFactory.getCache();
+        if (ALL.equals(id)) {
+            cache.evictEntityData(entityClass);
+            for (String role : rolesOf(entityClass.getName())) {
+                cache.evictCollectionData(role);
+            }
+            cache.evictQueryRegions();
+        } else {
+            cache.evictEntityData(entityClass, id);
+        }
+        publish(entityClass.getName(), id);
+    }
+
+    private void publish(String entityName, Object id) {
+        try {
+            redisTemplate.convertAndSend(properties.channel(),
+                    membership.nodeId() + SEPARATOR + entityName + SEPARATOR + id);
+            published.increment();
+        } catch (Exception e) {
+            log.warn("2차 캐시 무효화 발행 실패 (TTL 만료로 복구): entity={}, id={}, {}", entityName, id, e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int last = body.lastIndexOf(SEPARATOR);
+        if (first < 0 || first == last || body.substring(0, first).equals(membership.nodeId())) {
+            return;
+        }
+        String entityName = body.substring(first + 1, last);
+        String id = body.substring(last + 1);
+        try {
+            Cache cache = sessionFactory.getCache();
+            if (ALL.equals(id)) {
+                cache.evictEntityData(entityName);
+                for (String role : rolesOf(entityName)) {
+                    cache.evictCollectionData(role);
+                }
+            } else {
+                Long entityId = Long.valueOf(id);
+                cache.evictEntityData(entityName, entityId);
+                for (String role : rolesOf(entityName)) {
+                    cache.evictCollectionData(role, entityId);
+                }
+            }
+            cache.evictQueryRegions();
+            received.increment();
+        } catch (Exception e) {
+            log.warn("2차 캐시 무효화 처리 실패: {}, {}", body, e.toString());
+        }
+    }
+
+    private List<String> rolesOf(String entityName) {
+        return collectionRoles.computeIfAbsent(entityName, name -> {
+            List<String> roles = new ArrayList<>();
+            sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+                if (collection.hasCache() && collection.getOwnerEntityPersister().getEntityName().equals(name)) {
+                    roles.add(collection.getRole());
+                }
+            });
+            return roles;
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.crud.common.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시 영역 크기 / 노드 간 무효화 설정
+ */
+@ConfigurationProperties(prefix = "cache.l2")
+public record SecondLevelCacheProperties(
+        @DefaultValue("2000") int productEntries, // Product 는 description/벡터 텍스트 포함이라 항목이 큼
+        @DefaultValue("5000") int memberEntries,
+        @DefaultValue("20000") int productOptionEntries,
+        @DefaultValue("10000") int queryEntries,
+        @DefaultValue("10m") Duration timeToLive, // 무효화 메시지를 놓친 노드의 최대 stale 기간
+        @DefaultValue("cache:l2:invalidate") String channel // Redis pub/sub 채널
+) {}
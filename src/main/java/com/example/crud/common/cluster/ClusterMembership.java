@@ -0,0 +1,118 @@
+package com.example.crud.common.cluster;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 하트비트 기반 클러스터 멤버십
+ *
+ * - 각 노드가 heartbeat-interval 마다 ZSET(cluster:{group}:members)에 (nodeId, Redis 서버 시각) 기록
+ *   (점수와 만료 기준을 모두 Redis TIME 으로 계산 → 노드 간 시계 차이와 무관)
+ * - member-ttl 동안 갱신이 없는 노드는 제거 → 남은 노드끼리 자동 재분배
+ * - 멤버를 nodeId 순으로 정렬한 위치가 곧 파티션 번호 (모든 노드가 같은 결과를 계산, 별도 조율 불필요)
+ * - Redis 장애 시 단독 노드로 동작 (작업 중복은 생겨도 멈추지는 않음, 각 작업은 멱등)
+ */
+@Component
+@Slf4j
+public class ClusterMembership {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClusterProperties properties;
+    private final String nodeId;
+    private final String membersKey;
+
+    private volatile PartitionAssignment assignment;
+
+    public ClusterMembership(StringRedisTemplate redisTemplate, ClusterProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+        this.membersKey = "cluster:" + properties.group() + ":members";
+        this.assignment = PartitionAssignment.standalone(nodeId);
+
+        Gauge.builder("cluster.members", this, m -> m.assignment.size())
+                .description("하트비트가 살아있는 노드 수")
+                .register(meterRegistry);
+        Gauge.builder("cluster.partition.index", this, m -> m.assignment.index())
+                .register(meterRegistry);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public PartitionAssignment assignment() {
+        return assignment;
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval:PT5S}")
+    public void heartbeat() {
+        try {
+            long now = redisTime();
+            redisTemplate.opsForZSet().add(membersKey, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(membersKey, 0, now - properties.memberTtl().toMillis());
+            redisTemplate.expire(membersKey, properties.memberTtl().multipliedBy(4));
+
+            Set<String> alive = redisTemplate.opsForZSet().range(membersKey, 0, -1);
+            List<String> members = alive == null ? new ArrayList<>() : new ArrayList<>(alive);
+            if (!members.contains(nodeId)) {
+                members.add(nodeId);
+            }
+            members.sort(null);
+
+            PartitionAssignment next = new PartitionAssignment(members.indexOf(nodeId), members.size(), List.copyOf(members));
+            if (!next.members().equals(assignment.members())) {
+                log.info("클러스터 멤버 변경 → 재분배: node={}, partition={}/{}, members={}",
+                        nodeId, next.index(), next.size(), next.members());
+            }
+            assignment = next;
+        } catch (Exception e) {
+            if (assignment.size() != 1) {
+                log.warn("클러스터 하트비트 실패 - 단독 노드로 전환: {}", e.toString());
+            }
+            assignment = PartitionAssignment.standalone(nodeId);
+        }
+    }
+
+    /**
+     * 정상 종료 시 즉시 탈퇴해 다른 노드가 TTL을 기다리지 않고 재분배
+     */
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(membersKey, nodeId);
+        } catch (Exception e) {
+            log.debug("클러스터 탈퇴 실패(무시): {}", e.toString());
+        }
+    }
+
+    private long redisTime() {
+        Long millis = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.serverCommands().time(TimeUnit.MILLISECONDS));
+        if (millis == null) {
+            throw new IllegalStateException("Redis TIME 응답 없음");
+        }
+        return millis;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.crud.common.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cluster")
+public record ClusterProperties(
+        @DefaultValue("crud") String group, // 같은 그룹 노드끼리 작업 분할 (Redis 키 접두어)
+        @DefaultValue("5s") Duration heartbeatInterval,
+        @DefaultValue("15s") Duration memberTtl // 이 시간 동안 하트비트가 없으면 멤버에서 제외 → 재분배
+) {}
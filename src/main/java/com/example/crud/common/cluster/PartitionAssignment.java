@@ -0,0 +1,33 @@
+package com.example.crud.common.cluster;
+
+import java.util.List;
+
+/**
+ * 현재 노드의 파티션 배정 (살아있는 멤버를 노드 ID 순으로 정렬한 위치)
+ *
+ * @param index   0 ~ size-1
+ * @param size    살아있는 노드 수
+ * @param members 정렬된 멤버 목록
+ */
+public record PartitionAssignment(int index, int size, List<String> members) {
+
+    public static PartitionAssignment standalone(String nodeId) {
+        return new PartitionAssignment(0, 1, List.of(nodeId));
+    }
+
+    /**
+     * [minId, maxId] 를 size 개의 연속 구간으로 나눈 뒤 이 노드 몫을 반환
+     *
+     * @return {from, to} 양끝 포함. 배정 구간이 없으면 from > to
+     */
+    public long[] rangeOf(long minId, long maxId) {
+        if (maxId < minId) {
+            return new long[]{1, 0};
+        }
+        long total = maxId - minId + 1;
+        long span = (total + size - 1) / size; // 올림
+        long from = minId + span * index;
+        long to = Math.min(maxId, from + span - 1);
+        return new long[]{from, to};
+    }
+}
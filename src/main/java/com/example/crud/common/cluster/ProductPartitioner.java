@@ -0,0 +1,39 @@
+package com.example.crud.common.cluster;
+
+import com.example.crud.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
+
+/**
+ * 상품 ID 구간을 살아있는 노드 수로 나눠 현재 노드 담당 구간을 계산
+ *
+ * 백필/전체 재계산처럼 상품 전체를 훑는 작업이 노드마다 겹치지 않게 하는 용도.
+ * 노드가 늘거나 줄면 다음 실행부터 구간이 자동으로 다시 나뉨
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductPartitioner {
+
+    private final ProductRepository productRepository;
+    private final ClusterMembership membership;
+
+    /**
+     * @return {from, to} 양끝 포함, 상품이 없거나 배정 구간이 없으면 empty
+     */
+    public Optional<long[]> currentRange() {
+        List<Object[]> bounds = productRepository.findIdBounds();
+        if (bounds.isEmpty() || bounds.get(0)[0] == null) {
+            return Optional.empty();
+        }
+        long min = extractLong(bounds.get(0)[0], "minId");
+        long max = extractLong(bounds.get(0)[1], "maxId");
+
+        long[] range = membership.assignment().rangeOf(min, max);
+        return range[0] <= range[1] ? Optional.of(range) : Optional.empty();
+    }
+}
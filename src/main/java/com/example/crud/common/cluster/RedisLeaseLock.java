@@ -0,0 +1,87 @@
+package com.example.crud.common.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 임대(lease) 락 - 클러스터에서 한 노드만 실행해야 하는 작업용 (정리/집계 등)
+ *
+ * - 획득: 비어 있으면 SET PX, 내가 가진 락이면 만료 연장 (Lua로 원자 처리)
+ * - 해제: 내가 가진 락일 때만 DEL → 만료 후 다른 노드가 가져간 락을 지우지 않음
+ * - 실행 노드가 죽어도 ttl 뒤 자동 해제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisLeaseLock {
+
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == false then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if current == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClusterMembership membership;
+    private final ClusterProperties properties;
+
+    public boolean tryAcquire(String name, Duration ttl) {
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key(name)),
+                    membership.nodeId(), String.valueOf(ttl.toMillis()));
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("임대 락 획득 실패: name={}, cause={}", name, e.toString());
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key(name)), membership.nodeId());
+        } catch (Exception e) {
+            log.debug("임대 락 해제 실패(만료로 해제됨): name={}", name);
+        }
+    }
+
+    /**
+     * 락을 얻은 경우에만 실행 후 해제
+     *
+     * @return 실행 여부
+     */
+    public boolean runExclusively(String name, Duration ttl, Runnable task) {
+        if (!tryAcquire(name, ttl)) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(name);
+        }
+    }
+
+    private String key(String name) {
+        return "cluster:" + properties.group() + ":lock:" + name;
+    }
+}
@@ -1,5 +1,12 @@
 package com.example.crud.common.config;
 
+import com.example.crud.common.tracing.ObservationContextTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -9,35 +16,108 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 및 스케줄링 설정
+ *
+ * 작업 종류마다 전용 풀(bulkhead)을 두고 이름으로 주입 (executor.* 설정)
+ * - dbTaskExecutor          : 요청 경로 DB 조회
+ * - persistenceTaskExecutor : 대화 메시지 저장
+ * - embeddingBatchExecutor  : 대량 임베딩 생성
+ * - productImportExecutor   : 상품 대량 등록 작업
+ * - importValidationExecutor: 대량 등록 행 검증 (작업 스레드가 결과를 기다리므로 작업 풀과 분리)
+ * 모든 풀은 제출 스레드의 Observation/MDC 를 작업 스레드로 넘기고, executor{name} 지표와 거절 수를 발행
  */
 @Configuration
 @EnableAsync
 @EnableScheduling
+@Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorProperties properties;
+
+    public AsyncConfig(ObservationRegistry observationRegistry, MeterRegistry meterRegistry,
+                       ExecutorProperties properties) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("Embedding-");
-        executor.initialize();
-        return executor;
+        return bulkhead("async", "Embedding-", properties.async());
     }
 
     @Bean(name = "dbTaskExecutor")
     public TaskExecutor dbTaskExecutor() {
+        return bulkhead("db", "db-task-", properties.db());
+    }
+
+    @Bean(name = "persistenceTaskExecutor")
+    public TaskExecutor persistenceTaskExecutor() {
+        return bulkhead("persistence", "persist-", properties.persistence());
+    }
+
+    @Bean(name = "searchIndexExecutor")
+    public TaskExecutor searchIndexExecutor() {
+        return bulkhead("search-index", "search-index-", properties.searchIndex());
+    }
+
+    @Bean(name = "embeddingBatchExecutor")
+    public TaskExecutor embeddingBatchExecutor() {
+        return bulkhead("embedding-batch", "embedding-batch-", properties.embeddingBatch());
+    }
+
+    @Bean(name = "productImportExecutor")
+    public TaskExecutor productImportExecutor() {
+        return bulkhead("product-import", "product-import-", properties.productImport());
+    }
+
+    @Bean(name = "importValidationExecutor")
+    public TaskExecutor importValidationExecutor() {
+        return bulkhead("import-validation", "import-validate-", properties.importValidation());
+    }
+
+    @Bean(name = "thumbnailExecutor")
+    public TaskExecutor thumbnailExecutor() {
+        return bulkhead("thumbnail", "thumbnail-", properties.thumbnail());
+    }
+
+    private ThreadPoolTaskExecutor bulkhead(String name, String threadNamePrefix, ExecutorProperties.Pool pool) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("db-task-");
+        executor.setCorePoolSize(pool.coreSize());
+        executor.setMaxPoolSize(pool.maxSize());
+        executor.setQueueCapacity(pool.queueCapacity());
+        executor.setKeepAliveSeconds((int) pool.keepAlive().toSeconds());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(new ObservationContextTaskDecorator(observationRegistry));
+        executor.setRejectedExecutionHandler(rejectionHandler(name, pool.rejection()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(pool.shutdownTimeout().toMillis());
         executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
         return executor;
     }
+
+    private RejectedExecutionHandler rejectionHandler(String name, ExecutorProperties.Rejection rejection) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("풀 포화로 거절된 작업 수")
+                .tag("name", name)
+                .tag("policy", rejection.name())
+                .register(meterRegistry);
+        RejectedExecutionHandler delegate = switch (rejection) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> (task, pool) -> log.warn("{} 풀 포화 - 작업 버림: active={}, queued={}",
+                    name, pool.getActiveCount(), pool.getQueue().size());
+        };
+        return (task, pool) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, pool);
+        };
+    }
 }
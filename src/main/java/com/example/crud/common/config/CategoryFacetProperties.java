@@ -0,0 +1,16 @@
+package com.example.crud.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 카테고리 내비게이션/필터 칩용 상품 수 집계 설정
+ */
+@ConfigurationProperties(prefix = "category.facet")
+public record CategoryFacetProperties(
+        @DefaultValue({"30000", "50000", "100000", "200000"}) List<Integer> priceBounds, // 가격 구간 경계 (오름차순)
+        @DefaultValue("PT10M") Duration reconcileInterval // SQL 집계로 메모리 카운트를 맞추는 주기
+) {}
@@ -0,0 +1,88 @@
+package com.example.crud.common.config;
+
+import com.example.crud.common.datasource.ReplicaLagMonitor;
+import com.example.crud.common.datasource.ReplicaProperties;
+import com.example.crud.common.datasource.ReplicaReadOnlyJpaDialect;
+import com.example.crud.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * primary / 읽기 전용 replica 라우팅 DataSource (datasource.replica.enabled=true 일 때만)
+ *
+ * JPA(EntityManagerFactory), MyBatis(SqlSessionFactory), JdbcTemplate 모두 @Primary dataSource 하나를 쓰므로
+ * 트랜잭션 readOnly 여부만으로 양쪽이 함께 라우팅됨. 비활성이면 Spring Boot 기본 DataSource 그대로
+ * readOnly 트랜잭션은 2차 캐시를 채우지 않음 (ReplicaReadOnlyJpaDialect - 복제 지연 중 읽은 행이 캐시에 남지 않도록)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties, ReplicaProperties replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replica.url())
+                .username(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername())
+                .password(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword())
+                .build();
+        dataSource.setPoolName("crud-replica");
+        dataSource.setReadOnly(true);
+        // replica 가 내려가 있어도 기동은 되도록 (라우팅은 ReplicaLagMonitor 가 healthy 일 때만)
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+
+    /**
+     * Boot 가 만든 EntityManagerFactory 에 dialect 만 교체 (JpaTransactionManager 는 EMF 의 dialect 를 그대로 사용)
+     */
+    @Bean
+    public static BeanPostProcessor replicaReadOnlyJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setJpaDialect(new ReplicaReadOnlyJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
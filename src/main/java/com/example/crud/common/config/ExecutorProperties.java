@@ -0,0 +1,40 @@
+package com.example.crud.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 작업 종류별 전용 스레드 풀(bulkhead) 설정
+ *
+ * 풀마다 크기/큐/거절 정책을 따로 둬서 느린 DB 호출 하나가 다른 비동기 작업까지 막지 않도록 함
+ * (공용 ForkJoinPool 사용 금지 - CommonPoolUsageTest)
+ */
+@ConfigurationProperties(prefix = "executor")
+public record ExecutorProperties(
+        @DefaultValue Pool async, // @Async 기본 풀
+        @DefaultValue Pool db, // 요청 경로의 조회 (pgvector 검색, 개인화, 상품 카드)
+        @DefaultValue Pool persistence, // 대화 메시지 저장
+        @DefaultValue Pool searchIndex, // 대화 메시지 검색 색인 (재시도 대기 포함 - 스케줄러 스레드를 잡지 않도록)
+        @DefaultValue Pool embeddingBatch, // 관리자용 대량 임베딩 생성
+        @DefaultValue Pool productImport, // 상품 대량 등록 작업 (파일 1개 = 작업 1개)
+        @DefaultValue Pool importValidation, // 대량 등록 행 병렬 검증
+        @DefaultValue Pool thumbnail // 상품 이미지 썸네일 생성 (디코딩 메모리가 커서 작게 유지)
+) {
+
+    public enum Rejection {
+        ABORT, // 즉시 실패 (TaskRejectedException) - 요청 경로는 대기보다 빠른 실패
+        CALLER_RUNS, // 제출한 스레드에서 실행 - 유실 없이 제출 속도를 늦춤
+        DISCARD // 버리고 WARN
+    }
+
+    public record Pool(
+            @DefaultValue("4") int coreSize,
+            @DefaultValue("8") int maxSize,
+            @DefaultValue("100") int queueCapacity,
+            @DefaultValue("60s") Duration keepAlive,
+            @DefaultValue("ABORT") Rejection rejection,
+            @DefaultValue("10s") Duration shutdownTimeout // 종료 시 남은 작업을 기다리는 최대 시간
+    ) {}
+}
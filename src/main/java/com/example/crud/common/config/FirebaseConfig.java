@@ -3,6 +3,8 @@ package com.example.crud.common.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
@@ -10,14 +12,18 @@ import javax.annotation.PostConstruct;
 import java.io.IOException;
 
 @Configuration
+@ConditionalOnProperty(prefix = "storage.image", name = "type", havingValue = "firebase", matchIfMissing = true)
+@RequiredArgsConstructor
 public class FirebaseConfig {
 
+    private final ImageStorageProperties properties;
+
     @PostConstruct
     public void initialize() {
         try {
             FirebaseOptions options = FirebaseOptions.builder()
                     .setCredentials(GoogleCredentials.fromStream(new ClassPathResource("serviceAccountKey.json").getInputStream()))
-                    .setStorageBucket("webproject-83837.appspot.com")
+                    .setStorageBucket(properties.bucket())
                     .build();
 
             if (FirebaseApp.getApps().isEmpty()) {
@@ -0,0 +1,36 @@
+package com.example.crud.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 상품 이미지 저장소 설정
+ */
+@ConfigurationProperties(prefix = "storage.image")
+public record ImageStorageProperties(
+        @DefaultValue("FIREBASE") Type type,
+        @DefaultValue("webproject-83837.appspot.com") String bucket, // Firebase Storage 버킷
+        @DefaultValue("1MB") DataSize uploadChunkSize, // Firebase 재개 가능 업로드 청크 (256KB 배수) - 업로드 중 힙 사용 상한
+        @DefaultValue Local local,
+        @DefaultValue Thumbnail thumbnail
+) {
+
+    public enum Type {
+        FIREBASE,
+        LOCAL // 로컬 디스크 (테스트/벤치마크용, Firebase 자격 증명 불필요)
+    }
+
+    public record Local(
+            @DefaultValue("local-images") Path root, // 저장 디렉터리 (상대 경로면 작업 디렉터리 기준)
+            @DefaultValue("/images/uploads/") String urlPrefix // 저장 파일을 내려주는 정적 리소스 경로
+    ) {}
+
+    public record Thumbnail(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("320") int width, // 가로 기준, 세로는 비율 유지
+            @DefaultValue("40000000") long maxSourcePixels // 원본 가로x세로 상한 (초과 시 디코딩하지 않음)
+    ) {}
+}
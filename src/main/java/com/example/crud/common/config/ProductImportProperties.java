@@ -0,0 +1,15 @@
+package com.example.crud.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 대량 등록(CSV / JSON Lines) 설정
+ */
+@ConfigurationProperties(prefix = "product.import")
+public record ProductImportProperties(
+        @DefaultValue("500") int chunkSize, // 검증/저장 단위 행 수 (청크마다 트랜잭션 1개, JDBC 배치 1회)
+        @DefaultValue("4") int validationSlices, // 청크를 나눠 병렬 검증할 조각 수
+        @DefaultValue("1000") int maxErrors, // 작업당 보관하는 행 오류 수 (초과분은 건수만 집계)
+        @DefaultValue("50") int retainedJobs // 조회용으로 메모리에 남겨 두는 완료 작업 수
+) {}
@@ -1,5 +1,7 @@
 package com.example.crud.common.config;
 
+import com.example.crud.data.product.dto.CatalogPageDto;
+import com.example.crud.data.product.service.ProductCatalogService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
@@ -174,9 +176,17 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .disableCachingNullValues();
 
+        // 카탈로그 첫 페이지 캐시 (1분 TTL) - 상품명/이미지 수정은 이벤트 무효화 대상이 아니라 TTL 로만 반영
+        // 값 타입을 고정한 직렬화기 - 타입 정보 없는 범용 직렬화기로는 LinkedHashMap 으로 읽혀 캐시 적중 시 ClassCastException
+        RedisCacheConfiguration catalogCacheConfig = defaultCacheConfig
+                .entryTtl(Duration.ofMinutes(1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(cacheObjectMapper, CatalogPageDto.class)));
+
         // 캐시별 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         cacheConfigurations.put("embeddings", embeddingCacheConfig);
+        cacheConfigurations.put(ProductCatalogService.CATALOG_CACHE, catalogCacheConfig);
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig)
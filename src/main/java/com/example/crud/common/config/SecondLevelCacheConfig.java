@@ -0,0 +1,79 @@
+package com.example.crud.common.config;
+
+import com.example.crud.common.cache.CacheRegions;
+import com.example.crud.common.cache.L2CacheInvalidator;
+import com.example.crud.common.cache.SecondLevelCacheProperties;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache + ehcache 힙) 설정
+ *
+ * - product / member        : NONSTRICT_READ_WRITE (거의 읽기만, 변경 시 커밋 후 무효화)
+ * - productOption           : READ_WRITE (재고 변경이 잦아 soft lock 으로 동시 갱신 중 stale 읽기 방지)
+ * - productOptionLookup     : 상품/색상/사이즈 옵션 조회 쿼리 캐시
+ * 영역은 XML 없이 여기서 직접 생성 (항목 수 상한 + TTL), 노드 간 무효화는 L2CacheInvalidator
+ * CacheManager 는 컨텍스트마다 고유 URI 로 만듦 - 기본 URI 는 클래스로더 단위 싱글턴이라 같은 JVM 에서
+ * 두 번째 컨텍스트(테스트 컨텍스트 캐시 등)가 뜨면 createCache 가 "이미 존재" 로 실패하고, 먼저 닫힌 쪽이 공유 매니저를 닫아버림
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("urn:crud:l2:" + UUID.randomUUID()),
+                new DefaultConfiguration(getClass().getClassLoader()));
+
+        Duration ttl = properties.timeToLive();
+        cacheManager.createCache(CacheRegions.PRODUCT, region(properties.productEntries(), ttl));
+        cacheManager.createCache(CacheRegions.MEMBER, region(properties.memberEntries(), ttl));
+        cacheManager.createCache(CacheRegions.MEMBER_ROLES, region(properties.memberEntries(), ttl));
+        cacheManager.createCache(CacheRegions.PRODUCT_OPTION, region(properties.productOptionEntries(), ttl));
+        cacheManager.createCache(CacheRegions.PRODUCT_OPTION_LOOKUP, region(properties.queryEntries(), ttl));
+        cacheManager.createCache(CacheRegions.DEFAULT_QUERY_RESULTS, region(properties.queryEntries(), ttl));
+        // 테이블별 마지막 갱신 시각 - 쿼리 결과보다 먼저 사라지면 안 되므로 만료 없음 (항목 수 = 테이블 수)
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000))
+                        .withExpiry(ExpiryPolicyBuilder.noExpiration())));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer l2InvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         L2CacheInvalidator invalidator,
+                                                                         SecondLevelCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(properties.channel()));
+        return container;
+    }
+
+    private static javax.cache.configuration.Configuration<Object, Object> region(long entries, Duration ttl) {
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(entries))
+                        .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.crud.common.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDENTITY → SEQUENCE 전환 테이블의 시퀀스 시작값 보정
+ *
+ * ddl-auto=update 는 새 시퀀스를 1부터 만들기 때문에 기존 행이 있으면 id 가 충돌함
+ * → 스키마 갱신 직후(웹 서버 기동 전) 시퀀스가 MAX(id) 보다 뒤처져 있을 때만 MAX(id) + allocationSize 로 이동
+ * (이미 앞서 있으면 건드리지 않음 - 다른 노드가 미리 받아 둔 id 구간을 다시 내주지 않도록)
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceAligner {
+
+    /** 엔티티 @SequenceGenerator allocationSize 와 같아야 함 */
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 → 시퀀스
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "order_item", "order_item_seq",
+            "cart_item", "cart_item_seq",
+            "product_option", "product_option_seq",
+            "conversation_message", "conversation_message_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                List<Long> moved = jdbcTemplate.queryForList("""
+                        SELECT setval('%1$s', m.max_id + %3$d, false)
+                          FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM %2$s) m
+                         WHERE (SELECT last_value FROM %1$s) <= m.max_id
+                        """.formatted(sequence, table, ALLOCATION_SIZE), Long.class);
+                if (!moved.isEmpty()) {
+                    log.info("시퀀스 보정: {} → {}", sequence, moved.get(0));
+                }
+            } catch (Exception e) {
+                log.warn("시퀀스 보정 실패: {} ({})", sequence, e.getMessage());
+            }
+        });
+    }
+}
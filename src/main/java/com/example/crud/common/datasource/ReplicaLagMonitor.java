@@ -0,0 +1,87 @@
+package com.example.crud.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * replica 복제 지연 감시
+ *
+ * - primary 의 현재 WAL 위치를 먼저 읽고, replica 가 그 위치까지 재생했으면 지연 0 (primary 가 한가할 때 지연으로 오인하지 않도록)
+ * - 아직 못 따라왔으면 지연 = 마지막으로 재생한 트랜잭션 이후 경과 시간
+ * - replica 가 "받은 WAL" 이 아니라 primary 기준으로 비교 → WAL 수신이 끊겨 더 받을 게 없어도 지연 0 으로 보이지 않음
+ * - 지연이 max-lag 를 넘거나 조회/커넥션에 실패하면 unhealthy → 모든 읽기를 primary 로, 다음 확인에서 회복
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // 재생 기록이 아직 없으면(replay_age NULL) 지연을 알 수 없음 → NULL
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_wal_lsn_diff(CAST(? AS pg_lsn), pg_last_wal_replay_lsn()) <= 0 THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            """;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ReplicaProperties properties;
+    private final AtomicBoolean healthy = new AtomicBoolean(false);
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource,
+                             ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.properties = properties;
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagSeconds)
+                .description("replica 복제 지연 (초, 확인 실패 시 -1)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.healthy", healthy, h -> h.get() ? 1 : 0)
+                .description("1 이면 읽기 전용 조회를 replica 로 보냄")
+                .register(meterRegistry);
+    }
+
+    public boolean isHealthy() {
+        return healthy.get();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval:PT5S}")
+    public void check() {
+        try {
+            String primaryLsn = primary.queryForObject(PRIMARY_LSN_SQL, String.class);
+            Double lag = replica.queryForObject(LAG_SQL, Double.class, primaryLsn);
+            if (lag == null) {
+                markDown(new IllegalStateException("replica 가 primary 의 WAL 을 재생한 기록이 없음 (lsn=" + primaryLsn + ")"));
+                return;
+            }
+            lagSeconds = lag;
+            boolean withinLimit = lagSeconds * 1000 <= properties.maxLag().toMillis();
+            if (healthy.getAndSet(withinLimit) != withinLimit) {
+                log.warn("replica 라우팅 {}: lag={}s, maxLag={}", withinLimit ? "재개" : "중단 (지연 초과)",
+                        String.format("%.3f", lagSeconds), properties.maxLag());
+            }
+        } catch (Exception e) {
+            markDown(e);
+        }
+    }
+
+    /**
+     * 커넥션/조회 실패 또는 지연을 알 수 없음 - 다음 확인 전까지 primary 사용
+     */
+    public void markDown(Exception cause) {
+        lagSeconds = -1;
+        if (healthy.getAndSet(false)) {
+            log.warn("replica 라우팅 중단 (확인 실패): {}", cause.toString());
+        }
+    }
+}
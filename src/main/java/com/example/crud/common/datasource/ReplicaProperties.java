@@ -0,0 +1,19 @@
+package com.example.crud.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정 - 풀 세부 설정은 datasource.replica.hikari.*
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username, // 비우면 spring.datasource.username
+        String password, // 비우면 spring.datasource.password
+        @DefaultValue("1s") Duration maxLag, // 복제 지연이 이보다 크면 읽기도 primary 로
+        @DefaultValue("PT5S") Duration checkInterval // 지연 확인 주기 (@Scheduled 에서 직접 참조)
+) {}
@@ -0,0 +1,47 @@
+package com.example.crud.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * readOnly 트랜잭션의 세션은 2차 캐시를 읽기만 하고 채우지 않음 (CacheMode.GET)
+ *
+ * readOnly 조회는 replica 로 갈 수 있는데, 복제 지연 중 읽은 옛 행이 NONSTRICT_READ_WRITE 영역에 들어가면
+ * primary 커밋 후 무효화가 이미 지나간 뒤라 TTL 동안 모든 노드가 옛 값을 봄 → 캐시는 primary 에서 읽은 행으로만 채움
+ * 트랜잭션이 끝나면 원래 CacheMode 로 되돌림 (open-in-view 로 세션이 이어지는 경우)
+ */
+public class ReplicaReadOnlyJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData data) {
+            data.session().setCacheMode(data.previousCacheMode());
+            super.cleanupTransaction(data.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
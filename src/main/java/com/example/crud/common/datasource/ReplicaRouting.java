@@ -0,0 +1,38 @@
+package com.example.crud.common.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회를 replica 로 보낼지 판단
+ *
+ * - @Transactional(readOnly = true) 안의 조회 (JPA 리포지토리, MyBatis 매퍼 모두)
+ * - 트랜잭션 밖에서 onReplica(...) 로 감싼 조회 (벡터 검색 등 DB CPU 를 많이 쓰는 읽기)
+ * 이미 커넥션을 잡은 쓰기 트랜잭션 안에서는 어느 쪽이든 그 커넥션(primary)을 그대로 사용
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> T onReplica(Supplier<T> query) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isReadOnly() {
+        return FORCED.get() != null || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.crud.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 조회는 replica, 나머지는 primary 로 커넥션을 내주는 DataSource
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 실행 시점에 대상을 고름 (DataSourceConfig)
+ * replica 커넥션 획득에 실패하면 그 자리에서 primary 로 재시도하고 replica 를 unhealthy 로 표시
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.primaryRoutes = meterRegistry.counter("datasource.routing", "target", "primary");
+        this.replicaRoutes = meterRegistry.counter("datasource.routing", "target", "replica");
+        this.fallbacks = meterRegistry.counter("datasource.routing", "target", "primary_fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReplicaRouting.isReadOnly() || !lagMonitor.isHealthy()) {
+            primaryRoutes.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaRoutes.increment();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markDown(e);
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
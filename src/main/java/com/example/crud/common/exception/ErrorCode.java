@@ -24,6 +24,9 @@ public enum ErrorCode {
     IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "product.image.upload.failed"),
     UNAUTHORIZED_PRODUCT_ACCESS(HttpStatus.FORBIDDEN, "product.access.denied"),
     PRODUCT_OPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "product.option.not.found"),
+    PRODUCT_IMPORT_INVALID_FILE(HttpStatus.BAD_REQUEST, "product.import.invalid.file"),
+    PRODUCT_IMPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "product.import.busy"),
+    PRODUCT_IMPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "product.import.not.found"),
 
     // Order Related Errors,
     ORDER_STOCK_RESTORE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "order.stock.restore.failed"),
@@ -76,7 +79,8 @@ public enum ErrorCode {
     CONVERSATION_INACTIVE(HttpStatus.BAD_REQUEST, "conversation.inactive"),
     AI_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "ai.service.unavailable"),
     EMBEDDING_GENERATION_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "ai.embedding.failed"),
-    INVALID_MESSAGE_INPUT(HttpStatus.BAD_REQUEST, "ai.invalid.message");
+    INVALID_MESSAGE_INPUT(HttpStatus.BAD_REQUEST, "ai.invalid.message"),
+    MESSAGE_SEARCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "conversation.search.unavailable");
 
 
     private final HttpStatus status;
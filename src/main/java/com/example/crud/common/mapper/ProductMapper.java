@@ -1,5 +1,7 @@
 package com.example.crud.common.mapper;
 
+import com.example.crud.data.product.dto.CatalogProductDto;
+import com.example.crud.data.product.dto.CatalogQueryDto;
 import com.example.crud.entity.Product;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -13,4 +15,10 @@ public interface ProductMapper {
     List<Product> findProductsByMemberId(@Param("memberId") Long memberId);
     Product findProductByNumber(@Param("number") Long number);
 
+    // 카탈로그 keyset 페이징 (cursorNumber 가 null 이면 첫 페이지)
+    List<CatalogProductDto> findCatalogPage(@Param("query") CatalogQueryDto query,
+                                            @Param("cursorPrice") Integer cursorPrice,
+                                            @Param("cursorNumber") Long cursorNumber,
+                                            @Param("limit") int limit);
+
 }
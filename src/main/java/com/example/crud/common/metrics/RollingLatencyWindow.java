@@ -0,0 +1,67 @@
+package com.example.crud.common.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N개의 지연시간(ms)을 보관하는 고정 크기 링 버퍼
+ *
+ * - 기록: lock-free (AtomicLong 커서 + AtomicLongArray), 핫패스에서 할당 없음
+ * - 조회: 스냅샷 복사 후 정렬. N이 수백 개 수준이라 요청당 호출해도 마이크로초 단위
+ */
+public class RollingLatencyWindow {
+
+    private final int capacity;
+    private final AtomicLongArray samples;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public RollingLatencyWindow(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 양수여야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    public void record(long millis) {
+        long index = cursor.getAndIncrement();
+        samples.set((int) (index % capacity), millis);
+    }
+
+    public int size() {
+        return (int) Math.min(cursor.get(), capacity);
+    }
+
+    /**
+     * @param quantile 0.0 ~ 1.0
+     * @return 백분위 지연시간(ms), 샘플이 없으면 -1
+     */
+    public long percentile(double quantile) {
+        return percentiles(quantile)[0];
+    }
+
+    /**
+     * 한 번의 정렬로 여러 백분위를 계산
+     */
+    public long[] percentiles(double... quantiles) {
+        long[] result = new long[quantiles.length];
+        int n = size();
+        if (n == 0) {
+            Arrays.fill(result, -1L);
+            return result;
+        }
+
+        long[] snapshot = new long[n];
+        for (int i = 0; i < n; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+
+        for (int i = 0; i < quantiles.length; i++) {
+            int rank = (int) Math.ceil(quantiles[i] * n) - 1;
+            result[i] = snapshot[Math.max(0, Math.min(n - 1, rank))];
+        }
+        return result;
+    }
+}
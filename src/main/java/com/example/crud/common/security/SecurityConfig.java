@@ -1,5 +1,6 @@
 package com.example.crud.common.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -58,6 +59,9 @@ public class SecurityConfig {
 
                 // URL별 권한 설정
                 .authorizeHttpRequests(authorize -> authorize
+                        // SSE 스트림 재디스패치: 최초 요청에서 이미 인가됨 (JWT 필터는 비동기 디스패치에서 재실행되지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 정적 리소스: 모든 사용자 허용
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/img/**", "/favicon.ico").permitAll()
@@ -65,14 +69,24 @@ public class SecurityConfig {
                         // 공개 페이지: 인증 불필요
                         .requestMatchers("/", "/register", "/login", "/logout").permitAll()
 
+                        // 카테고리 내비게이션/상품 수, 카탈로그 조회: 인증 불필요
+                        .requestMatchers("/api/categories/**", "/api/catalog/**").permitAll()
+
                         // API 테스트: 인증 불필요
                         .requestMatchers("/api/test/**").permitAll()
 
+                        // 임베딩 Mock 서버 (embedding.mock-server.enabled=true 일 때만 존재)
+                        .requestMatchers("/mock/openai/**").permitAll()
+
                         // 보호된 페이지: USER 권한 필요
                         .requestMatchers("/mypage/**").hasRole("USER")
                         .requestMatchers("/cart/**").hasRole("USER")
                         .requestMatchers("/product/**").hasRole("USER")
 
+                        // 상담사 전용: 대화 이력 검색/재색인, 추천 성과 지표(CTR/CVR)
+                        .requestMatchers("/api/support/**").hasRole("SUPPORT")
+                        .requestMatchers("/api/recommendation/metrics").hasRole("SUPPORT")
+
                         // 나머지: 인증 필요
                         .anyRequest().authenticated()
                 )
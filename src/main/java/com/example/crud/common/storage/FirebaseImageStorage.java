@@ -0,0 +1,104 @@
+package com.example.crud.common.storage;
+
+import com.example.crud.common.config.ImageStorageProperties;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.firebase.cloud.StorageClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Firebase Storage 저장소
+ *
+ * - storage.create(blobInfo, bytes) 대신 재개 가능 업로드(WriteChannel)로 청크 단위 전송 → 힙에는 청크 1개만
+ * - 업로드 도중 실패하면 이미 올라간 부분 객체를 지우고 예외 전파
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage.image", name = "type", havingValue = "firebase", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FirebaseImageStorage implements ImageStorage {
+
+    private static final String URL_PREFIX = "https://firebasestorage.googleapis.com/v0/b/";
+
+    private final ImageStorageProperties properties;
+
+    @Override
+    public String store(String originalFilename, String contentType, InputStream content) throws IOException {
+        String objectName = ImageStorage.objectName(originalFilename);
+        BlobId blobId = BlobId.of(properties.bucket(), objectName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType(contentType).build();
+
+        Storage storage = storage();
+        WriteChannel writer = storage.writer(blobInfo);
+        writer.setChunkSize((int) properties.uploadChunkSize().toBytes());
+        try (OutputStream out = Channels.newOutputStream(writer)) {
+            content.transferTo(out);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(storage, blobId);
+            throw e;
+        }
+
+        return objectPrefix() + URLEncoder.encode(objectName, StandardCharsets.UTF_8) + "?alt=media";
+    }
+
+    @Override
+    public InputStream open(String url) throws IOException {
+        String objectName = objectName(url);
+        if (objectName == null) {
+            throw new IOException("Firebase Storage URL 이 아닙니다: " + url);
+        }
+        return Channels.newInputStream(storage().reader(BlobId.of(properties.bucket(), objectName)));
+    }
+
+    @Override
+    public void delete(String url) {
+        String objectName = objectName(url);
+        if (objectName == null) {
+            log.debug("이 버킷의 URL 이 아니라 삭제 생략: {}", url);
+            return;
+        }
+        deleteQuietly(storage(), BlobId.of(properties.bucket(), objectName));
+    }
+
+    private void deleteQuietly(Storage storage, BlobId blobId) {
+        try {
+            storage.delete(blobId);
+        } catch (RuntimeException e) {
+            log.error("이미지 삭제 실패: {} - {}", blobId.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * .../o/{URL 인코딩된 객체 이름}?alt=media → 객체 이름 (대량 등록으로 들어온 외부 URL 등은 null)
+     */
+    private String objectName(String url) {
+        String prefix = objectPrefix();
+        if (url == null || !url.startsWith(prefix)) {
+            return null;
+        }
+        int query = url.indexOf('?', prefix.length());
+        String encoded = query < 0 ? url.substring(prefix.length()) : url.substring(prefix.length(), query);
+        return URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+    }
+
+    private String objectPrefix() {
+        return URL_PREFIX + properties.bucket() + "/o/";
+    }
+
+    private Storage storage() {
+        return StorageClient.getInstance().bucket(properties.bucket()).getStorage();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.crud.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * 이미지 원본/썸네일 저장소
+ *
+ * - store 는 입력 스트림을 저장소로 바로 흘려보냄 → 파일 전체를 힙에 올리지 않음
+ * - 네트워크 I/O 라 DB 트랜잭션 밖에서 호출하고, 이후 저장이 실패하면 delete 로 보상 삭제
+ * - storage.image.type 으로 구현 선택 (FIREBASE / LOCAL)
+ */
+public interface ImageStorage {
+
+    /**
+     * @return 화면에서 그대로 쓸 수 있는 공개 URL
+     */
+    String store(String originalFilename, String contentType, InputStream content) throws IOException;
+
+    /**
+     * 이 저장소가 발급한 URL 의 내용을 스트림으로 (썸네일 생성용)
+     */
+    InputStream open(String url) throws IOException;
+
+    /**
+     * 보상 삭제/정리 경로에서 호출 → 실패해도 예외 없이 로그만 (이 저장소가 발급하지 않은 URL 은 무시)
+     */
+    void delete(String url);
+
+    /**
+     * 이름 충돌 방지용 UUID 접두어
+     */
+    static String objectName(String originalFilename) {
+        String name = originalFilename == null || originalFilename.isBlank() ? "image" : originalFilename;
+        return UUID.randomUUID() + "-" + name;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.crud.common.storage;
+
+import com.example.crud.common.config.ImageStorageProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디스크 저장소 (테스트/벤치마크용)
+ *
+ * - Firebase 자격 증명/네트워크 없이 업로드 경로 전체를 그대로 실행
+ * - 임시 파일에 쓴 뒤 이동 → 쓰는 도중의 파일이 URL 로 노출되지 않음
+ * - 저장 파일은 urlPrefix 정적 리소스로 내려줌 (/images/** 는 인증 없이 허용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage.image", name = "type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage, WebMvcConfigurer {
+
+    private final Path root;
+    private final String urlPrefix;
+
+    @Autowired
+    public LocalImageStorage(ImageStorageProperties properties) {
+        this(properties.local().root(), properties.local().urlPrefix());
+    }
+
+    public LocalImageStorage(Path root, String urlPrefix) {
+        this.root = root.toAbsolutePath().normalize();
+        this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/";
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public String store(String originalFilename, String contentType, InputStream content) throws IOException {
+        String fileName = sanitize(ImageStorage.objectName(originalFilename));
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, root.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return urlPrefix + fileName;
+    }
+
+    @Override
+    public InputStream open(String url) throws IOException {
+        Path file = resolve(url);
+        if (file == null) {
+            throw new IOException("로컬 저장소 URL 이 아닙니다: " + url);
+        }
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public void delete(String url) {
+        Path file = resolve(url);
+        if (file == null) {
+            log.debug("로컬 저장소 URL 이 아니라 삭제 생략: {}", url);
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("이미지 삭제 실패: {} - {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(urlPrefix + "**")
+                .addResourceLocations(root.toUri().toString());
+    }
+
+    /**
+     * URL → 저장 디렉터리 안의 파일 (접두어가 다르거나 디렉터리 밖을 가리키면 null)
+     */
+    private Path resolve(String url) {
+        if (url == null || !url.startsWith(urlPrefix)) {
+            return null;
+        }
+        Path file = root.resolve(url.substring(urlPrefix.length())).normalize();
+        return file.getParent() != null && file.getParent().equals(root) ? file : null;
+    }
+
+    // 경로 구분자/상위 경로 표기가 파일 이름에 섞이지 않도록 영문/숫자/.-_ 외에는 '_'
+    private static String sanitize(String fileName) {
+        return fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
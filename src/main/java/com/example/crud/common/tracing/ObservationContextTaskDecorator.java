@@ -0,0 +1,51 @@
+package com.example.crud.common.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * 작업 제출 스레드의 Observation 스코프와 MDC 를 풀 스레드로 전달
+ * (dbTaskExecutor 등에서 실행되는 단계가 요청 turn 하위로 묶이도록)
+ */
+public class ObservationContextTaskDecorator implements TaskDecorator {
+
+    private final ObservationRegistry registry;
+
+    public ObservationContextTaskDecorator(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Observation observation = registry.getCurrentObservation();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        if (observation == null && mdc == null) {
+            return runnable;
+        }
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                if (observation == null) {
+                    runnable.run();
+                } else {
+                    try (Observation.Scope scope = observation.openScope()) {
+                        runnable.run();
+                    }
+                }
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
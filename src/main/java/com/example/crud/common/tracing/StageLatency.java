@@ -0,0 +1,13 @@
+package com.example.crud.common.tracing;
+
+/**
+ * 단계별 지연 요약 (최근 percentile-window 기준)
+ */
+public record StageLatency(
+        String stage,
+        long count,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs
+) {}
@@ -0,0 +1,145 @@
+package com.example.crud.common.tracing;
+
+import com.example.crud.common.aspect.TracingProperties;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내 단계별 지연 수집기 (외부 트레이싱 백엔드 없이 p50/p95/p99)
+ *
+ * - pipeline.stage 종료 시 pipeline.stage.latency{pipeline, stage} Timer 에 기록 (클라이언트 측 백분위, 최근 window)
+ * - 같은 turn 의 단계 시간을 turn 컨텍스트에 모아 두었다가 turn 종료 시 한 줄로 출력
+ *   (slow-turn-threshold 초과는 WARN, 그 외 DEBUG) → 임베딩/DB/변환 중 어디가 느린지 요청 단위로 확인
+ */
+@Component
+@Slf4j
+public class StageLatencyCollector implements ObservationHandler<Observation.Context> {
+
+    private static final String TOTAL = "total";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private record StartNanos(long value) {}
+    private record Breakdown(Map<String, Long> millisByStage) {}
+
+    private final MeterRegistry meterRegistry;
+    private final TracingProperties properties;
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public StageLatencyCollector(MeterRegistry meterRegistry, TracingProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return StageTracer.TURN.equals(context.getName()) || StageTracer.STAGE.equals(context.getName());
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(StartNanos.class, new StartNanos(System.nanoTime()));
+        if (StageTracer.TURN.equals(context.getName())) {
+            context.put(Breakdown.class, new Breakdown(new ConcurrentHashMap<>()));
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        StartNanos started = context.get(StartNanos.class);
+        if (started == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - started.value();
+        String pipeline = value(context, StageTracer.PIPELINE_KEY, "none");
+
+        if (StageTracer.STAGE.equals(context.getName())) {
+            String stage = value(context, StageTracer.STAGE_KEY, "unknown");
+            timer(pipeline, stage).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            Breakdown breakdown = findTurnBreakdown(context);
+            if (breakdown != null) {
+                breakdown.millisByStage().merge(stage, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Long::sum);
+            }
+            return;
+        }
+
+        timer(pipeline, TOTAL).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        Breakdown breakdown = context.get(Breakdown.class);
+        boolean failed = context.getError() != null;
+        if (totalMs >= properties.slowTurnThreshold().toMillis()) {
+            log.warn("pipeline={} totalMs={} error={} stages={}", pipeline, totalMs, failed,
+                    breakdown != null ? breakdown.millisByStage() : Map.of());
+        } else if (log.isDebugEnabled()) {
+            log.debug("pipeline={} totalMs={} error={} stages={}", pipeline, totalMs, failed,
+                    breakdown != null ? breakdown.millisByStage() : Map.of());
+        }
+    }
+
+    /**
+     * 파이프라인 단계별 최근 지연 요약 (total 포함, p95 내림차순)
+     */
+    public List<StageLatency> snapshot(String pipeline) {
+        Map<String, Timer> stages = timers.getOrDefault(pipeline, Map.of());
+        List<StageLatency> result = new ArrayList<>(stages.size());
+        stages.forEach((stage, timer) -> {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            double[] values = new double[PERCENTILES.length];
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    if (percentile.percentile() == PERCENTILES[i]) {
+                        values[i] = percentile.value(TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+            result.add(new StageLatency(stage, snapshot.count(), values[0], values[1], values[2],
+                    snapshot.max(TimeUnit.MILLISECONDS)));
+        });
+        result.sort(Comparator.comparingDouble(StageLatency::p95Ms).reversed());
+        return result;
+    }
+
+    private Timer timer(String pipeline, String stage) {
+        return timers.computeIfAbsent(pipeline, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(stage, s -> Timer.builder("pipeline.stage.latency")
+                        .description("파이프라인 단계별 지연 (프로세스 내 백분위)")
+                        .tag(StageTracer.PIPELINE_KEY, pipeline)
+                        .tag(StageTracer.STAGE_KEY, s)
+                        .publishPercentiles(PERCENTILES)
+                        .distributionStatisticExpiry(properties.percentileWindow())
+                        .distributionStatisticBufferLength(5)
+                        .register(meterRegistry));
+    }
+
+    private static Breakdown findTurnBreakdown(Observation.ContextView context) {
+        ObservationView parent = context.getParentObservation();
+        while (parent != null) {
+            Observation.ContextView view = parent.getContextView();
+            Breakdown breakdown = view.get(Breakdown.class);
+            if (breakdown != null) {
+                return breakdown;
+            }
+            parent = view.getParentObservation();
+        }
+        return null;
+    }
+
+    private static String value(Observation.ContextView context, String key, String defaultValue) {
+        KeyValue keyValue = context.getLowCardinalityKeyValue(key);
+        return keyValue != null ? keyValue.getValue() : defaultValue;
+    }
+}
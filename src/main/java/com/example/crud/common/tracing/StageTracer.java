@@ -0,0 +1,112 @@
+package com.example.crud.common.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 파이프라인 단계별 Observation 헬퍼
+ *
+ * - turn  : 요청 1건 전체 (pipeline.turn{pipeline})
+ * - stage : 그 안의 단계 (pipeline.stage{pipeline, stage}), 부모는 명시적으로 전달
+ *
+ * CompletableFuture/Reactor 콜백은 임의 스레드(Netty 등)에서 실행되므로 ThreadLocal 스코프에 기대지 않고
+ * 진입 시점에 current() 로 부모를 잡아 두었다가 넘김. 풀 스레드로의 전파는 ObservationContextTaskDecorator 가 담당
+ */
+@Component
+public class StageTracer {
+
+    public static final String TURN = "pipeline.turn";
+    public static final String STAGE = "pipeline.stage";
+    public static final String PIPELINE_KEY = "pipeline";
+    public static final String STAGE_KEY = "stage";
+
+    private final ObservationRegistry registry;
+
+    public StageTracer(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Observation startTurn(String pipeline) {
+        return Observation.createNotStarted(TURN, registry)
+                .lowCardinalityKeyValue(PIPELINE_KEY, pipeline)
+                .start();
+    }
+
+    public void endTurn(Observation turn, Throwable error) {
+        if (error != null) {
+            turn.error(error);
+        }
+        turn.stop();
+    }
+
+    /**
+     * 현재 스레드에 열린 Observation (없으면 null)
+     */
+    public Observation current() {
+        return registry.getCurrentObservation();
+    }
+
+    /**
+     * parent 스코프 안에서 실행 - 그 안에서 시작한 단계/제출한 작업이 parent 하위로 묶임
+     */
+    public <T> T inScope(Observation parent, Supplier<T> work) {
+        if (parent == null) {
+            return work.get();
+        }
+        try (Observation.Scope scope = parent.openScope()) {
+            return work.get();
+        }
+    }
+
+    public <T> T stage(Observation parent, String stage, Supplier<T> work) {
+        Observation observation = child(parent, stage).start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return work.get();
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 비동기 단계 - future 완료 시점에 종료
+     */
+    public <T> CompletableFuture<T> stageAsync(Observation parent, String stage, Supplier<CompletableFuture<T>> work) {
+        Observation observation = child(parent, stage).start();
+        CompletableFuture<T> future;
+        try (Observation.Scope scope = observation.openScope()) {
+            future = work.get();
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+        return future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                observation.error(ex);
+            }
+            observation.stop();
+        });
+    }
+
+    private Observation child(Observation parent, String stage) {
+        String pipeline = "none";
+        if (parent != null) {
+            KeyValue keyValue = parent.getContext().getLowCardinalityKeyValue(PIPELINE_KEY);
+            if (keyValue != null) {
+                pipeline = keyValue.getValue();
+            }
+        }
+        return Observation.createNotStarted(STAGE, registry)
+                .parentObservation(parent)
+                .lowCardinalityKeyValue(PIPELINE_KEY, pipeline)
+                .lowCardinalityKeyValue(STAGE_KEY, stage);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.crud.common.utility;
 
+import com.example.crud.common.cache.L2CacheInvalidator;
 import com.example.crud.entity.Member;
 import com.example.crud.common.mapper.MemberMapper;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ public class PasswordReencoderService {
 
     private final MemberMapper memberMapper;
     private final PasswordEncoder passwordEncoder;
+    private final L2CacheInvalidator l2CacheInvalidator;
 
     @Transactional
     public void reencodeAllPassword() {
@@ -27,6 +29,7 @@ public class PasswordReencoderService {
                 member.changePassword(encodedPassword);
 
                 memberMapper.updateMember(member);
+                l2CacheInvalidator.evictAfterCommit(Member.class, member.getNumber()); // MyBatis 갱신은 2차 캐시가 모름
                 System.out.println("비밀번호 재 인코딩: " + member.getEmail());
             }
         }
@@ -1,5 +1,6 @@
 package com.example.crud.common.validator;
 
+import com.example.crud.common.cache.L2CacheInvalidator;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
 import com.example.crud.entity.ProductOption;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class StockValidator {
 
     private final ProductOptionRepository productOptionRepository;
+    private final L2CacheInvalidator l2CacheInvalidator;
 
     /**
      * 재고 충분 여부 검증
@@ -52,6 +54,8 @@ public class StockValidator {
                 productOptionRepository.decreaseStock(productOptionId, quantity),
                 ErrorCode.ORDER_INSUFFICIENT_STOCK
         );
+        // 네이티브 UPDATE 는 엔티티 이벤트가 없으므로 다른 노드의 2차 캐시는 직접 무효화
+        l2CacheInvalidator.evictAfterCommit(ProductOption.class, productOptionId);
     }
 
     /**
@@ -66,11 +70,12 @@ public class StockValidator {
                 productOptionRepository.increaseStock(productOptionId, quantity),
                 ErrorCode.ORDER_STOCK_RESTORE_FAILED
         );
+        l2CacheInvalidator.evictAfterCommit(ProductOption.class, productOptionId);
     }
 
     /**
      * 재고 업데이트 결과 검증
-     * - 로깅은 LoggingAspect에서 자동 처리 (AOP)
+     * - 로깅/지표는 TracingAspect에서 자동 처리 (AOP)
      */
     private void validateStockUpdate(int updatedRows, ErrorCode errorCode) {
         if (updatedRows == 0) {
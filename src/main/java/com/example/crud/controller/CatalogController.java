@@ -0,0 +1,28 @@
+package com.example.crud.controller;
+
+import com.example.crud.data.product.dto.CatalogPageDto;
+import com.example.crud.data.product.dto.CatalogQueryDto;
+import com.example.crud.data.product.service.ProductCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final ProductCatalogService productCatalogService;
+
+    /**
+     * 예) /api/catalog?category=TOP&subCategory=티셔츠&minPrice=30000&maxPrice=50000&sort=PRICE_ASC&size=20
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+     */
+    @GetMapping
+    public ResponseEntity<CatalogPageDto> catalog(@ModelAttribute CatalogQueryDto query) {
+        return ResponseEntity.ok(productCatalogService.getCatalogPage(query));
+    }
+}
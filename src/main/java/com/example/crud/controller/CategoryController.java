@@ -0,0 +1,31 @@
+package com.example.crud.controller;
+
+import com.example.crud.data.category.dto.CategoryFacetDto;
+import com.example.crud.data.category.dto.CategoryGroupDto;
+import com.example.crud.data.category.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    @GetMapping
+    public ResponseEntity<List<CategoryGroupDto>> categories() {
+        return ResponseEntity.ok(categoryService.getCategoryGroups());
+    }
+
+    // 카테고리/서브카테고리/가격 구간별 상품 수 (메모리 집계, 요청마다 COUNT 쿼리 없음)
+    @GetMapping("/facets")
+    public ResponseEntity<List<CategoryFacetDto>> facets() {
+        return ResponseEntity.ok(categoryService.getCategoryFacets());
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.crud.controller;
 
+import com.example.crud.ai.analytics.application.InteractionRecorder;
+import com.example.crud.ai.analytics.domain.Audience;
+import com.example.crud.ai.conversation.application.query.ConversationQueryService;
+import com.example.crud.ai.conversation.domain.dto.ConversationMessageDto;
 import com.example.crud.ai.conversation.domain.entity.Conversation;
 import com.example.crud.ai.conversation.domain.repository.ConversationRepository;
 import com.example.crud.ai.recommendation.application.ConversationalRecommendationService;
@@ -13,16 +17,21 @@ import com.example.crud.enums.ConversationStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -35,6 +44,8 @@ public class ConversationController {
     private final ConversationalRecommendationService crService;
     private final MemberFindService memberFindService;
     private final ConversationRepository cRepository;
+    private final ConversationQueryService queryService;
+    private final InteractionRecorder interactionRecorder;
 
     @PostMapping("/start")
     public ResponseEntity<Map<String, Object>> startConversation(Authentication auth) {
@@ -65,26 +76,41 @@ public class ConversationController {
             @Valid @RequestBody UserMessageRequestDto requestDto,
             Authentication auth) {
 
-        Conversation conv = cRepository.findById(conversationId)
-                .orElseThrow(() -> new BaseException(ErrorCode.CONVERSATION_NOT_FOUND));
-
-        if (!conv.getMember().getEmail().equals(auth.getName())) {
-            throw new BaseException(ErrorCode.CONVERSATION_UNAUTHORIZED);
-        }
-
-        if (conv.getStatus() != ConversationStatus.ACTIVE) {
-            throw new BaseException(ErrorCode.CONVERSATION_INACTIVE);
-        }
+        Conversation conv = validateActiveConversation(conversationId, auth);
+        Audience audience = interactionRecorder.audienceOf(conv.getMember());
 
         RecommendationResponseDto response;
         try {
-            response = crService.processUserMessage(conversationId, requestDto.getMessage()).join();
+            response = crService.processUserMessage(conversationId, audience, requestDto.getMessage()).join();
         } catch (Exception ex) {
             throw new BaseException(ErrorCode.AI_SERVICE_UNAVAILABLE, ex.getMessage());
         }
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자 메시지 처리 및 추천 (SSE 스트리밍)
+     * ack → matches → products → text(분할) → done 순서로 단계가 끝나는 즉시 전송
+     */
+    @PostMapping(value = "/{conversationId}/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamMessage(
+            @PathVariable Long conversationId,
+            @Valid @RequestBody UserMessageRequestDto requestDto,
+            Authentication auth) {
+
+        Conversation conv = validateActiveConversation(conversationId, auth);
+        return crService.streamUserMessage(conversationId, interactionRecorder.audienceOf(conv.getMember()), requestDto.getMessage());
+    }
+
+    /**
+     * 대화 메시지 목록 (추천 응답은 조회 시점에 템플릿으로 렌더링)
+     */
+    @GetMapping("/{conversationId}/messages")
+    public ResponseEntity<List<ConversationMessageDto>> getMessages(@PathVariable Long conversationId, Authentication auth) {
+        getOwnedConversation(conversationId, auth);
+        return ResponseEntity.ok(queryService.getMessages(conversationId));
+    }
+
     @PostMapping("/{conversationId}/end")
     public ResponseEntity<Map<String, Object>> endConversation(@PathVariable Long conversationId, Authentication auth) {
         Conversation conv = cRepository.findById(conversationId)
@@ -102,4 +128,16 @@ public class ConversationController {
         return ResponseEntity.ok(response);
     }
 
+    private Conversation getOwnedConversation(Long conversationId, Authentication auth) {
+        return queryService.getOwnedConversation(conversationId, auth.getName());
+    }
+
+    private Conversation validateActiveConversation(Long conversationId, Authentication auth) {
+        Conversation conv = getOwnedConversation(conversationId, auth);
+
+        if (conv.getStatus() != ConversationStatus.ACTIVE) {
+            throw new BaseException(ErrorCode.CONVERSATION_INACTIVE);
+        }
+        return conv;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.crud.controller;
 
+import com.example.crud.ai.analytics.application.InteractionRecorder;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
 import com.example.crud.data.member.dto.response.MemberResponse;
@@ -30,6 +31,7 @@ public class ProductController {
     private static final Logger log = LoggerFactory.getLogger(ProductController.class);
     private final ProductService productService;
     private final MemberFindService memberFindService;
+    private final InteractionRecorder interactionRecorder;
 
     @GetMapping
     public String product() {
@@ -83,6 +85,7 @@ public class ProductController {
 
         MemberResponse member = memberFindService.getCurrentMember();
         model.addAttribute("member", member);
+        interactionRecorder.recordView(member.number(), id);
         return "fragments/productDetail";
     }
 }
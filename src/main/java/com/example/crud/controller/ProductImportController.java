@@ -0,0 +1,49 @@
+package com.example.crud.controller;
+
+import com.example.crud.data.member.service.find.MemberFindService;
+import com.example.crud.data.product.dto.ProductImportJobDto;
+import com.example.crud.data.product.service.ProductImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * 상품 대량 등록 (CSV / JSON Lines)
+ *
+ * 열: sku, name, brand, price, imageUrl, intro, description, category(TOP 또는 상의), subCategory, options
+ * options - CSV: "블랙:M:10|화이트:L:5", JSONL: [{"color":"블랙","size":"M","stock":10}]
+ * 같은 판매자의 같은 sku 는 갱신 (옵션은 색상+사이즈 기준 재고 갱신/추가)
+ */
+@RestController
+@RequestMapping("/product/import")
+@RequiredArgsConstructor
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+    private final MemberFindService memberFindService;
+
+    @PostMapping
+    public ResponseEntity<ProductImportJobDto> startImport(@RequestParam("file") MultipartFile file) {
+        ProductImportJobDto job = productImportService.startImport(file, memberFindService.getCurrentMemberEntity());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProductImportJobDto> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(productImportService.getImportJob(jobId, memberFindService.getCurrentMemberEntity()));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ProductImportJobDto>> getImportJobs() {
+        return ResponseEntity.ok(productImportService.getImportJobs(memberFindService.getCurrentMemberEntity()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.crud.data.cart.service.add;
 
+import com.example.crud.ai.analytics.application.InteractionRecorder;
 import com.example.crud.common.security.SecurityUtil;
 import com.example.crud.data.cart.service.create.CreateCartService;
 import com.example.crud.data.cart.validator.CartValidator;
@@ -25,6 +26,7 @@ public class AddCartItemService {
     private final ProductFindService productFindService;
     private final CartValidator cartValidator;
     private final CreateCartService createCartService;
+    private final InteractionRecorder interactionRecorder;
 
     @Transactional
     public void addCartItem(Long productId, String color, String size, int quantity) {
@@ -52,5 +54,6 @@ public class AddCartItemService {
             );
 
         // JPA 더티체킹으로 자동 저장
+        interactionRecorder.recordCart(memberId, product.getNumber());
     }
 }
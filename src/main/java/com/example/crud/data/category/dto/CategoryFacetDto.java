@@ -0,0 +1,20 @@
+package com.example.crud.data.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacetDto {
+    private String value; // Category enum 이름
+    private String groupName;
+    private long count;
+    private List<FacetCountDto> subCategories;
+    private List<FacetCountDto> priceBuckets;
+}
@@ -0,0 +1,16 @@
+package com.example.crud.data.category.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDto {
+    private String value; // 필터 파라미터 값
+    private String name; // 화면에 표시할 이름
+    private long count;
+}
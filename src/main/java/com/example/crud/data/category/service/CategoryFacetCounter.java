@@ -0,0 +1,202 @@
+package com.example.crud.data.category.service;
+
+import com.example.crud.common.config.CategoryFacetProperties;
+import com.example.crud.data.category.dto.CategoryFacetDto;
+import com.example.crud.data.category.dto.FacetCountDto;
+import com.example.crud.data.product.event.ProductFacetChangedEvent;
+import com.example.crud.data.product.event.ProductsImportedEvent;
+import com.example.crud.enums.Category;
+import com.example.crud.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.NumberFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.example.crud.common.utility.NativeQueryResultExtractor.*;
+
+/**
+ * 카테고리/서브카테고리/가격 구간별 상품 수 (메모리 집계)
+ *
+ * - (카테고리, 서브카테고리, 가격 구간) 단위 카운터를 상품 생성/수정/삭제 커밋 후 증감
+ * - 기동 직후 1회 + reconcile-interval 주기로 SQL GROUP BY 결과로 통째 교체 (가격 구간도 SQL 에서 나눠 구간 단위로 묶음)
+ *   → 다른 노드에서 일어난 변경, 교체 중 유실된 증감, MyBatis 직접 갱신은 다음 대조에서 맞춰짐
+ * - 조회는 수백 개 카운터 합산뿐이라 내비게이션/필터 칩 요청마다 COUNT(*) 를 실행하지 않음
+ */
+@Component
+@Slf4j
+public class CategoryFacetCounter {
+
+    private record Key(Category category, String subCategory, int bucket) {}
+
+    private final ProductRepository productRepository;
+    private final Executor dbTaskExecutor;
+    private final int[] priceBounds;
+    private final String priceBoundsParam;
+    private final List<FacetCountDto> priceBucketLabels;
+
+    private volatile Map<Key, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    public CategoryFacetCounter(ProductRepository productRepository, Executor dbTaskExecutor,
+                                CategoryFacetProperties properties) {
+        this.productRepository = productRepository;
+        this.dbTaskExecutor = dbTaskExecutor;
+        this.priceBounds = properties.priceBounds().stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        this.priceBoundsParam = Arrays.stream(priceBounds).mapToObj(String::valueOf)
+                .collect(Collectors.joining(",", "{", "}"));
+        this.priceBucketLabels = buildBucketLabels(priceBounds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        // 기동 지연 방지: 첫 집계는 DB 스레드 풀에서
+        dbTaskExecutor.execute(this::reconcile);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductFacetChanged(ProductFacetChangedEvent event) {
+        if (event.getBefore() != null) {
+            add(event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            add(event.getAfter(), 1);
+        }
+    }
+
+    // 대량 등록은 JDBC 로 저장해 상품별 이벤트가 없으므로 끝나면 바로 다시 집계
+    @EventListener
+    public void onProductsImported(ProductsImportedEvent event) {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${category.facet.reconcile-interval:PT10M}",
+            initialDelayString = "${category.facet.reconcile-interval:PT10M}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return; // 이미 집계 중
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Map<Key, AtomicLong> fresh = new ConcurrentHashMap<>();
+            for (Object[] row : productRepository.countByFacet(priceBoundsParam)) {
+                String category = extractString(row[0], "category");
+                if (category == null) {
+                    continue;
+                }
+                Key key = new Key(Category.valueOf(category), extractString(row[1], "subCategory"),
+                        extractInteger(row[2], "bucket"));
+                fresh.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(extractLong(row[3], "count"));
+            }
+
+            Map<Key, AtomicLong> previous = counts;
+            counts = fresh;
+
+            int drift = 0;
+            Set<Key> keys = new HashSet<>(previous.keySet());
+            keys.addAll(fresh.keySet());
+            for (Key key : keys) {
+                if (value(previous, key) != value(fresh, key)) {
+                    drift++;
+                }
+            }
+            log.info("카테고리 상품 수 대조 완료: {}개 구간, 불일치 {}개, {}ms",
+                    fresh.size(), drift, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("카테고리 상품 수 대조 실패 - 이전 집계 유지", e);
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    /**
+     * 카테고리 트리 순서대로 카테고리/서브카테고리/가격 구간 상품 수
+     */
+    public List<CategoryFacetDto> facets() {
+        Map<Category, long[]> totals = new EnumMap<>(Category.class);
+        Map<Category, Map<String, Long>> subTotals = new EnumMap<>(Category.class);
+        for (Map.Entry<Key, AtomicLong> e : counts.entrySet()) {
+            Key key = e.getKey();
+            long count = e.getValue().get();
+            long[] perCategory = totals.computeIfAbsent(key.category(), c -> new long[priceBounds.length + 2]);
+            perCategory[0] += count;
+            perCategory[key.bucket() + 1] += count;
+            if (key.subCategory() != null) {
+                subTotals.computeIfAbsent(key.category(), c -> new HashMap<>())
+                        .merge(key.subCategory(), count, Long::sum);
+            }
+        }
+
+        List<CategoryFacetDto> facets = new ArrayList<>(Category.values().length);
+        for (Category category : Category.values()) {
+            long[] perCategory = totals.getOrDefault(category, new long[priceBounds.length + 2]);
+            Map<String, Long> perSub = subTotals.getOrDefault(category, Map.of());
+
+            List<FacetCountDto> subCategories = new ArrayList<>();
+            for (String sub : category.getSubCategories()) {
+                subCategories.add(new FacetCountDto(sub, sub, Math.max(0, perSub.getOrDefault(sub, 0L))));
+            }
+            List<FacetCountDto> priceBuckets = new ArrayList<>(priceBucketLabels.size());
+            for (int i = 0; i < priceBucketLabels.size(); i++) {
+                FacetCountDto label = priceBucketLabels.get(i);
+                priceBuckets.add(new FacetCountDto(label.getValue(), label.getName(), Math.max(0, perCategory[i + 1])));
+            }
+            facets.add(new CategoryFacetDto(category.name(), category.getGroupName(),
+                    Math.max(0, perCategory[0]), subCategories, priceBuckets));
+        }
+        return facets;
+    }
+
+    private void add(ProductFacetChangedEvent.Facet facet, long delta) {
+        if (facet.category() == null) {
+            return;
+        }
+        Key key = new Key(facet.category(), facet.subCategory(), bucket(facet.price()));
+        counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+    }
+
+    /**
+     * 가격 구간 번호 (0 = 첫 경계 미만, priceBounds.length = 마지막 경계 이상) - countByFacet 의 width_bucket 과 같은 규칙
+     */
+    int bucket(Integer price) {
+        int value = price == null ? 0 : price;
+        int index = Arrays.binarySearch(priceBounds, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static long value(Map<Key, AtomicLong> map, Key key) {
+        AtomicLong count = map.get(key);
+        return count == null ? 0 : count.get();
+    }
+
+    private static List<FacetCountDto> buildBucketLabels(int[] bounds) {
+        NumberFormat won = NumberFormat.getNumberInstance(Locale.KOREA);
+        List<FacetCountDto> labels = new ArrayList<>(bounds.length + 1);
+        for (int i = 0; i <= bounds.length; i++) {
+            String from = i == 0 ? "" : String.valueOf(bounds[i - 1]);
+            String to = i == bounds.length ? "" : String.valueOf(bounds[i]);
+            String name;
+            if (bounds.length == 0) {
+                name = "전체";
+            } else if (i == 0) {
+                name = won.format(bounds[0]) + "원 미만";
+            } else if (i == bounds.length) {
+                name = won.format(bounds[i - 1]) + "원 이상";
+            } else {
+                name = won.format(bounds[i - 1]) + "원 ~ " + won.format(bounds[i]) + "원";
+            }
+            labels.add(new FacetCountDto(from + "-" + to, name, 0));
+        }
+        return List.copyOf(labels);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.crud.data.category.service;
 
+import com.example.crud.data.category.dto.CategoryFacetDto;
 import com.example.crud.data.category.dto.CategoryGroupDto;
 
 import java.util.List;
@@ -7,4 +8,6 @@ import java.util.List;
 
 public interface CategoryService {
     List<CategoryGroupDto> getCategoryGroups();
+
+    List<CategoryFacetDto> getCategoryFacets();
 }
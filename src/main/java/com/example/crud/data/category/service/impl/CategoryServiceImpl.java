@@ -1,31 +1,46 @@
 package com.example.crud.data.category.service.impl;
 
 import com.example.crud.data.category.dto.CategoryDto;
+import com.example.crud.data.category.dto.CategoryFacetDto;
 import com.example.crud.data.category.dto.CategoryGroupDto;
+import com.example.crud.data.category.service.CategoryFacetCounter;
 import com.example.crud.data.category.service.CategoryService;
 import com.example.crud.enums.Category;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
+    // Category enum 은 런타임에 바뀌지 않으므로 트리는 한 번만 만들어 모든 요청이 공유
+    private static final List<CategoryGroupDto> CATEGORY_TREE = buildCategoryTree();
+
+    private final CategoryFacetCounter categoryFacetCounter;
+
     @Override
     public List<CategoryGroupDto> getCategoryGroups() {
+        return CATEGORY_TREE;
+    }
+
+    @Override
+    public List<CategoryFacetDto> getCategoryFacets() {
+        return categoryFacetCounter.facets();
+    }
+
+    private static List<CategoryGroupDto> buildCategoryTree() {
         List<CategoryGroupDto> groups = new ArrayList<>();
         for (Category category : Category.values()) {
-            CategoryGroupDto groupDto = new CategoryGroupDto();
-            groupDto.setGroupName(category.getGroupName());
             List<CategoryDto> categoryLists = Arrays.stream(category.getSubCategories())
                     .map(name -> new CategoryDto(name, name))
-                    .collect(Collectors.toList());
-            groupDto.setCategoryList(categoryLists);
-            groups.add(groupDto);
+                    .toList();
+            groups.add(new CategoryGroupDto(category.getGroupName(), categoryLists));
         }
-        return groups;
+        return Collections.unmodifiableList(groups);
     }
 }
@@ -223,7 +223,11 @@ public class OrderServiceImpl implements OrderService {
         productOptionRepository.save(productOption);
     }
 
+    /**
+     * 주문 직후 완료 화면에서 조회 → 복제 지연 영향이 없도록 primary (readOnly 아님)
+     */
     @Override
+    @Transactional
     public Orders getOrder(Long orderId) {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new BaseException(ErrorCode.ORDER_NOT_FOUND, orderId));
@@ -259,7 +263,11 @@ public class OrderServiceImpl implements OrderService {
         return orderRepository.findByMemberNumberOrderByOrderDateDesc(memberId);
     }
 
+    /**
+     * 재고는 복제 지연 중 값으로 판단하면 안 되므로 primary
+     */
     @Override
+    @Transactional
     public boolean checkStock(Long productId, String color, String size, int quantity) {
         ProductOption productOption = productOptionRepository
                 .findByProduct_NumberAndColorAndSize(productId, color, size)
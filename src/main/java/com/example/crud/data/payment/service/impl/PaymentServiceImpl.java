@@ -1,5 +1,6 @@
 package com.example.crud.data.payment.service.impl;
 
+import com.example.crud.ai.analytics.application.InteractionRecorder;
 import com.example.crud.data.payment.dto.PaymentDto;
 import com.example.crud.data.payment.dto.PaymentGatewayResponse;
 import com.example.crud.data.payment.service.PaymentGatewayClient;
@@ -22,6 +23,7 @@ public class PaymentServiceImpl implements PaymentService {
     private final OrderRepository orderRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
     private final PaymentGatewayClient paymentGatewayClient;
+    private final InteractionRecorder interactionRecorder;
 
     @Override
     public boolean processPayment(PaymentDto paymentDto) {
@@ -43,6 +45,8 @@ public class PaymentServiceImpl implements PaymentService {
             history.setStatus("SUCCESS");
             history.setTransactionId(gatewayResponse.getTransactionId());
             paymentDto.setTransactionId(gatewayResponse.getTransactionId());
+            Long memberId = order.getMember().getNumber();
+            order.getOrderItems().forEach(item -> interactionRecorder.recordPurchase(memberId, item.getProduct().getNumber()));
         } else {
             order.setPaymentStatus("FAILED");
             history.setStatus("FAILED");
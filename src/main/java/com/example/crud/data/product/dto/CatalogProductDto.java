@@ -0,0 +1,25 @@
+package com.example.crud.data.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카탈로그 목록 항목 (설명/벡터/옵션 없이 목록 화면에 필요한 컬럼만)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogProductDto {
+    private Long number;
+    private String name;
+    private String brand;
+    private Integer price;
+    private String imageUrl;
+    private String thumbnailUrl;
+    private String intro;
+    private String category;
+    private String subCategory;
+}
@@ -0,0 +1,37 @@
+package com.example.crud.data.product.dto;
+
+import com.example.crud.enums.CatalogSort;
+import com.example.crud.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카탈로그 조회 조건 (모든 필터는 선택, cursor 는 직전 페이지의 nextCursor)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogQueryDto {
+    private Category category;
+    private String subCategory;
+    private String brand;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private CatalogSort sort = CatalogSort.NEWEST;
+    private String cursor;
+    private Integer size;
+
+    public boolean isFirstPage() {
+        return cursor == null || cursor.isBlank();
+    }
+
+    /**
+     * 첫 페이지 캐시 키 (cursor 제외)
+     */
+    public String cacheKey() {
+        return category + "|" + subCategory + "|" + brand + "|" + minPrice + "|" + maxPrice + "|" + sort + "|" + size;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.crud.data.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportErrorDto {
+    private long line; // 파일 내 줄 번호 (CSV 헤더가 1행)
+    private String sku;
+    private String message;
+}
@@ -0,0 +1,34 @@
+package com.example.crud.data.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportJobDto {
+    private String jobId;
+    private String fileName;
+    private String format;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private String failureReason;
+    private long rowsRead;
+    private long created;
+    private long updated;
+    private long failed;
+    private long options;
+    private long elapsedMs;
+    private double rowsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<ProductImportErrorDto> errors;
+    private boolean errorsTruncated; // max-errors 초과분은 failed 건수에만 반영
+}
@@ -19,6 +19,7 @@ public class ProductResponseDto {
     private String brand;
     private String intro;
     private String imageUrl;
+    private String thumbnailUrl;
     private String description;
     private String category;
     private String subCategory;
@@ -0,0 +1,34 @@
+package com.example.crud.data.product.event;
+
+import com.example.crud.entity.Product;
+import com.example.crud.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품의 카테고리/서브카테고리/가격이 바뀐 이벤트 (생성: before=null, 삭제: after=null)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductFacetChangedEvent {
+    private final Long productId;
+    private final Facet before;
+    private final Facet after;
+
+    /**
+     * 집계 대상 필드 스냅샷
+     */
+    public record Facet(Category category, String subCategory, Integer price) {
+        public static Facet of(Product product) {
+            return new Facet(product.getCategory(), product.getSubCategory(), product.getPrice());
+        }
+    }
+
+    public static ProductFacetChangedEvent created(Product product) {
+        return new ProductFacetChangedEvent(product.getNumber(), null, Facet.of(product));
+    }
+
+    public static ProductFacetChangedEvent deleted(Product product) {
+        return new ProductFacetChangedEvent(product.getNumber(), Facet.of(product), null);
+    }
+}
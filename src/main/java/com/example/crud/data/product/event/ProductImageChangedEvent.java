@@ -0,0 +1,14 @@
+package com.example.crud.data.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 원본 이미지 등록/교체 이벤트 (커밋 후 썸네일 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImageChangedEvent {
+    private final Long productId;
+    private final String imageUrl;
+}
@@ -0,0 +1,15 @@
+package com.example.crud.data.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대량 등록 작업 종료 이벤트 (JDBC 로 저장해 ProductFacetChangedEvent 가 발행되지 않은 변경 반영용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductsImportedEvent {
+    private final String jobId;
+    private final long created;
+    private final long updated;
+}
@@ -0,0 +1,23 @@
+package com.example.crud.data.product.importer;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public enum ProductImportFormat {
+    CSV,   // 첫 줄 헤더, RFC 4180 따옴표 규칙
+    JSONL; // 한 줄에 JSON 객체 하나 (JSON Lines / NDJSON)
+
+    public static Optional<ProductImportFormat> fromFileName(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return Optional.of(CSV);
+        }
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+            return Optional.of(JSONL);
+        }
+        return Optional.empty();
+    }
+}
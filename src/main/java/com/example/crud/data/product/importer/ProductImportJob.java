@@ -0,0 +1,129 @@
+package com.example.crud.data.product.importer;
+
+import com.example.crud.data.product.dto.ProductImportErrorDto;
+import com.example.crud.data.product.dto.ProductImportJobDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 등록 작업 진행 상태 (작업 스레드 1개가 갱신, 조회 요청 스레드가 읽음)
+ */
+public class ProductImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long memberId;
+    private final String fileName;
+    @Getter
+    private final ProductImportFormat format;
+    private final int maxErrors;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String failureReason;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile LocalDateTime startedAt;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong options = new AtomicLong();
+    private final List<ProductImportErrorDto> errors = new ArrayList<>();
+
+    public ProductImportJob(String id, Long memberId, String fileName, ProductImportFormat format, int maxErrors) {
+        this.id = id;
+        this.memberId = memberId;
+        this.fileName = fileName;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public void start() {
+        startedNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    public void fail(String reason) {
+        finish(Status.FAILED, reason);
+    }
+
+    private void finish(Status result, String reason) {
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        failureReason = reason;
+        status = result;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void read(int rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    public void written(ProductImportWriter.ChunkResult result) {
+        created.addAndGet(result.created());
+        updated.addAndGet(result.updated());
+        options.addAndGet(result.options());
+    }
+
+    public void rejected(long line, String sku, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductImportErrorDto(line, sku, message));
+            }
+        }
+    }
+
+    public long created() {
+        return created.get();
+    }
+
+    public long updated() {
+        return updated.get();
+    }
+
+    public ProductImportJobDto toDto() {
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        long elapsedMs = startedNanos == 0 ? 0 : (end - startedNanos) / 1_000_000;
+        List<ProductImportErrorDto> errorSnapshot;
+        synchronized (errors) {
+            errorSnapshot = List.copyOf(errors);
+        }
+        return ProductImportJobDto.builder()
+                .jobId(id)
+                .fileName(fileName)
+                .format(format.name())
+                .status(status.name())
+                .failureReason(failureReason)
+                .rowsRead(rowsRead.get())
+                .created(created.get())
+                .updated(updated.get())
+                .failed(failed.get())
+                .options(options.get())
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(elapsedMs == 0 ? 0 : rowsRead.get() * 1000.0 / elapsedMs)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .errors(errorSnapshot)
+                .errorsTruncated(failed.get() > errorSnapshot.size())
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.crud.data.product.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 대량 등록 파일 스트리밍 리더
+ *
+ * - 파일 전체를 읽지 않고 next(n) 호출마다 최대 n행만 파싱 → 메모리 사용량은 청크 크기에 비례
+ * - 필드 이름은 소문자 + '_', '-', 공백 제거로 통일 (image_url = imageUrl = Image-URL)
+ * - 옵션: CSV 는 options 열에 "색상:사이즈:재고|색상:사이즈:재고", JSONL 은 options 배열 [{color, size, stock}]
+ * - 행 단위 구문 오류는 RawRow.error 로 넘기고 다음 행을 계속 읽음 (파일 자체가 깨진 경우만 예외)
+ */
+public class ProductImportReader implements Closeable {
+
+    static final Set<String> REQUIRED_COLUMNS = Set.of("sku", "name", "brand", "price", "imageurl", "intro",
+            "description", "category");
+
+    // 닫히지 않은 따옴표가 파일 끝까지 삼키는 경우 방지
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    public record RawOption(String color, String size, String stock) {}
+
+    /**
+     * @param line  파일 내 시작 줄 번호 (1부터, CSV 헤더 포함)
+     * @param error 구문 오류 (없으면 null)
+     */
+    public record RawRow(long line, Map<String, String> fields, List<RawOption> options, String error) {}
+
+    private final BufferedReader in;
+    private final ProductImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long line;
+
+    private ProductImportReader(BufferedReader in, ProductImportFormat format, ObjectMapper objectMapper) {
+        this.in = in;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    public static ProductImportReader open(Path file, ProductImportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        ProductImportReader reader = new ProductImportReader(
+                Files.newBufferedReader(file, StandardCharsets.UTF_8), format, objectMapper);
+        try {
+            if (format == ProductImportFormat.CSV) {
+                reader.readHeader();
+            }
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    /**
+     * 최대 max 행 (파일 끝이면 빈 목록)
+     */
+    public List<RawRow> next(int max) throws IOException {
+        List<RawRow> rows = new ArrayList<>(max);
+        while (rows.size() < max) {
+            RawRow row = format == ProductImportFormat.CSV ? nextCsv() : nextJson();
+            if (row == null) {
+                break;
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /*──────── CSV ────────*/
+
+    private void readHeader() throws IOException {
+        List<String> columns = readCsvRecord();
+        if (columns == null) {
+            throw new IllegalArgumentException("빈 파일입니다");
+        }
+        if (!columns.isEmpty() && columns.get(0).startsWith("\uFEFF")) {
+            columns.set(0, columns.get(0).substring(1)); // UTF-8 BOM (엑셀 저장 파일)
+        }
+        header = columns.stream().map(ProductImportReader::normalizeKey).toList();
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !header.contains(c)).sorted().toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("필수 열 누락: " + missing);
+        }
+    }
+
+    private RawRow nextCsv() throws IOException {
+        while (true) {
+            long start = line + 1;
+            List<String> values = readCsvRecord();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue; // 빈 줄
+            }
+            if (values.size() != header.size()) {
+                return new RawRow(start, Map.of(), List.of(),
+                        "열 개수 불일치: 헤더 " + header.size() + "개, 행 " + values.size() + "개");
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = values.get(i).trim();
+                if (!value.isEmpty()) {
+                    fields.put(header.get(i), value);
+                }
+            }
+            List<RawOption> options = parseOptions(fields.remove("options"));
+            if (options == null) {
+                return new RawRow(start, fields, List.of(), "options 형식 오류 (색상:사이즈:재고|...)");
+            }
+            return new RawRow(start, fields, options, null);
+        }
+    }
+
+    /**
+     * 레코드 하나 (따옴표 안 줄바꿈 허용), 파일 끝이면 null
+     */
+    private List<String> readCsvRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            if (field.length() > MAX_FIELD_LENGTH) {
+                throw new IOException(line + 1 + "행 부근: 필드가 너무 깁니다 (닫히지 않은 따옴표?)");
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        line++;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * "색상:사이즈:재고|..." → 옵션 목록, 형식이 틀리면 null
+     */
+    static List<RawOption> parseOptions(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        List<RawOption> options = new ArrayList<>();
+        for (String entry : value.split("\\|")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            if (parts.length != 3) {
+                return null;
+            }
+            options.add(new RawOption(parts[0].trim(), parts[1].trim(), parts[2].trim()));
+        }
+        return options;
+    }
+
+    /*──────── JSON Lines ────────*/
+
+    private RawRow nextJson() throws IOException {
+        String text;
+        while ((text = in.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return new RawRow(line, Map.of(), List.of(), "JSON 구문 오류: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return new RawRow(line, Map.of(), List.of(), "JSON 객체가 아닙니다");
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            List<RawOption> options = List.of();
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> e = it.next();
+                String key = normalizeKey(e.getKey());
+                JsonNode value = e.getValue();
+                if (key.equals("options")) {
+                    options = value.isTextual() ? parseOptions(value.asText()) : jsonOptions(value);
+                    if (options == null) {
+                        return new RawRow(line, fields, List.of(), "options 형식 오류");
+                    }
+                } else if (value.isValueNode() && !value.isNull() && !value.asText().isBlank()) {
+                    fields.put(key, value.asText().trim());
+                }
+            }
+            return new RawRow(line, fields, options, null);
+        }
+        return null;
+    }
+
+    private static List<RawOption> jsonOptions(JsonNode value) {
+        if (value.isNull()) {
+            return List.of();
+        }
+        if (!value.isArray()) {
+            return null;
+        }
+        List<RawOption> options = new ArrayList<>(value.size());
+        for (JsonNode option : value) {
+            if (!option.isObject()) {
+                return null;
+            }
+            options.add(new RawOption(text(option, "color"), text(option, "size"), text(option, "stock")));
+        }
+        return options;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText().trim();
+    }
+
+    static String normalizeKey(String key) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (char c : key.trim().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c != '_' && c != '-' && c != ' ') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.crud.data.product.importer;
+
+import com.example.crud.enums.Category;
+
+import java.util.List;
+
+/**
+ * 검증을 통과한 등록 행
+ */
+public record ProductImportRow(long line, String sku, String name, String brand, int price, String imageUrl,
+                               String intro, String description, Category category, String subCategory,
+                               List<Option> options) {
+
+    public record Option(String color, String size, int stock) {}
+}
@@ -0,0 +1,126 @@
+package com.example.crud.data.product.importer;
+
+import com.example.crud.data.product.importer.ProductImportReader.RawOption;
+import com.example.crud.data.product.importer.ProductImportReader.RawRow;
+import com.example.crud.enums.Category;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 대량 등록 행 검증 (상태 없음 → 여러 스레드에서 동시에 호출 가능)
+ *
+ * 제약은 product / product_option 컬럼 정의와 같게 유지 (DB 오류로 청크 전체가 롤백되지 않도록 미리 거름)
+ */
+@Component
+public class ProductImportValidator {
+
+    private static final int MAX_SKU = 64;
+    private static final int MAX_TEXT = 255;
+    private static final int MAX_COLOR = 50;
+    private static final int MAX_SIZE = 20;
+
+    /**
+     * @param row    통과 시 값, 실패 시 null
+     * @param errors 실패 사유 (통과 시 빈 목록)
+     */
+    public record Result(long line, String sku, ProductImportRow row, List<String> errors) {}
+
+    public Result validate(RawRow raw) {
+        Map<String, String> f = raw.fields();
+        String sku = f.get("sku");
+        if (raw.error() != null) {
+            return new Result(raw.line(), sku, null, List.of(raw.error()));
+        }
+
+        List<String> errors = new ArrayList<>();
+        required(f, "sku", MAX_SKU, errors);
+        required(f, "name", MAX_TEXT, errors);
+        required(f, "brand", MAX_TEXT, errors);
+        required(f, "intro", MAX_TEXT, errors);
+        required(f, "description", Integer.MAX_VALUE, errors);
+        String imageUrl = required(f, "imageurl", MAX_TEXT, errors);
+        if (imageUrl != null && !(imageUrl.startsWith("https://") || imageUrl.startsWith("http://"))) {
+            errors.add("imageUrl 은 http(s) URL 이어야 합니다");
+        }
+
+        Integer price = parseInt(f.get("price"));
+        if (price == null || price <= 0) {
+            errors.add("price 는 1 이상의 정수여야 합니다: " + f.get("price"));
+        }
+
+        Category category = parseCategory(f.get("category"));
+        String subCategory = f.get("subcategory");
+        if (category == null) {
+            errors.add("알 수 없는 category: " + f.get("category"));
+        } else if (subCategory != null && !Arrays.asList(category.getSubCategories()).contains(subCategory)) {
+            errors.add(category.getGroupName() + " 에 없는 subCategory: " + subCategory);
+        }
+
+        List<ProductImportRow.Option> options = validateOptions(raw.options(), errors);
+
+        if (!errors.isEmpty()) {
+            return new Result(raw.line(), sku, null, errors);
+        }
+        return new Result(raw.line(), sku, new ProductImportRow(raw.line(), sku, f.get("name"), f.get("brand"), price,
+                imageUrl, f.get("intro"), f.get("description"), category, subCategory, options), List.of());
+    }
+
+    private static List<ProductImportRow.Option> validateOptions(List<RawOption> raw, List<String> errors) {
+        List<ProductImportRow.Option> options = new ArrayList<>(raw.size());
+        Set<String> keys = new HashSet<>();
+        for (RawOption option : raw) {
+            Integer stock = parseInt(option.stock());
+            if (option.color() == null || option.color().isBlank() || option.color().length() > MAX_COLOR
+                    || option.size() == null || option.size().isBlank() || option.size().length() > MAX_SIZE) {
+                errors.add("옵션 색상(최대 " + MAX_COLOR + "자)/사이즈(최대 " + MAX_SIZE + "자) 오류: "
+                        + option.color() + "/" + option.size());
+            } else if (stock == null || stock < 0) {
+                errors.add("옵션 재고는 0 이상의 정수여야 합니다: " + option.color() + "/" + option.size());
+            } else if (!keys.add(option.color() + "_" + option.size())) {
+                errors.add("중복 옵션: " + option.color() + "/" + option.size());
+            } else {
+                options.add(new ProductImportRow.Option(option.color(), option.size(), stock));
+            }
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> fields, String name, int maxLength, List<String> errors) {
+        String value = fields.get(name);
+        if (value == null) {
+            errors.add(name + " 누락");
+            return null;
+        }
+        if (value.length() > maxLength) {
+            errors.add(name + " 은 최대 " + maxLength + "자입니다");
+        }
+        return value;
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * enum 이름(TOP) 또는 그룹명(상의)
+     */
+    private static Category parseCategory(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (Category category : Category.values()) {
+            if (category.name().equalsIgnoreCase(value) || category.getGroupName().equals(value)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
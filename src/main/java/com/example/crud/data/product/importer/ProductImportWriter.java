@@ -0,0 +1,132 @@
+package com.example.crud.data.product.importer;
+
+import com.example.crud.common.cache.L2CacheInvalidator;
+import com.example.crud.entity.Product;
+import com.example.crud.entity.ProductOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 대량 등록 청크 저장 (JdbcTemplate 배치, 청크당 트랜잭션 1개)
+ *
+ * 1. product upsert - (member_id, sku) 충돌 시 내용 갱신 (벡터/지문은 유지 → 텍스트가 같으면 폴러가 재임베딩 생략)
+ * 2. product_option upsert - (product_id, color, size) 충돌 시 재고 갱신, 파일에 없는 기존 옵션은 유지 (주문/장바구니 참조)
+ * 3. embedding_outbox 적재 - 상품과 같은 트랜잭션, 실제 임베딩은 EmbeddingOutboxPoller 가 배치 요청으로 처리
+ *
+ * JPA 를 거치지 않으므로 2차 캐시는 커밋 후 영역 단위로 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportWriter {
+
+    private static final String UPSERT_PRODUCT_SQL = """
+            INSERT INTO product (member_id, sku, name, brand, price, image_url, intro, description, category, sub_category)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (member_id, sku) DO UPDATE
+            SET name = EXCLUDED.name,
+                brand = EXCLUDED.brand,
+                price = EXCLUDED.price,
+                image_url = EXCLUDED.image_url,
+                thumbnail_url = CASE WHEN product.image_url = EXCLUDED.image_url THEN product.thumbnail_url END,
+                intro = EXCLUDED.intro,
+                description = EXCLUDED.description,
+                category = EXCLUDED.category,
+                sub_category = EXCLUDED.sub_category
+            """;
+
+    // pooled 시퀀스(allocationSize=50)의 nextval 값은 Hibernate 블록의 상한이라 그 값 자체를 써도 겹치지 않음
+    private static final String UPSERT_OPTION_SQL = """
+            INSERT INTO product_option (id, product_id, color, size, stock)
+            VALUES (nextval('product_option_seq'), ?, ?, ?, ?)
+            ON CONFLICT (product_id, color, size) DO UPDATE
+            SET stock = EXCLUDED.stock
+            """;
+
+    // EmbeddingOutboxService.enqueue 와 같은 규칙: 같은 상품의 대기 작업이 있으면 추가하지 않음
+    private static final String ENQUEUE_EMBEDDING_SQL = """
+            INSERT INTO embedding_outbox (product_id, status, attempts, next_attempt_at, created_at)
+            SELECT ?, 'PENDING', 0, now(), now()
+            WHERE NOT EXISTS (
+                SELECT 1 FROM embedding_outbox WHERE product_id = ? AND status = 'PENDING'
+            )
+            """;
+
+    private static final String FIND_IDS_SQL = """
+            SELECT sku, number FROM product WHERE member_id = :memberId AND sku IN (:skus)
+            """;
+
+    /**
+     * @param productIds sku → 상품 번호
+     */
+    public record ChunkResult(int created, int updated, int options, Map<String, Long> productIds) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final L2CacheInvalidator l2CacheInvalidator;
+
+    /**
+     * @param rows sku 중복이 없어야 함 (같은 배치 안에서 같은 행을 두 번 갱신할 수 없음)
+     */
+    @Transactional
+    public ChunkResult write(Long memberId, List<ProductImportRow> rows) {
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, 0, Map.of());
+        }
+        List<String> skus = rows.stream().map(ProductImportRow::sku).toList();
+        Set<String> existing = findIds(memberId, skus).keySet();
+
+        jdbcTemplate.batchUpdate(UPSERT_PRODUCT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, memberId);
+            ps.setString(2, row.sku());
+            ps.setString(3, row.name());
+            ps.setString(4, row.brand());
+            ps.setInt(5, row.price());
+            ps.setString(6, row.imageUrl());
+            ps.setString(7, row.intro());
+            ps.setString(8, row.description());
+            ps.setString(9, row.category().name());
+            ps.setString(10, row.subCategory());
+        });
+
+        Map<String, Long> ids = findIds(memberId, skus);
+
+        List<Object[]> options = new ArrayList<>();
+        for (ProductImportRow row : rows) {
+            Long productId = ids.get(row.sku());
+            for (ProductImportRow.Option option : row.options()) {
+                options.add(new Object[]{productId, option.color(), option.size(), option.stock()});
+            }
+        }
+        if (!options.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_OPTION_SQL, options);
+        }
+
+        List<Object[]> outbox = ids.values().stream().map(id -> new Object[]{id, id}).toList();
+        jdbcTemplate.batchUpdate(ENQUEUE_EMBEDDING_SQL, outbox);
+
+        int updated = existing.size();
+        if (updated > 0) {
+            l2CacheInvalidator.evictAllAfterCommit(Product.class);
+        }
+        if (!options.isEmpty()) {
+            l2CacheInvalidator.evictAllAfterCommit(ProductOption.class);
+        }
+        return new ChunkResult(rows.size() - updated, updated, options.size(), ids);
+    }
+
+    private Map<String, Long> findIds(Long memberId, Collection<String> skus) {
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_IDS_SQL,
+                new MapSqlParameterSource("memberId", memberId).addValue("skus", skus),
+                rs -> {
+                    ids.put(rs.getString("sku"), rs.getLong("number"));
+                });
+        return ids;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.crud.data.product.service;
+
+import com.example.crud.data.product.dto.CatalogPageDto;
+import com.example.crud.data.product.dto.CatalogQueryDto;
+
+public interface ProductCatalogService {
+    String CATALOG_CACHE = "catalogPages";
+
+    CatalogPageDto getCatalogPage(CatalogQueryDto query);
+}
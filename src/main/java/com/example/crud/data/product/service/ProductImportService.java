@@ -0,0 +1,15 @@
+package com.example.crud.data.product.service;
+
+import com.example.crud.data.product.dto.ProductImportJobDto;
+import com.example.crud.entity.Member;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface ProductImportService {
+    ProductImportJobDto startImport(MultipartFile file, Member member);
+
+    ProductImportJobDto getImportJob(String jobId, Member member);
+
+    List<ProductImportJobDto> getImportJobs(Member member);
+}
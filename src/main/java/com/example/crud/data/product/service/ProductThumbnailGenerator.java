@@ -0,0 +1,77 @@
+package com.example.crud.data.product.service;
+
+import com.example.crud.common.cache.L2CacheInvalidator;
+import com.example.crud.common.config.ImageStorageProperties;
+import com.example.crud.common.storage.ImageStorage;
+import com.example.crud.common.storage.ImageThumbnails;
+import com.example.crud.data.product.event.ProductImageChangedEvent;
+import com.example.crud.entity.Product;
+import com.example.crud.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+
+/**
+ * 상품 썸네일 생성
+ *
+ * - 원본 등록/교체가 커밋된 뒤 thumbnailExecutor(작은 고정 풀)에서 생성 → 디코딩 메모리/CPU 상한이 풀 크기로 묶임
+ * - 풀이 가득 차면 버림 (썸네일이 없으면 화면은 원본 이미지를 사용)
+ * - 생성 중에 원본이 다시 바뀌었으면 저장하지 않고 만든 썸네일을 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductThumbnailGenerator {
+
+    private final ImageStorage imageStorage;
+    private final ProductRepository productRepository;
+    private final L2CacheInvalidator l2CacheInvalidator;
+    private final ImageStorageProperties properties;
+    private final Executor thumbnailExecutor;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageChanged(ProductImageChangedEvent event) {
+        if (!properties.thumbnail().enabled() || event.getImageUrl() == null) {
+            return;
+        }
+        thumbnailExecutor.execute(() -> generate(event.getProductId(), event.getImageUrl()));
+    }
+
+    private void generate(Long productId, String imageUrl) {
+        ImageStorageProperties.Thumbnail thumbnail = properties.thumbnail();
+        byte[] jpeg;
+        try (InputStream source = imageStorage.open(imageUrl)) {
+            jpeg = ImageThumbnails.render(source, thumbnail.width(), thumbnail.maxSourcePixels());
+        } catch (Exception e) {
+            log.warn("썸네일 원본 읽기 실패: productId={}, {}", productId, e.getMessage());
+            return;
+        }
+        if (jpeg == null) {
+            log.info("썸네일 생략 (지원하지 않는 형식이거나 원본이 너무 큼): productId={}", productId);
+            return;
+        }
+
+        String thumbnailUrl = null;
+        try {
+            thumbnailUrl = imageStorage.store("thumb-" + productId + ".jpg", "image/jpeg", new ByteArrayInputStream(jpeg));
+            if (productRepository.updateThumbnailUrl(productId, imageUrl, thumbnailUrl) == 0) {
+                log.debug("썸네일 생성 중 원본 변경/상품 삭제 - 폐기: productId={}", productId);
+                imageStorage.delete(thumbnailUrl);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("썸네일 저장 실패: productId={}, {}", productId, e.getMessage());
+            if (thumbnailUrl != null) {
+                imageStorage.delete(thumbnailUrl);
+            }
+            return;
+        }
+        l2CacheInvalidator.evictAfterCommit(Product.class, productId); // 네이티브 UPDATE 는 다른 노드 2차 캐시가 모름
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.crud.data.product.service.impl;
+
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.common.mapper.ProductMapper;
+import com.example.crud.data.product.dto.CatalogPageDto;
+import com.example.crud.data.product.dto.CatalogProductDto;
+import com.example.crud.data.product.dto.CatalogQueryDto;
+import com.example.crud.data.product.event.ProductFacetChangedEvent;
+import com.example.crud.data.product.event.ProductsImportedEvent;
+import com.example.crud.data.product.service.ProductCatalogService;
+import com.example.crud.enums.CatalogSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 카테고리/브랜드/가격 필터 카탈로그 조회
+ *
+ * - keyset 페이징: cursor = 직전 페이지 마지막 행의 (price, number) → 깊은 페이지도 OFFSET 스캔 없음
+ * - 첫 페이지(카테고리 진입, 필터 칩 클릭)만 Redis 캐시 (짧은 TTL, 카테고리/가격 변경 커밋 시 전체 무효화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 60;
+
+    private final ProductMapper productMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CATALOG_CACHE, key = "#query.cacheKey()", condition = "#query.firstPage")
+    public CatalogPageDto getCatalogPage(CatalogQueryDto query) {
+        normalize(query);
+
+        Integer cursorPrice = null;
+        Long cursorNumber = null;
+        if (!query.isFirstPage()) {
+            long[] cursor = decodeCursor(query.getCursor(), query.getSort());
+            cursorNumber = cursor[0];
+            cursorPrice = query.getSort() == CatalogSort.NEWEST ? null : (int) cursor[1];
+        }
+
+        int size = query.getSize();
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<CatalogProductDto> rows = productMapper.findCatalogPage(query, cursorPrice, cursorNumber, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<CatalogProductDto> items = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1), query.getSort()) : null;
+        return new CatalogPageDto(items, nextCursor, hasNext);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @CacheEvict(cacheNames = CATALOG_CACHE, allEntries = true)
+    public void onProductFacetChanged(ProductFacetChangedEvent event) {
+        log.debug("카탈로그 첫 페이지 캐시 무효화: productId={}", event.getProductId());
+    }
+
+    @EventListener
+    @CacheEvict(cacheNames = CATALOG_CACHE, allEntries = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        log.debug("카탈로그 첫 페이지 캐시 무효화: 대량 등록 jobId={}", event.getJobId());
+    }
+
+    private void normalize(CatalogQueryDto query) {
+        if (query.getSort() == null) {
+            query.setSort(CatalogSort.NEWEST);
+        }
+        int size = query.getSize() == null ? DEFAULT_PAGE_SIZE : query.getSize();
+        query.setSize(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        query.setSubCategory(blankToNull(query.getSubCategory()));
+        query.setBrand(blankToNull(query.getBrand()));
+        if (query.getMinPrice() != null && query.getMaxPrice() != null && query.getMinPrice() > query.getMaxPrice()) {
+            throw new BaseException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    /**
+     * "number" (NEWEST) 또는 "number:price" 를 URL-safe Base64 로
+     */
+    private static String encodeCursor(CatalogProductDto last, CatalogSort sort) {
+        String raw = sort == CatalogSort.NEWEST ? String.valueOf(last.getNumber()) : last.getNumber() + ":" + last.getPrice();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] decodeCursor(String cursor, CatalogSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (sort == CatalogSort.NEWEST) {
+                return new long[]{Long.parseLong(parts[0])};
+            }
+            return new long[]{Long.parseLong(parts[0]), Integer.parseInt(parts[1])};
+        } catch (RuntimeException e) {
+            // 잘못된 cursor, 또는 다른 정렬 기준으로 발급된 cursor
+            throw new BaseException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
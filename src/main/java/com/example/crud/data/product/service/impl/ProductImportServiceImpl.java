@@ -0,0 +1,242 @@
+package com.example.crud.data.product.service.impl;
+
+import com.example.crud.common.config.ProductImportProperties;
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.data.product.dto.ProductImportJobDto;
+import com.example.crud.data.product.event.ProductsImportedEvent;
+import com.example.crud.data.product.importer.*;
+import com.example.crud.data.product.importer.ProductImportReader.RawRow;
+import com.example.crud.data.product.service.ProductImportService;
+import com.example.crud.entity.Member;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 대량 등록 (CSV / JSON Lines)
+ *
+ * 업로드 파일을 임시 파일로 옮긴 뒤 productImportExecutor 에서 청크 단위로 처리하고 작업 번호를 바로 반환
+ * 1. 리더가 chunk-size 행만 파싱 (파일 전체를 메모리에 올리지 않음)
+ * 2. 청크를 validation-slices 조각으로 나눠 importValidationExecutor 에서 병렬 검증
+ * 3. 통과한 행을 JDBC 배치로 upsert + 임베딩 아웃박스 적재 (청크당 트랜잭션 1개, 실패 시 그 청크만 롤백)
+ * 4. 행 오류/처리량은 GET /product/import/{jobId} 로 조회 (작업 상태는 요청을 받은 노드 메모리에만 있음)
+ *
+ * 지표: product.import.rows{result=created|updated|failed}, product.import.chunk (청크 처리 시간)
+ */
+@Slf4j
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private final ProductImportValidator validator;
+    private final ProductImportWriter writer;
+    private final ProductImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor productImportExecutor;
+    private final TaskExecutor importValidationExecutor;
+
+    private final Counter createdRows;
+    private final Counter updatedRows;
+    private final Counter failedRows;
+    private final Timer chunkTimer;
+
+    private final Map<String, ProductImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ProductImportServiceImpl(ProductImportValidator validator,
+                                    ProductImportWriter writer,
+                                    ProductImportProperties properties,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TaskExecutor productImportExecutor,
+                                    TaskExecutor importValidationExecutor,
+                                    MeterRegistry meterRegistry) {
+        this.validator = validator;
+        this.writer = writer;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.productImportExecutor = productImportExecutor;
+        this.importValidationExecutor = importValidationExecutor;
+        this.createdRows = meterRegistry.counter("product.import.rows", "result", "created");
+        this.updatedRows = meterRegistry.counter("product.import.rows", "result", "updated");
+        this.failedRows = meterRegistry.counter("product.import.rows", "result", "failed");
+        this.chunkTimer = Timer.builder("product.import.chunk")
+                .description("대량 등록 청크 검증 + 저장 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ProductImportJobDto startImport(MultipartFile file, Member member) {
+        if (file == null || file.isEmpty()) {
+            throw new BaseException(ErrorCode.PRODUCT_IMPORT_INVALID_FILE);
+        }
+        ProductImportFormat format = ProductImportFormat.fromFileName(file.getOriginalFilename())
+                .orElseThrow(() -> new BaseException(ErrorCode.PRODUCT_IMPORT_INVALID_FILE));
+
+        // 요청이 끝나면 multipart 임시 파일이 지워지므로 작업용 파일로 옮김 (스트림 복사, 메모리 적재 없음)
+        Path temp;
+        try {
+            temp = Files.createTempFile("product-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            file.transferTo(temp);
+        } catch (IOException e) {
+            log.error("대량 등록 파일 저장 실패: {}", e.getMessage());
+            throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), member.getNumber(),
+                file.getOriginalFilename(), format, properties.maxErrors());
+        pruneFinishedJobs();
+        jobs.put(job.getId(), job);
+        try {
+            productImportExecutor.execute(() -> run(job, temp));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(temp);
+            throw new BaseException(ErrorCode.PRODUCT_IMPORT_BUSY);
+        }
+        log.info("대량 등록 접수: jobId={}, memberId={}, file={}, {} bytes",
+                job.getId(), member.getNumber(), file.getOriginalFilename(), file.getSize());
+        return job.toDto();
+    }
+
+    @Override
+    public ProductImportJobDto getImportJob(String jobId, Member member) {
+        ProductImportJob job = jobs.get(jobId);
+        if (job == null || !job.getMemberId().equals(member.getNumber())) {
+            throw new BaseException(ErrorCode.PRODUCT_IMPORT_NOT_FOUND, jobId);
+        }
+        return job.toDto();
+    }
+
+    @Override
+    public List<ProductImportJobDto> getImportJobs(Member member) {
+        return jobs.values().stream()
+                .filter(job -> job.getMemberId().equals(member.getNumber()))
+                .map(ProductImportJob::toDto)
+                .sorted(Comparator.comparing(ProductImportJobDto::getStartedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    private void run(ProductImportJob job, Path file) {
+        job.start();
+        try (ProductImportReader reader = ProductImportReader.open(file, job.getFormat(), objectMapper)) {
+            List<RawRow> chunk;
+            while (!(chunk = reader.next(properties.chunkSize())).isEmpty()) {
+                List<RawRow> rows = chunk;
+                chunkTimer.record(() -> processChunk(job, rows));
+            }
+            job.complete();
+        } catch (Exception e) {
+            // 파일 자체 오류(헤더 누락, 인코딩 등) - 이미 커밋된 청크는 유지
+            job.fail(e.getMessage());
+            log.error("대량 등록 중단: jobId={}, {}", job.getId(), e.toString());
+        } finally {
+            deleteQuietly(file);
+            if (job.created() + job.updated() > 0) {
+                eventPublisher.publishEvent(new ProductsImportedEvent(job.getId(), job.created(), job.updated()));
+            }
+            ProductImportJobDto summary = job.toDto();
+            log.info("대량 등록 종료: jobId={}, status={}, rows={}, created={}, updated={}, failed={}, {}ms ({} rows/s)",
+                    summary.getJobId(), summary.getStatus(), summary.getRowsRead(), summary.getCreated(),
+                    summary.getUpdated(), summary.getFailed(), summary.getElapsedMs(),
+                    String.format("%.1f", summary.getRowsPerSecond()));
+        }
+    }
+
+    private void processChunk(ProductImportJob job, List<RawRow> chunk) {
+        job.read(chunk.size());
+
+        // 같은 SKU 가 여러 번 나오면 마지막 행 적용 (한 배치에서 같은 행을 두 번 upsert 할 수 없음)
+        Map<String, ProductImportRow> bySku = new LinkedHashMap<>();
+        for (ProductImportValidator.Result result : validate(chunk)) {
+            if (result.row() == null) {
+                reject(job, result.line(), result.sku(), String.join(", ", result.errors()));
+                continue;
+            }
+            ProductImportRow previous = bySku.remove(result.row().sku());
+            if (previous != null) {
+                reject(job, previous.line(), previous.sku(), "같은 SKU 가 " + result.line() + "행에 다시 나와 건너뜀");
+            }
+            bySku.put(result.row().sku(), result.row());
+        }
+        if (bySku.isEmpty()) {
+            return;
+        }
+
+        List<ProductImportRow> rows = new ArrayList<>(bySku.values());
+        try {
+            ProductImportWriter.ChunkResult result = writer.write(job.getMemberId(), rows);
+            job.written(result);
+            createdRows.increment(result.created());
+            updatedRows.increment(result.updated());
+        } catch (DataAccessException e) {
+            String reason = "저장 실패 (청크 " + rows.get(0).line() + "~" + rows.get(rows.size() - 1).line()
+                    + "행 롤백): " + e.getMostSpecificCause().getMessage();
+            log.warn("대량 등록 청크 실패: jobId={}, {}", job.getId(), reason);
+            for (ProductImportRow row : rows) {
+                reject(job, row.line(), row.sku(), reason);
+            }
+        }
+    }
+
+    /**
+     * 청크를 조각으로 나눠 병렬 검증, 결과는 파일 순서 유지
+     */
+    private List<ProductImportValidator.Result> validate(List<RawRow> chunk) {
+        int slices = Math.max(1, Math.min(properties.validationSlices(), chunk.size()));
+        int sliceSize = (chunk.size() + slices - 1) / slices;
+
+        List<CompletableFuture<List<ProductImportValidator.Result>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<RawRow> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> slice.stream().map(validator::validate).toList(), importValidationExecutor));
+        }
+
+        List<ProductImportValidator.Result> results = new ArrayList<>(chunk.size());
+        for (CompletableFuture<List<ProductImportValidator.Result>> future : futures) {
+            results.addAll(future.join());
+        }
+        return results;
+    }
+
+    private void reject(ProductImportJob job, long line, String sku, String message) {
+        job.rejected(line, sku, message);
+        failedRows.increment();
+    }
+
+    private void pruneFinishedJobs() {
+        List<ProductImportJob> finished = jobs.values().stream()
+                .filter(ProductImportJob::isFinished)
+                .sorted(Comparator.comparing(ProductImportJob::getFinishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - properties.retainedJobs(); i++) {
+            jobs.remove(finished.get(i).getId());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("대량 등록 임시 파일 삭제 실패: {}", file);
+        }
+    }
+}
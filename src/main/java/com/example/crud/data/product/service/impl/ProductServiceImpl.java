@@ -1,26 +1,25 @@
 package com.example.crud.data.product.service.impl;
 
-import com.example.crud.ai.embedding.application.EmbeddingService;
-import com.example.crud.ai.embedding.application.ProductEmbeddingCommandService;
+import com.example.crud.ai.embedding.domain.ProductTextBuilder;
 import com.example.crud.ai.embedding.event.ProductCreatedEvent;
+import com.example.crud.ai.embedding.event.ProductUpdatedEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import com.example.crud.common.exception.BaseException;
 import com.example.crud.common.exception.ErrorCode;
 import com.example.crud.data.product.dto.ProductDto;
 import com.example.crud.data.product.dto.ProductOptionDto;
 import com.example.crud.data.product.dto.ProductResponseDto;
+import com.example.crud.data.product.event.ProductFacetChangedEvent;
+import com.example.crud.data.product.event.ProductImageChangedEvent;
 import com.example.crud.data.product.service.ProductService;
 import com.example.crud.entity.Member;
 import com.example.crud.entity.Product;
 import com.example.crud.entity.ProductOption;
 import com.example.crud.common.mapper.ProductMapper;
+import com.example.crud.common.storage.ImageStorage;
 import com.example.crud.repository.MemberRepository;
 import com.example.crud.repository.ProductOptionRepository;
 import com.example.crud.repository.ProductRepository;
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import com.google.firebase.cloud.StorageClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
@@ -29,15 +28,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.text.NumberFormat;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -51,8 +52,10 @@ public class ProductServiceImpl implements ProductService {
     private final MemberRepository memberRepository;
     private final ProductMapper productMapper;
     private final ProductOptionRepository productOptionRepository;
-    private final ProductEmbeddingCommandService embeddingService;
+    private final ProductTextBuilder productTextBuilder;
     private final ApplicationEventPublisher eventPublisher;
+    private final ImageStorage imageStorage;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -90,27 +93,15 @@ public class ProductServiceImpl implements ProductService {
                 .collect(Collectors.toList());
     }
 
-    // 상품추가.
+    // 상품추가. 이미지 업로드는 트랜잭션 밖에서 먼저 (업로드 동안 DB 커넥션을 잡지 않음), 저장 실패 시 보상 삭제
     @Override
-    @Transactional
     public ProductResponseDto getAddProduct(ProductDto productDto, MultipartFile image) {
-        String imageUrl = null;  // null로 초기화
-        try {
-            Member member = getAuthenticatedUser();
-
-            // 이미지가 있을 때만 업로드
-            if (image != null && !image.isEmpty()) {
-                try {
-                    imageUrl = uploadImageToFirebase(image);
-                } catch (IOException e) {
-                    log.error("Failed to upload image: {}", e.getMessage());
-                    throw new BaseException(ErrorCode.IMAGE_UPLOAD_FAILED);
-                }
-            }
+        Member member = getAuthenticatedUser();
+        String imageUrl = uploadImage(image);
 
+        try {
             Product product = convertToProductEntity(productDto, member);
             product.setImageUrl(imageUrl);
-            product.setDescriptionVector(null); // 임시로 벡터 null 설정
 
             // ProductOption 엔티티 생성 및 설정
             if (productDto.getProductOptions() != null && !productDto.getProductOptions().isEmpty()) {
@@ -127,92 +118,89 @@ public class ProductServiceImpl implements ProductService {
                 product.setProductOptions(productOptionList);
             }
 
-            try {
+            return transactionTemplate.execute(status -> {
                 Product savedProduct = productRepository.save(product);
                 // 트랜잭션 커밋 후 임베딩 생성하기 위한 이벤트 발행
                 eventPublisher.publishEvent(new ProductCreatedEvent(savedProduct.getNumber()));
+                eventPublisher.publishEvent(ProductFacetChangedEvent.created(savedProduct));
+                eventPublisher.publishEvent(new ProductImageChangedEvent(savedProduct.getNumber(), imageUrl));
 
                 return convertToProductResponseDTO(savedProduct);
-            } catch (Exception e) {
-                // 상품 저장 실패 시 업로드된 이미지 삭제
-                if (imageUrl != null) {
-                    try {
-                        deletedImageFromFirebase(imageUrl);
-                    } catch (IOException ex) {
-                        log.error("Failed to delete image after product save failure: {}", ex.getMessage());
-                    }
-                }
-                throw new BaseException(ErrorCode.PRODUCT_UPLOAD_FAILED);
-            }
-        } catch (BaseException e) {
-            // BaseException은 그대로 전파
-            throw e;
+            });
         } catch (Exception e) {
-            log.error("Unexpected error while adding product: {}", e.getMessage());
-            // 예상치 못한 에러 발생 시 이미지 삭제
-            if (imageUrl != null) {
-                try {
-                    deletedImageFromFirebase(imageUrl);
-                } catch (IOException ex) {
-                    log.error("Failed to delete image after unexpected error: {}", ex.getMessage());
-                }
-            }
+            log.error("Failed to add product: {}", e.getMessage());
+            // 상품 저장 실패 시 업로드된 이미지 삭제
+            deleteImage(imageUrl);
             throw new BaseException(ErrorCode.PRODUCT_UPLOAD_FAILED);
         }
     }
 
+    // 상품수정. 새 이미지는 트랜잭션 밖에서 먼저 업로드, 이전 이미지는 커밋 후 삭제
     @Override
-    @Transactional
     public ProductResponseDto getUpdateProduct(ProductDto productDto, MultipartFile image) {
-        try {
-            Member member = getAuthenticatedUser();
-            Product existingProduct = productRepository.findById(productDto.getNumber())
-                    .orElseThrow(() -> new BaseException(ErrorCode.PRODUCT_NOT_FOUND));
-
-            // 권한 체크
-            if (!existingProduct.getMemberEmail().equals(member.getEmail())) {
-                throw new BaseException(ErrorCode.UNAUTHORIZED_PRODUCT_ACCESS);
-            }
-
-            // 1. 이미지 처리
-            String imageUrl = handleImageUpdate(image, existingProduct);
-
-            // 2. 기본 정보 업데이트
-            updateProductBasicInfo(existingProduct, productDto);
-
-            // 이미지 URL 설정
-            existingProduct.setImageUrl(imageUrl);
-
-            // 3. 옵션 처리
-            updateProductOptions(existingProduct, productDto.getProductOptions());
+        Member member = getAuthenticatedUser();
+        Product product = productMapper.findProductByNumber(productDto.getNumber());
+        if (product == null) {
+            throw new BaseException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
 
-            Product savedProduct = productRepository.save(existingProduct);
+        // 권한 체크 (업로드 전에)
+        if (!product.getMemberEmail().equals(member.getEmail())) {
+            throw new BaseException(ErrorCode.UNAUTHORIZED_PRODUCT_ACCESS);
+        }
 
-            // 상품 업데이트 후 임베딩 재생성
-            embeddingService.createAndSaveEmbedding(savedProduct.getNumber());
+        // 1. 이미지 처리
+        String newImageUrl = uploadImage(image);
 
-            return convertToProductResponseDTO(savedProduct);
+        try {
+            return transactionTemplate.execute(status -> updateProduct(productDto, newImageUrl));
         } catch (BaseException e) {
+            deleteImage(newImageUrl);
             throw e;
-        } catch (IOException e) {
-            log.error("Failed to update product image: {}", e.getMessage());
-            throw new BaseException(ErrorCode.IMAGE_UPLOAD_FAILED);
         } catch (Exception e) {
             log.error("Failed to update product: {}", e.getMessage());
+            deleteImage(newImageUrl);
             throw new BaseException(ErrorCode.PRODUCT_UPDATE_FAILED);
         }
     }
 
-    // 이미지 처리 메서드
-    private String handleImageUpdate(MultipartFile image, Product existingProduct) throws IOException {
-        if (image == null || image.isEmpty()) {
-            return existingProduct.getImageUrl();
+    // 트랜잭션 안에서 실행
+    private ProductResponseDto updateProduct(ProductDto productDto, String newImageUrl) {
+        Product existingProduct = productRepository.findById(productDto.getNumber())
+                .orElseThrow(() -> new BaseException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        ProductFacetChangedEvent.Facet facetBefore = ProductFacetChangedEvent.Facet.of(existingProduct);
+
+        // 2. 기본 정보 업데이트
+        updateProductBasicInfo(existingProduct, productDto);
+
+        // 이미지 URL 설정 (썸네일은 커밋 후 다시 생성)
+        if (newImageUrl != null) {
+            deleteImagesAfterCommit(existingProduct.getImageUrl(), existingProduct.getThumbnailUrl());
+            existingProduct.setImageUrl(newImageUrl);
+            existingProduct.setThumbnailUrl(null);
+            eventPublisher.publishEvent(new ProductImageChangedEvent(existingProduct.getNumber(), newImageUrl));
         }
 
-        if (existingProduct.getImageUrl() != null) {
-            deletedImageFromFirebase(existingProduct.getImageUrl());
+        // 3. 옵션 처리
+        updateProductOptions(existingProduct, productDto.getProductOptions());
+
+        Product savedProduct = productRepository.save(existingProduct);
+
+        // 임베딩 입력 텍스트가 바뀐 경우에만 커밋 후 비동기 재생성 (재고/옵션/이미지 수정은 제외)
+        String fingerprint = productTextBuilder.fingerprint(savedProduct);
+        if (!savedProduct.hasDescriptionVector()
+                || !fingerprint.equals(savedProduct.getEmbeddingFingerprint())) {
+            eventPublisher.publishEvent(new ProductUpdatedEvent(savedProduct.getNumber()));
+        }
+
+        // 카테고리/가격이 바뀐 경우에만 커밋 후 카테고리 상품 수 증감
+        ProductFacetChangedEvent.Facet facetAfter = ProductFacetChangedEvent.Facet.of(savedProduct);
+        if (!facetAfter.equals(facetBefore)) {
+            eventPublisher.publishEvent(new ProductFacetChangedEvent(savedProduct.getNumber(), facetBefore, facetAfter));
         }
-        return uploadImageToFirebase(image);
+
+        return convertToProductResponseDTO(savedProduct);
     }
 
     // 기본 정보 업데이트 메서드
@@ -285,11 +273,12 @@ public class ProductServiceImpl implements ProductService {
                 throw new BaseException(ErrorCode.UNAUTHORIZED_PRODUCT_ACCESS);
             }
 
-            if (product.getImageUrl() != null) {
-                deletedImageFromFirebase(product.getImageUrl());
-            }
-
             productRepository.delete(product);
+            eventPublisher.publishEvent(ProductFacetChangedEvent.deleted(product));
+
+            // 상품 삭제가 끝난 뒤 이미지 정리 (먼저 지우면 삭제 실패 시 이미지 없는 상품이 남음)
+            deleteImage(product.getImageUrl());
+            deleteImage(product.getThumbnailUrl());
         } catch (BaseException e) {
             throw e;
         } catch (Exception e) {
@@ -334,25 +323,35 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
-    private void deletedImageFromFirebase(String imageUrl) throws IOException {
-        String fileName = imageUrl.substring(imageUrl.lastIndexOf('/') + 1, imageUrl.indexOf("?"));
-        Storage storage = StorageClient.getInstance().bucket().getStorage();
-        BlobId blobId = BlobId.of("webproject-83837.appspot.com", fileName);
-
-        storage.delete(blobId);
+    // 멀티파트 임시 파일에서 저장소로 바로 스트리밍 (getBytes() 로 파일 전체를 힙에 올리지 않음)
+    private String uploadImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return null;
+        }
+        try (InputStream content = image.getInputStream()) {
+            return imageStorage.store(image.getOriginalFilename(), image.getContentType(), content);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to upload image: {}", e.getMessage());
+            throw new BaseException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        }
     }
 
-    private String uploadImageToFirebase(MultipartFile image) throws IOException {
-        Storage storage = StorageClient.getInstance().bucket().getStorage();
-
-        String fileName = UUID.randomUUID().toString() + "-" + image.getOriginalFilename();
-        BlobId blobId = BlobId.of("webproject-83837.appspot.com", fileName);
-        BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType(image.getContentType()).build();
-
-        storage.create(blobInfo, image.getBytes());
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString());
+    // 롤백되면 상품이 이전 이미지를 계속 가리키므로 커밋된 경우에만 삭제
+    private void deleteImagesAfterCommit(String... imageUrls) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (String imageUrl : imageUrls) {
+                    deleteImage(imageUrl);
+                }
+            }
+        });
+    }
 
-        return "https://firebasestorage.googleapis.com/v0/b/" + "webproject-83837.appspot.com" + "/o/" + encodedFileName + "?alt=media";
+    private void deleteImage(String imageUrl) {
+        if (imageUrl != null) {
+            imageStorage.delete(imageUrl);
+        }
     }
 
     @Override
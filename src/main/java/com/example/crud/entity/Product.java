@@ -1,11 +1,16 @@
 package com.example.crud.entity;
 
+import com.example.crud.common.cache.CacheRegions;
 import com.example.crud.enums.Category;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,7 +20,18 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "product")
+// 카탈로그 keyset 페이징(ProductMapper.findCatalogPage): 필터 등치 컬럼 → 정렬 컬럼 → number(동률 정리) 순
+@Table(name = "product",
+        indexes = {
+                @Index(name = "idx_product_cat_sub_price", columnList = "category,sub_category,price,number"),
+                @Index(name = "idx_product_cat_price", columnList = "category,price,number"),
+                @Index(name = "idx_product_cat_newest", columnList = "category,number"),
+                @Index(name = "idx_product_price", columnList = "price,number"),
+                // 대량 등록 upsert 키 (UI 로 등록한 상품은 sku 가 NULL → 중복 검사 대상 아님)
+                @Index(name = "uk_product_member_sku", columnList = "member_id,sku", unique = true)
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheRegions.PRODUCT)
 public class Product {
     @Id // 기본키 지정
     @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT
@@ -33,6 +49,10 @@ public class Product {
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
 
+    // 목록용 축소 이미지 - 원본 저장 후 비동기로 채움 (생성 전/실패 시 null → imageUrl 사용)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
     @Column(nullable = false)
     private String intro;
 
@@ -46,6 +66,10 @@ public class Product {
     @Column(name = "sub_category")
     private String subCategory;
 
+    // 판매자 상품 코드 (대량 등록 시 판매자별 고유)
+    @Column(length = 64)
+    private String sku;
+
     /*
         ManyToOne = 여러개의 Product가 하나의 Member에 연관될수 있음을 나타냄 다대일 관계
         FetchType.Lazy = 연관된 엔티티를 실제로 사용할 때까지 로드하지 않는 전략.
@@ -68,9 +92,26 @@ public class Product {
 
 
     // 상품 설명 임베딩 (1536차원 - text-embedding-3-small 모델)
-    @Column(name = "description_vector", columnDefinition = "vector(1536)", nullable = true)
+    // ProductRepository.updateDescriptionVector 네이티브 쿼리로만 갱신, 유사도 계산도 SQL 에서 직접 처리
+    // 엔티티(2차 캐시 포함)에는 벡터 본문 대신 존재 여부만 읽음 - 있으면 "", 없으면 null
+    @Column(name = "description_vector", columnDefinition = "vector(1536)", nullable = true,
+            insertable = false, updatable = false)
+    @ColumnTransformer(read = "CASE WHEN description_vector IS NULL THEN NULL ELSE '' END")
     private String descriptionVector;
 
+    // 임베딩 생성에 사용한 텍스트(ProductTextBuilder)의 SHA-256, 같으면 재임베딩 생략
+    @Column(name = "embedding_fingerprint", length = 64)
+    private String embeddingFingerprint;
+
+    // 유사 상품 목록을 마지막으로 계산한 시각 (이웃이 0개여도 기록 → 미계산 상품 조회에서 제외)
+    // ProductNeighborRepository 네이티브 쿼리로만 갱신 - 엔티티 저장이 덮어쓰지 않도록 읽기 전용 매핑
+    @Column(name = "neighbors_computed_at", insertable = false, updatable = false)
+    private LocalDateTime neighborsComputedAt;
+
+    public boolean hasDescriptionVector() {
+        return descriptionVector != null;
+    }
+
     public String getMemberEmail() {
         return member.getEmail();
     }
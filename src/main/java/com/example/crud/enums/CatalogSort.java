@@ -0,0 +1,7 @@
+package com.example.crud.enums;
+
+public enum CatalogSort {
+    NEWEST,     // 최신 등록순 (number 내림차순)
+    PRICE_ASC,  // 낮은 가격순
+    PRICE_DESC  // 높은 가격순
+}
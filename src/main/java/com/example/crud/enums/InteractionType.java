@@ -0,0 +1,5 @@
+package com.example.crud.enums;
+
+public enum InteractionType {
+    IMPRESSION, CLICK, VIEW, CART, PURCHASE
+}
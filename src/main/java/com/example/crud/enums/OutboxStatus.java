@@ -0,0 +1,8 @@
+package com.example.crud.enums;
+
+public enum OutboxStatus {
+    PENDING,     // 처리 대기 (next_attempt_at 이후 수거)
+    PROCESSING,  // 노드가 임대(lease) 중, locked_until 지나면 다른 노드가 다시 수거
+    DONE,
+    DEAD         // 최대 재시도 초과, 수동 확인 필요
+}
@@ -1,10 +1,14 @@
 package com.example.crud.repository;
 
+import com.example.crud.common.cache.CacheRegions;
 import com.example.crud.entity.ProductOption;
 import org.apache.ibatis.annotations.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,6 +24,13 @@ import java.util.Optional;
  */
 @Repository
 public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
+    String STOCK_SPACE = "product_option_stock";
+
+    // 주문/장바구니에서 반복되는 옵션 조회 → 쿼리 캐시(ID) + 엔티티 캐시로 SQL 없이 처리
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PRODUCT_OPTION_LOOKUP)
+    })
     Optional<ProductOption> findByProduct_NumberAndColorAndSize(
             Long productId,
             String color,
@@ -35,7 +46,11 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
      * @param quantity 차감할 수량
      * @return 업데이트된 row 수 (0이면 재고 부족 또는 존재하지 않음)
      */
+    // 쿼리 공간을 "product_option" 으로 잡으면 주문 라인마다 ProductOption 영역 전체가 비워짐
+    // 재고는 옵션 조회 쿼리 캐시(ID만 보관)와 무관 → 엔티티와 겹치지 않는 공간으로 두고 StockValidator 가 해당 ID만 무효화
+    // (힌트를 빼면 Hibernate 가 모든 2차 캐시 영역을 비우므로 생략하지 않음)
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STOCK_SPACE))
     @Query(value = "UPDATE product_option SET stock = stock - :quantity " +
             "WHERE id = :id AND stock >= :quantity",
             nativeQuery = true)
@@ -49,6 +64,7 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
      * @return 업데이트된 row 수
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STOCK_SPACE))
     @Query(value = "UPDATE product_option SET stock = stock + :quantity " +
             "WHERE id = :id",
             nativeQuery = true)
@@ -1,11 +1,17 @@
 package com.example.crud.repository;
 
+import com.example.crud.ai.recommendation.domain.dto.ProductCard;
 import com.example.crud.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /*
@@ -58,12 +64,17 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * HNSW: 100ms (50배 빠름)
      */
     // 벡터 유사도 검색을 위한 네이티브 쿼리 (코사인 유사도) - TEXT에서 vector로 CAST
+    // 추천 카드 컬럼까지 함께 반환 → 검색과 카드 조회를 한 번의 왕복으로 처리 (description 제외)
     @Query(value = """
             SELECT
             p.number as productId,
             p.name as productName,
-            p.description as description,
-            (1 - (p.description_vector <=> CAST(:queryVector AS vector))) as similarity
+            (1 - (p.description_vector <=> CAST(:queryVector AS vector))) as similarity,
+            p.brand as brand,
+            p.price as price,
+            p.image_url as imageUrl,
+            p.category as category,
+            p.sub_category as subCategory
         FROM product p
         WHERE p.description_vector IS NOT NULL
         AND (p.description_vector <=> CAST(:queryVector AS vector)) < (1 - :threshold)
@@ -76,14 +87,95 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             @Param("limit") int limit
     );
 
-    // 벡터 업데이트를 위한 네이티브 쿼리
+    // 추천 카드용 컬럼만 조회 (엔티티/옵션/description 로딩 없음)
+    @Query("""
+        SELECT new com.example.crud.ai.recommendation.domain.dto.ProductCard(
+            p.number, p.name, p.brand, p.price, p.imageUrl, p.category, p.subCategory)
+        FROM Product p
+        WHERE p.number IN :ids
+        """)
+    List<ProductCard> findRecommendationCards(@Param("ids") Collection<Long> ids);
+
+    // 벡터 + 입력 텍스트 지문 업데이트를 위한 네이티브 쿼리
+    // 쿼리 공간을 "product" 로 잡으면 로컬 Product 영역 전체가 비워짐 → 엔티티와 무관한 공간으로 두고
+    // 해당 상품만 ProductEmbeddingCommandService 에서 evictAfterCommit
+    // neighbors_computed_at 도 비워서, 재시작 등으로 메모리의 dirty 목록이 유실돼도 미계산 상품 sweep 에서 다시 계산
     @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_embedding"))
     @Query(value = """
         UPDATE product
-        SET description_vector = CAST(:vectorString AS vector)
+        SET description_vector = CAST(:vectorString AS vector),
+            embedding_fingerprint = :fingerprint,
+            neighbors_computed_at = NULL
         WHERE number = :productId
         """, nativeQuery = true)
-    int updateDescriptionVector(@Param("productId") Long productId, @Param("vectorString") String vectorString);
+    int updateDescriptionVector(@Param("productId") Long productId,
+                                @Param("vectorString") String vectorString,
+                                @Param("fingerprint") String fingerprint);
+
+    // 썸네일 URL 저장 - 생성 중에 원본 이미지가 바뀌었으면(image_url 불일치) 0건
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product"))
+    @Query(value = """
+        UPDATE product
+        SET thumbnail_url = :thumbnailUrl
+        WHERE number = :productId AND image_url = :imageUrl
+        """, nativeQuery = true)
+    int updateThumbnailUrl(@Param("productId") Long productId,
+                           @Param("imageUrl") String imageUrl,
+                           @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 취향 벡터 갱신용 임베딩 [0]=상품 ID, [1]=vector 텍스트
+    @Query(value = """
+        SELECT p.number, CAST(p.description_vector AS text)
+        FROM product p
+        WHERE p.number IN (:ids) AND p.description_vector IS NOT NULL
+        """, nativeQuery = true)
+    List<Object[]> findEmbeddings(@Param("ids") Collection<Long> ids);
+
+    // 후보 상품과 취향 벡터의 코사인 유사도 [0]=상품 ID, [1]=유사도
+    @Query(value = """
+        SELECT p.number, 1 - (p.description_vector <=> CAST(:tasteVector AS vector))
+        FROM product p
+        WHERE p.number IN (:ids) AND p.description_vector IS NOT NULL
+        """, nativeQuery = true)
+    List<Object[]> findTasteAffinities(@Param("ids") Collection<Long> ids,
+                                       @Param("tasteVector") String tasteVector);
+
+    // 키워드 검색 색인용 프로젝션 (벡터/연관관계 로딩 없이 텍스트 필드만)
+    @Query("SELECT p.number, p.name, p.brand, p.category, p.subCategory, p.description FROM Product p")
+    List<Object[]> findLexicalDocuments();
+
+    // 카테고리 상품 수 대조용 [0]=category, [1]=subCategory, [2]=가격 구간 번호, [3]=count
+    // 구간 번호 = 가격 이하인 경계 수 (CategoryFacetCounter.bucket 과 같은 규칙), bounds 는 오름차순 '{30000,50000}' 형식
+    // → 결과 행 수가 상품 수가 아니라 (카테고리 × 서브카테고리 × 구간) 수로 묶임
+    @Query(value = """
+        SELECT p.category, p.sub_category,
+               CASE WHEN cardinality(CAST(:bounds AS int[])) = 0 THEN 0
+                    ELSE width_bucket(COALESCE(p.price, 0), CAST(:bounds AS int[])) END AS bucket,
+               COUNT(*)
+        FROM product p
+        GROUP BY 1, 2, 3
+        """, nativeQuery = true)
+    List<Object[]> countByFacet(@Param("bounds") String bounds);
+
+    // 노드별 ID 구간 분할용 [0]=min, [1]=max
+    @Query("SELECT min(p.number), max(p.number) FROM Product p")
+    List<Object[]> findIdBounds();
+
+    // 구간 내 임베딩 누락 상품 (keyset 페이징)
+    @Query(value = """
+        SELECT p.number
+        FROM product p
+        WHERE p.description_vector IS NULL
+          AND p.number > :afterId AND p.number <= :toId
+        ORDER BY p.number
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findIdsWithoutEmbeddingInRange(@Param("afterId") long afterId,
+                                              @Param("toId") long toId,
+                                              @Param("limit") int limit);
 
     // 이메일로 조회
     List<Product> findByMember_Email(String email);
@@ -0,0 +1,36 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.recommendation.domain.Bm25Index;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class Bm25IndexTest {
+
+    private final Bm25Index index = Bm25Index.build(List.of(
+            new Bm25Index.Document(1L, "초경량 러닝화", "나이키", "신발 운동화 러닝화 워킹화", "가볍고 쿠션이 좋은 러닝화"),
+            new Bm25Index.Document(2L, "구스다운 롱패딩", "노스페이스", "아우터 코트 패딩 자켓 따뜻한 보온", "한겨울에도 따뜻한 패딩"),
+            new Bm25Index.Document(3L, "골드 목걸이", "제이에스티나", "악세서리 목걸이 반지 귀걸이", "데일리 포인트 액세서리")
+    ));
+
+    @Test
+    @DisplayName("부분 일치(문자 2-gram)로도 관련 상품이 가장 먼저 나온다")
+    void search_partialKoreanMatch() {
+        List<ProductMatch> matches = index.search("가벼운 러닝 신발", 3, 0.0);
+
+        assertThat(matches).isNotEmpty();
+        assertThat(matches.get(0).id()).isEqualTo(1L);
+        assertThat(matches).allSatisfy(m -> assertThat(m.score()).isBetween(0.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("일치하는 토큰이 없으면 빈 결과")
+    void search_noMatch() {
+        assertThat(index.search("노트북 충전기", 3, 0.0)).isEmpty();
+        assertThat(Bm25Index.empty().search("러닝화", 3, 0.0)).isEmpty();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.crud.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 공용 ForkJoinPool 사용 금지 규칙
+ *
+ * executor 인자 없는 *Async 호출, parallelStream()/parallel(), ForkJoinPool.commonPool() 은
+ * 블로킹 작업이 JVM 전체의 병렬 스트림/CompletableFuture 를 굶기므로 전용 풀(AsyncConfig)을 넘겨야 함
+ */
+public class CommonPoolUsageTest {
+
+    private static final Path SOURCE_ROOT = Path.of("src/main/java");
+
+    // 메서드 이름 → executor 를 받는 오버로드의 인자 수
+    private static final Map<String, Integer> ASYNC_METHODS = Map.ofEntries(
+            Map.entry("runAsync", 2),
+            Map.entry("supplyAsync", 2),
+            Map.entry("thenApplyAsync", 2),
+            Map.entry("thenAcceptAsync", 2),
+            Map.entry("thenRunAsync", 2),
+            Map.entry("thenComposeAsync", 2),
+            Map.entry("whenCompleteAsync", 2),
+            Map.entry("handleAsync", 2),
+            Map.entry("exceptionallyAsync", 2),
+            Map.entry("thenCombineAsync", 3),
+            Map.entry("thenAcceptBothAsync", 3),
+            Map.entry("runAfterBothAsync", 3),
+            Map.entry("applyToEitherAsync", 3),
+            Map.entry("acceptEitherAsync", 3),
+            Map.entry("runAfterEitherAsync", 3)
+    );
+
+    private static final Pattern CALL = Pattern.compile("\\.(\\w+Async)\\s*\\(");
+    private static final Pattern PARALLEL = Pattern.compile("\\.(parallelStream|parallel)\\s*\\(\\s*\\)|ForkJoinPool\\s*\\.\\s*commonPool");
+
+    @Test
+    @DisplayName("메인 코드는 공용 ForkJoinPool 에 작업을 올리지 않는다")
+    void noCommonPoolUsage() throws IOException {
+        List<String> violations = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(SOURCE_ROOT)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".java")).toList()) {
+                String code = stripCommentsAndLiterals(Files.readString(file, StandardCharsets.UTF_8));
+
+                Matcher call = CALL.matcher(code);
+                while (call.find()) {
+                    Integer required = ASYNC_METHODS.get(call.group(1));
+                    if (required != null && countArguments(code, call.end()) < required) {
+                        violations.add(location(file, code, call.start()) + " " + call.group(1) + " (executor 없음)");
+                    }
+                }
+                Matcher parallel = PARALLEL.matcher(code);
+                while (parallel.find()) {
+                    violations.add(location(file, code, parallel.start()) + " " + parallel.group().trim());
+                }
+            }
+        }
+
+        assertThat(violations).as("전용 풀(AsyncConfig)을 사용하세요").isEmpty();
+    }
+
+    @Test
+    @DisplayName("규칙 검사기는 executor 인자 유무를 구분한다")
+    void detectsMissingExecutor() {
+        String code = stripCommentsAndLiterals("""
+                CompletableFuture.runAsync(() -> save(a, b));
+                CompletableFuture.supplyAsync(() -> load("x, y"), dbTaskExecutor);
+                // CompletableFuture.runAsync(() -> ignored());
+                """);
+
+        List<String> missing = new ArrayList<>();
+        Matcher call = CALL.matcher(code);
+        while (call.find()) {
+            if (countArguments(code, call.end()) < ASYNC_METHODS.get(call.group(1))) {
+                missing.add(call.group(1));
+            }
+        }
+
+        assertThat(missing).containsExactly("runAsync");
+    }
+
+    /**
+     * 여는 괄호 직후부터 짝이 맞는 닫는 괄호까지 최상위 인자 수
+     */
+    private static int countArguments(String code, int from) {
+        int depth = 0;
+        int commas = 0;
+        boolean empty = true;
+        for (int i = from; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c == '(' || c == '{' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == '}' || c == ']') {
+                if (depth == 0) {
+                    return empty ? 0 : commas + 1;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                commas++;
+            }
+            if (!Character.isWhitespace(c)) {
+                empty = false;
+            }
+        }
+        return commas + 1;
+    }
+
+    /**
+     * 주석과 문자열/문자 리터럴을 공백으로 치환 (줄 번호 유지)
+     */
+    private static String stripCommentsAndLiterals(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (source.startsWith("//", i)) {
+                while (i < source.length() && source.charAt(i) != '\n') {
+                    out.append(' ');
+                    i++;
+                }
+            } else if (source.startsWith("/*", i)) {
+                int end = source.indexOf("*/", i + 2);
+                end = end < 0 ? source.length() : end + 2;
+                blank(source, i, end, out);
+                i = end;
+            } else if (source.startsWith("\"\"\"", i)) {
+                int end = source.indexOf("\"\"\"", i + 3);
+                end = end < 0 ? source.length() : end + 3;
+                out.append("\"\"");
+                blank(source, i + 2, end, out);
+                i = end;
+            } else if (c == '"' || c == '\'') {
+                int end = i + 1;
+                while (end < source.length() && source.charAt(end) != c) {
+                    end += source.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end + 1, source.length());
+                out.append(c).append(c);
+                blank(source, i + 2, end, out);
+                i = end;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static void blank(String source, int from, int to, StringBuilder out) {
+        for (int j = from; j < to; j++) {
+            out.append(source.charAt(j) == '\n' ? '\n' : ' ');
+        }
+    }
+
+    private static String location(Path file, String code, int index) {
+        int line = 1;
+        for (int i = 0; i < index; i++) {
+            if (code.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return SOURCE_ROOT.relativize(file) + ":" + line;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.config.EmbeddingResilienceProperties;
+import com.example.crud.ai.embedding.resilience.EmbeddingCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class EmbeddingCircuitBreakerTest {
+
+    private EmbeddingCircuitBreaker breaker(Duration openDuration) {
+        EmbeddingResilienceProperties properties = new EmbeddingResilienceProperties(
+                null, null, null, null,
+                new EmbeddingResilienceProperties.CircuitBreaker(
+                        10, 4, 0.5, Duration.ofMillis(1000), 0.8, openDuration, 2));
+        return new EmbeddingCircuitBreaker(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN 되어 호출을 거절한다")
+    void opensOnFailureRate() {
+        EmbeddingCircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        breaker.onSuccess(10);
+        breaker.onSuccess(10);
+        breaker.onFailure(10);
+        assertThat(breaker.getState()).isEqualTo(EmbeddingCircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(10);
+        assertThat(breaker.getState()).isEqualTo(EmbeddingCircuitBreaker.State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 성공이 누적되어도 OPEN 된다")
+    void opensOnSlowCalls() {
+        EmbeddingCircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(2000);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(EmbeddingCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN 시험 호출 성공 후 CLOSED 로 복귀한다")
+    void halfOpenRecovers() {
+        EmbeddingCircuitBreaker breaker = breaker(Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(10);
+        }
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(EmbeddingCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출 허용량(2) 초과
+
+        breaker.onSuccess(10);
+        breaker.onSuccess(10);
+        assertThat(breaker.getState()).isEqualTo(EmbeddingCircuitBreaker.State.CLOSED);
+    }
+}
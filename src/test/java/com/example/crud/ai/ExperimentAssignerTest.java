@@ -0,0 +1,39 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.recommendation.application.ExperimentAssigner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ExperimentAssignerTest {
+
+    @Test
+    @DisplayName("같은 실험/회원은 항상 같은 버킷, 실험 이름이 바뀌면 재배정된다")
+    void bucketIsDeterministic() {
+        int first = ExperimentAssigner.bucket("ranking", 42L);
+
+        assertThat(ExperimentAssigner.bucket("ranking", 42L)).isEqualTo(first);
+        assertThat(first).isBetween(0, ExperimentAssigner.BUCKETS - 1);
+
+        int moved = 0;
+        for (long id = 1; id <= 1_000; id++) {
+            if (ExperimentAssigner.bucket("ranking", id) != ExperimentAssigner.bucket("ranking-v2", id)) {
+                moved++;
+            }
+        }
+        assertThat(moved).isGreaterThan(990);
+    }
+
+    @Test
+    @DisplayName("연속된 회원 ID도 버킷이 고르게 분포한다")
+    void bucketsAreUniform() {
+        int[] halves = new int[2];
+        for (long id = 1; id <= 100_000; id++) {
+            halves[ExperimentAssigner.bucket("ranking", id) < ExperimentAssigner.BUCKETS / 2 ? 0 : 1]++;
+        }
+
+        assertThat(halves[0]).isBetween(49_000, 51_000);
+        assertThat(halves[1]).isBetween(49_000, 51_000);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.embedding.domain.HashedNgramProjector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class HashedNgramProjectorTest {
+
+    private final HashedNgramProjector projector = new HashedNgramProjector(1536);
+
+    @Test
+    @DisplayName("같은 텍스트는 항상 같은 단위 벡터로 투영된다")
+    void project_deterministicAndNormalized() {
+        float[] first = projector.project("따뜻한 겨울 패딩 자켓");
+        float[] second = projector.project("  따뜻한 겨울 패딩 자켓 ");
+
+        assertThat(first).hasSize(1536);
+        assertThat(first).containsExactly(second);
+        assertThat(norm(first)).isCloseTo(1.0, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("n-gram을 공유하는 텍스트가 무관한 텍스트보다 코사인 유사도가 높다")
+    void project_sharedNgramsAreCloser() {
+        float[] query = projector.project("가벼운 러닝화");
+        float[] related = projector.project("초경량 러닝화 운동화 신발");
+        float[] unrelated = projector.project("골드 목걸이 액세서리");
+
+        assertThat(cosine(query, related)).isGreaterThan(cosine(query, unrelated));
+    }
+
+    private static double norm(float[] v) {
+        double sum = 0;
+        for (float x : v) sum += x * x;
+        return Math.sqrt(sum);
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) dot += a[i] * b[i];
+        return dot / (norm(a) * norm(b));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.config.MessageSearchProperties;
+import com.example.crud.ai.conversation.domain.search.MessageDocument;
+import com.example.crud.ai.conversation.domain.search.MessageSearchQuery;
+import com.example.crud.ai.conversation.domain.search.MessageSearchResult;
+import com.example.crud.ai.conversation.infrastructure.InMemoryMessageSearchBackend;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class InMemoryMessageSearchBackendTest {
+
+    private InMemoryMessageSearchBackend backend(int maxDocuments) {
+        return new InMemoryMessageSearchBackend(new MessageSearchProperties(
+                "memory", null, "test", Duration.ofSeconds(1), 16, 10, Duration.ofSeconds(1),
+                0, Duration.ZERO, 100, maxDocuments));
+    }
+
+    private MessageDocument message(long id, long userId, String content) {
+        return new MessageDocument(id, 100 + userId, userId, "USER", content, LocalDateTime.now().plusSeconds(id));
+    }
+
+    private MessageSearchQuery query(String keyword, Long userId) {
+        return new MessageSearchQuery(keyword, userId, null, null, 0, 10);
+    }
+
+    @Test
+    @DisplayName("단어 일부만 입력해도 찾고, 모든 단어가 포함된 메시지만 반환한다")
+    void partialKoreanMatch() {
+        InMemoryMessageSearchBackend backend = backend(100);
+        backend.bulkIndex(List.of(
+                message(1, 1, "겨울용 러닝화 추천해 주세요"),
+                message(2, 1, "환불은 언제 되나요?"),
+                message(3, 2, "러닝 양말도 같이 보고 싶어요")));
+
+        MessageSearchResult result = backend.search(query("러닝", null));
+        assertThat(result.hits()).extracting(MessageSearchResult.Hit::messageId).containsExactlyInAnyOrder(1L, 3L);
+
+        MessageSearchResult both = backend.search(query("러닝 겨울", null));
+        assertThat(both.hits()).extracting(MessageSearchResult.Hit::messageId).containsExactly(1L);
+        assertThat(both.hits().get(0).highlight()).contains("<em>");
+
+        assertThat(backend.search(query("러닝", 2L)).hits())
+                .extracting(MessageSearchResult.Hit::messageId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("하이라이트는 사용자 입력 HTML 을 이스케이프하고 <em> 만 남긴다")
+    void highlightEscapesHtml() {
+        InMemoryMessageSearchBackend backend = backend(100);
+        backend.bulkIndex(List.of(message(1, 1, "<img src=x onerror=alert(1)> 러닝화 문의")));
+
+        String highlight = backend.search(query("러닝화", null)).hits().get(0).highlight();
+
+        assertThat(highlight).doesNotContain("<img").contains("&lt;img").contains("<em>러닝화</em>");
+    }
+
+    @Test
+    @DisplayName("같은 메시지를 다시 색인하면 덮어쓰고, 한도를 넘으면 오래된 메시지부터 제거한다")
+    void overwriteAndEvict() {
+        InMemoryMessageSearchBackend backend = backend(2);
+        backend.bulkIndex(List.of(message(1, 1, "배송 문의"), message(2, 1, "배송 지연")));
+        backend.bulkIndex(List.of(message(2, 1, "교환 문의"), message(3, 1, "배송 완료")));
+
+        assertThat(backend.size()).isEqualTo(2);
+        assertThat(backend.search(query("배송", null)).hits())
+                .extracting(MessageSearchResult.Hit::messageId).containsExactly(3L);
+        assertThat(backend.search(query("교환", null)).total()).isEqualTo(1);
+    }
+}
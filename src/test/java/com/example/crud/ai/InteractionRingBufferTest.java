@@ -0,0 +1,72 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.analytics.domain.InteractionRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class InteractionRingBufferTest {
+
+    @Test
+    @DisplayName("용량을 2의 거듭제곱으로 올리고, 가득 차면 버린다")
+    void dropsWhenFull() {
+        InteractionRingBuffer<Integer> buffer = new InteractionRingBuffer<>(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.dropped()).isEqualTo(1);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.offer(5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실/중복 없이 꺼낸다")
+    void concurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        InteractionRingBuffer<Integer> buffer = new InteractionRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait(); // 테스트에서는 버리지 않고 재시도
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> duplicates = new ArrayList<>();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(e -> {
+                if (!seen.add(e)) duplicates.add(e);
+            }, 256);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(duplicates).isEmpty();
+        assertThat(seen).hasSize(producers * perProducer);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.recommendation.domain.RankFusion;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RankFusionTest {
+
+    @Test
+    @DisplayName("두 검색 결과에 모두 등장한 상품이 한쪽에서만 1위인 상품보다 앞선다")
+    void fuse_rewardsAgreement() {
+        List<ProductMatch> vector = List.of(
+                new ProductMatch(1L, "A", 0.82),
+                new ProductMatch(2L, "B", 0.75));
+        List<ProductMatch> lexical = List.of(
+                new ProductMatch(3L, "C", 0.90),
+                new ProductMatch(2L, "B", 0.60));
+
+        List<ProductMatch> fused = RankFusion.fuse(60, 3,
+                new RankFusion.Ranking(vector, 1.0),
+                new RankFusion.Ranking(lexical, 1.0));
+
+        assertThat(fused).extracting(ProductMatch::id).containsExactly(2L, 3L, 1L);
+        assertThat(fused.get(0).score()).isEqualTo(0.75); // 원래 점수 중 최대값
+    }
+
+    @Test
+    @DisplayName("가중치가 0인 검색기는 결과에 반영되지 않는다")
+    void fuse_zeroWeightIgnored() {
+        List<ProductMatch> fused = RankFusion.fuse(60, 5,
+                new RankFusion.Ranking(List.of(new ProductMatch(1L, "A", 0.5)), 1.0),
+                new RankFusion.Ranking(List.of(new ProductMatch(2L, "B", 0.9)), 0.0));
+
+        assertThat(fused).extracting(ProductMatch::id).containsExactly(1L);
+    }
+}
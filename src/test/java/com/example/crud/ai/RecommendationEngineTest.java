@@ -15,7 +15,7 @@ public class RecommendationEngineTest {
     @Test @DisplayName("빈 메시지 또는 잘못된 추천 개수 요청 시 예외 발생")
     void getRecommendations_exception() {
         // Given
-        RecommendationEngine engine = new RecommendationEngine(null); // Mock 없이 단순 검증
+        RecommendationEngine engine = new RecommendationEngine(List.of(), null, null, null, null, null, null); // Mock 없이 단순 검증
         String emptyMessage = "";
         int invalidLimit = 0;
 
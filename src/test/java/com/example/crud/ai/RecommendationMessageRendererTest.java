@@ -0,0 +1,57 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.recommendation.domain.RecommendationMessageRenderer;
+import com.example.crud.ai.recommendation.domain.ResponseTemplate;
+import com.example.crud.ai.recommendation.domain.dto.ProductMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RecommendationMessageRendererTest {
+
+    @Test
+    @DisplayName("결과 개수에 맞는 템플릿을 선택한다")
+    void selectsTemplateByCount() {
+        assertThat(ResponseTemplate.select(0)).isEqualTo(ResponseTemplate.NO_RESULT);
+        assertThat(ResponseTemplate.select(1)).isEqualTo(ResponseTemplate.SINGLE);
+        assertThat(ResponseTemplate.select(3)).isEqualTo(ResponseTemplate.FEW);
+        assertThat(ResponseTemplate.select(5)).isEqualTo(ResponseTemplate.MANY);
+    }
+
+    @Test
+    @DisplayName("상위 3개 상품을 일치율 구간별 문구와 함께 렌더링한다")
+    void rendersTopThree() {
+        List<ProductMatch> matches = List.of(
+                new ProductMatch(1L, "러닝화", 0.877),
+                new ProductMatch(2L, "운동화", 0.25),
+                new ProductMatch(3L, "슬리퍼", 0.1004),
+                new ProductMatch(4L, "샌들", 0.05));
+
+        String text = RecommendationMessageRenderer.render(matches);
+
+        assertThat(text).isEqualTo("총 4개의 상품을 찾았습니다.  상위 3개 상품을 소개해드릴게요:\n"
+                + "\n• 러닝화 (87.7% 일치 - 높은 관련성)"
+                + "\n• 운동화 (25.0% 일치)"
+                + "\n• 슬리퍼 (10.0% 일치 - 참고용)"
+                + "\n\n다른 상품들도 있습니다. 더 자세한 정보나 다른 상품을 원하시면 언제든 말씀해 주세요!");
+    }
+
+    @Test
+    @DisplayName("0.1% 단위 일치율 표기는 String.format(%.1f) 와 같다")
+    void percentMatchesStringFormat() {
+        for (int i = 0; i <= 1000; i++) {
+            double score = i / 1000.0;
+            assertThat(renderedPercent(score)).isEqualTo(String.format("%.1f", score * 100));
+        }
+    }
+
+    private static String renderedPercent(double score) {
+        String text = RecommendationMessageRenderer.render(ResponseTemplate.SINGLE,
+                List.of(new ProductMatch(1L, "x", score)));
+        int start = text.indexOf('(') + 1;
+        return text.substring(start, text.indexOf('%', start));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.crud.ai;
+
+import com.example.crud.ai.recommendation.domain.TasteVector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TasteVectorTest {
+
+    @Test
+    @DisplayName("float16 직렬화 후에도 방향이 유지되고 크기는 절반이다")
+    void encodeDecodeRoundTrip() {
+        Random random = new Random(7);
+        float[] vector = new float[1536];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian() * 0.03f;
+        }
+
+        byte[] encoded = TasteVector.encode(vector);
+        float[] decoded = TasteVector.decode(encoded);
+
+        assertThat(encoded).hasSize(vector.length * 2);
+        assertThat(TasteVector.cosine(vector, decoded)).isGreaterThan(0.99999);
+        assertThat(decoded[0]).isCloseTo(vector[0], within(Math.abs(vector[0]) / 1024));
+    }
+
+    @Test
+    @DisplayName("가중치를 누적하면 가중 평균과 같다")
+    void accumulateIsWeightedMean() {
+        float[] mean = new float[2];
+        TasteVector.accumulate(mean, new float[]{1f, 0f}, 1.0, 0.0);
+        TasteVector.accumulate(mean, new float[]{0f, 1f}, 3.0, 1.0);
+
+        assertThat(mean[0]).isCloseTo(0.25f, within(1e-6f));
+        assertThat(mean[1]).isCloseTo(0.75f, within(1e-6f));
+    }
+}
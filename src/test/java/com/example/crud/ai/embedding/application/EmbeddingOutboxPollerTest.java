@@ -0,0 +1,98 @@
+package com.example.crud.ai.embedding.application;
+
+import com.example.crud.ai.config.EmbeddingProperties;
+import com.example.crud.ai.embedding.EmbeddingApiClient;
+import com.example.crud.ai.embedding.application.EmbeddingOutboxService.OutboxJob;
+import com.example.crud.ai.embedding.domain.ProductTextBuilder;
+import com.example.crud.ai.embedding.provider.EmbeddingUpstreamException;
+import com.example.crud.common.cluster.RedisLeaseLock;
+import com.example.crud.entity.Product;
+import com.example.crud.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EmbeddingOutboxPollerTest {
+
+    private final EmbeddingOutboxService outboxService = mock(EmbeddingOutboxService.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductTextBuilder productTextBuilder = mock(ProductTextBuilder.class);
+    private final EmbeddingApiClient embeddingApiClient = mock(EmbeddingApiClient.class);
+    private final ProductEmbeddingCommandService commandService = mock(ProductEmbeddingCommandService.class);
+    private final EmbeddingProperties properties = mock(EmbeddingProperties.class, RETURNS_DEEP_STUBS);
+
+    private EmbeddingOutboxPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        when(properties.outbox().enabled()).thenReturn(true);
+        List<OutboxJob> jobs = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            jobs.add(new OutboxJob(id * 10, id, 1, LocalDateTime.now()));
+            Product product = mock(Product.class);
+            when(product.getNumber()).thenReturn(id);
+            when(productTextBuilder.buildProductText(product)).thenReturn("t" + id);
+            when(productTextBuilder.fingerprint("t" + id)).thenReturn("f" + id);
+            products.add(product);
+        }
+        when(outboxService.claim()).thenReturn(jobs);
+        when(productRepository.findAllById(any())).thenReturn(products);
+
+        poller = new EmbeddingOutboxPoller(outboxService, productRepository, productTextBuilder, embeddingApiClient,
+                commandService, properties, mock(RedisLeaseLock.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("배치가 영구 오류(400)로 거부되면 나눠서 재요청해 원인 상품의 작업만 실패 처리한다")
+    void permanentError_isolatesPoisonItem() {
+        when(embeddingApiClient.generateEmbeddingsBatchAsync(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            if (texts.contains("t3")) {
+                return CompletableFuture.failedFuture(new EmbeddingUpstreamException(400, "input too long"));
+            }
+            return CompletableFuture.completedFuture(texts.stream().map(t -> new float[]{1f}).toList());
+        });
+
+        poller.poll();
+
+        verify(commandService).saveEmbedding(eq(1L), any(), eq("f1"));
+        verify(commandService).saveEmbedding(eq(2L), any(), eq("f2"));
+        verify(commandService).saveEmbedding(eq(4L), any(), eq("f4"));
+        verify(commandService, never()).saveEmbedding(eq(3L), any(), any());
+        assertThat(failedJobIds()).containsExactly(30L);
+        verify(outboxService).markDone(argThat(ids -> ids.containsAll(List.of(10L, 20L, 40L)) && ids.size() == 3));
+    }
+
+    @Test
+    @DisplayName("일시적 오류(503)는 나누지 않고 배치 전체를 재시도 대상으로 둔다")
+    void transientError_failsWholeBatch() {
+        when(embeddingApiClient.generateEmbeddingsBatchAsync(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new EmbeddingUpstreamException(503, "unavailable")));
+
+        poller.poll();
+
+        verify(embeddingApiClient, times(1)).generateEmbeddingsBatchAsync(anyList());
+        verify(commandService, never()).saveEmbedding(any(), any(), any());
+        assertThat(failedJobIds()).containsExactly(10L, 20L, 30L, 40L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> failedJobIds() {
+        ArgumentCaptor<Collection<OutboxJob>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxService, atLeastOnce()).markFailed(captor.capture(), any());
+        return captor.getAllValues().stream().flatMap(Collection::stream).map(OutboxJob::id).toList();
+    }
+}
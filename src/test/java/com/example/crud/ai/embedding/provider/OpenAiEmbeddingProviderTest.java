@@ -0,0 +1,65 @@
+package com.example.crud.ai.embedding.provider;
+
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class OpenAiEmbeddingProviderTest {
+
+    @Test
+    @DisplayName("응답 벡터는 data[].index 순서(요청 input 순서)로 정렬된다")
+    void parse_ordersByIndex() {
+        List<float[]> vectors = OpenAiEmbeddingProvider.parseEmbeddingResponse(response(
+                item(1, 0.2), item(0, 0.1)), 2);
+
+        assertThat(vectors).extracting(v -> v[0]).containsExactly(0.1f, 0.2f);
+    }
+
+    @Test
+    @DisplayName("응답 개수가 입력 수와 다르거나 index 가 중복/범위 밖이면 EMBEDDING_GENERATION_FAILED")
+    void parse_rejectsIncompleteResponse() {
+        assertRejected(response(item(0, 0.1)), 2); // 짧은 응답
+        assertRejected(response(item(0, 0.1), item(0, 0.2)), 2); // 중복 index → 1번 자리 누락
+        assertRejected(response(item(0, 0.1), item(2, 0.2)), 2); // 범위 밖
+        assertRejected(Map.of("data", List.of()), 1);
+    }
+
+    @Test
+    @DisplayName("429/5xx/타임아웃만 일시적 장애, 400/401 과 응답 형식 오류는 영구 오류")
+    void transientClassification() {
+        assertThat(EmbeddingUpstreamException.isTransient(new EmbeddingUpstreamException(429, "rate"))).isTrue();
+        assertThat(EmbeddingUpstreamException.isTransient(new EmbeddingUpstreamException(503, "down"))).isTrue();
+        assertThat(EmbeddingUpstreamException.isTransient(new CompletionException(new TimeoutException()))).isTrue();
+        assertThat(EmbeddingUpstreamException.isTransient(
+                new CompletionException(new EmbeddingUpstreamException(400, "too long")))).isFalse();
+        assertThat(EmbeddingUpstreamException.isTransient(new EmbeddingUpstreamException(401, "key"))).isFalse();
+        assertThat(EmbeddingUpstreamException.isTransient(new BaseException(ErrorCode.EMBEDDING_GENERATION_FAILED))).isFalse();
+
+        RuntimeException hedged = new RuntimeException("all failed");
+        hedged.addSuppressed(new EmbeddingUpstreamException(502, "bad gateway"));
+        assertThat(EmbeddingUpstreamException.isTransient(hedged)).isTrue();
+    }
+
+    private static void assertRejected(Map<String, Object> response, int expected) {
+        assertThatThrownBy(() -> OpenAiEmbeddingProvider.parseEmbeddingResponse(response, expected))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode()).isEqualTo(ErrorCode.EMBEDDING_GENERATION_FAILED);
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> response(Map<String, Object>... items) {
+        return Map.of("data", List.of(items));
+    }
+
+    private static Map<String, Object> item(int index, double value) {
+        return Map.of("index", index, "embedding", List.of(value, value));
+    }
+}
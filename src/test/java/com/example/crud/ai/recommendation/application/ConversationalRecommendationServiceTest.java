@@ -0,0 +1,54 @@
+package com.example.crud.ai.recommendation.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ConversationalRecommendationServiceTest {
+
+    @Test
+    @DisplayName("limit 이 0 이하이면 나누지 않고 한 덩어리")
+    void splitChunks_nonPositiveLimit() {
+        String text = "첫 줄\n둘째 줄\n셋째 줄";
+
+        assertThat(ConversationalRecommendationService.splitChunks(text, 0)).containsExactly(text);
+        assertThat(ConversationalRecommendationService.splitChunks(text, -1)).containsExactly(text);
+    }
+
+    @Test
+    @DisplayName("limit 이하 길이의 텍스트는 그대로 한 덩어리")
+    void splitChunks_shorterThanLimit() {
+        assertThat(ConversationalRecommendationService.splitChunks("abc", 3)).containsExactly("abc");
+        assertThat(ConversationalRecommendationService.splitChunks("", 5)).containsExactly("");
+    }
+
+    @Test
+    @DisplayName("limit 안의 마지막 줄바꿈 뒤에서 자르고 줄바꿈은 앞 덩어리에 남김")
+    void splitChunks_splitsAfterNewline() {
+        List<String> chunks = ConversationalRecommendationService.splitChunks("ab\ncd\nefgh", 6);
+
+        assertThat(chunks).containsExactly("ab\ncd\n", "efgh");
+    }
+
+    @Test
+    @DisplayName("limit 안에 줄바꿈이 없으면 limit 길이에서 그대로 자름")
+    void splitChunks_noNewlineInWindow() {
+        List<String> chunks = ConversationalRecommendationService.splitChunks("abcdefghij", 4);
+
+        assertThat(chunks).containsExactly("abcd", "efgh", "ij");
+    }
+
+    @Test
+    @DisplayName("덩어리를 이어 붙이면 원문과 같고 각 덩어리는 limit 이하")
+    void splitChunks_preservesText() {
+        String text = "추천 상품입니다.\n1. 린넨 셔츠 - 여름용\n2. 면 바지\n\n다른 색상도 있어요. 더 필요하신 게 있나요?";
+
+        List<String> chunks = ConversationalRecommendationService.splitChunks(text, 10);
+
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(10));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.crud.common.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PartitionAssignmentTest {
+
+    private static PartitionAssignment partition(int index, int size) {
+        return new PartitionAssignment(index, size, List.of());
+    }
+
+    @Test
+    @DisplayName("나누어떨어지지 않으면 앞 노드가 올림 크기만큼 갖고 마지막 노드가 나머지")
+    void rangeOf_unevenDivision() {
+        assertThat(partition(0, 3).rangeOf(1, 10)).containsExactly(1, 4);
+        assertThat(partition(1, 3).rangeOf(1, 10)).containsExactly(5, 8);
+        assertThat(partition(2, 3).rangeOf(1, 10)).containsExactly(9, 10);
+    }
+
+    @Test
+    @DisplayName("모든 노드의 구간을 이으면 빈틈/겹침 없이 전체 범위")
+    void rangeOf_coversWholeRange() {
+        int size = 7;
+        long expectedFrom = 100;
+        for (int i = 0; i < size; i++) {
+            long[] range = partition(i, size).rangeOf(100, 1000);
+            if (range[0] > range[1]) {
+                continue;
+            }
+            assertThat(range[0]).isEqualTo(expectedFrom);
+            expectedFrom = range[1] + 1;
+        }
+        assertThat(expectedFrom).isEqualTo(1001);
+    }
+
+    @Test
+    @DisplayName("노드가 ID 보다 많으면 남는 노드는 빈 구간 (from > to)")
+    void rangeOf_moreNodesThanIds() {
+        assertThat(partition(0, 5).rangeOf(1, 2)).containsExactly(1, 1);
+        assertThat(partition(1, 5).rangeOf(1, 2)).containsExactly(2, 2);
+        for (int i = 2; i < 5; i++) {
+            long[] range = partition(i, 5).rangeOf(1, 2);
+            assertThat(range[0]).isGreaterThan(range[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("maxId < minId (상품 없음) 이면 빈 구간")
+    void rangeOf_emptyIdRange() {
+        long[] range = PartitionAssignment.standalone("node").rangeOf(10, 9);
+
+        assertThat(range[0]).isGreaterThan(range[1]);
+    }
+}
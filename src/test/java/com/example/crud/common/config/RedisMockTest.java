@@ -1,11 +1,15 @@
 package com.example.crud.common.config;
 
+import com.example.crud.data.product.dto.CatalogPageDto;
+import com.example.crud.data.product.dto.CatalogProductDto;
+import com.example.crud.data.product.service.ProductCatalogService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +24,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,4 +85,30 @@ public class RedisMockTest {
 
     }
 
+    @Test
+    void testCatalogPageCacheRoundTrip() {
+        // given
+        Cache cache = cacheManager.getCache(ProductCatalogService.CATALOG_CACHE);
+        assertNotNull(cache);
+        String key = "OUTER|null|null|null|null|NEWEST|20:" + System.currentTimeMillis();
+        CatalogProductDto item = new CatalogProductDto(7L, "패딩", "브랜드", 59000,
+                "https://example.com/a.png", null, "소개", "OUTER", "패딩");
+        CatalogPageDto page = new CatalogPageDto(List.of(item), "Nw", true);
+
+        // when
+        cache.put(key, page);
+
+        // then - 캐시 적중 시 LinkedHashMap 이 아니라 CatalogPageDto 로 읽혀야 함
+        CatalogPageDto cached = cache.get(key, CatalogPageDto.class);
+        assertNotNull(cached);
+        assertEquals("Nw", cached.getNextCursor());
+        assertTrue(cached.isHasNext());
+        assertEquals(1, cached.getItems().size());
+        assertEquals(7L, cached.getItems().get(0).getNumber());
+        assertEquals(59000, cached.getItems().get(0).getPrice());
+
+        // cleanUp
+        cache.evict(key);
+    }
+
 }
@@ -0,0 +1,126 @@
+package com.example.crud.common.mapper;
+
+import com.example.crud.data.product.dto.CatalogProductDto;
+import com.example.crud.data.product.dto.CatalogQueryDto;
+import com.example.crud.enums.CatalogSort;
+import com.example.crud.enums.Category;
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 카탈로그 keyset 페이징 SQL (ProductMapper.xml findCatalogPage) - 실제 PostgreSQL 에서 행 값 비교/정렬 확인
+ */
+@Testcontainers
+public class ProductMapperCatalogTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE product (
+                        number BIGINT PRIMARY KEY, name TEXT, brand TEXT, price INT, image_url TEXT,
+                        thumbnail_url TEXT, intro TEXT, category TEXT, sub_category TEXT)
+                    """);
+            // 같은 가격(20000) 세 건 - 가격만으로 커서를 잡으면 건너뛰거나 중복되는 경우
+            statement.execute("""
+                    INSERT INTO product VALUES
+                        (1, 'a', 'A', 30000, 'i1', 't1', NULL, 'OUTER', '패딩'),
+                        (2, 'b', 'B', 20000, 'i2', NULL, NULL, 'OUTER', '코트'),
+                        (3, 'c', 'A', 20000, 'i3', NULL, NULL, 'OUTER', '패딩'),
+                        (4, 'd', 'B', 20000, 'i4', NULL, NULL, 'OUTER', '패딩'),
+                        (5, 'e', 'A', 10000, 'i5', NULL, NULL, 'OUTER', '코트'),
+                        (6, 'f', 'A', 15000, 'i6', NULL, NULL, 'TOP', '티셔츠')
+                    """);
+        }
+
+        Configuration configuration;
+        try (InputStream config = Resources.getResourceAsStream("mybatis-config.xml")) {
+            configuration = new XMLConfigBuilder(config).parse();
+        }
+        configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        try (InputStream mapper = Resources.getResourceAsStream("mapper/ProductMapper.xml")) {
+            new XMLMapperBuilder(mapper, configuration, "mapper/ProductMapper.xml", configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @Test
+    @DisplayName("낮은 가격순은 (price, number) 커서로 같은 가격 행을 빠짐없이 이어서 읽는다")
+    void priceAsc_keyset() {
+        CatalogQueryDto query = query(CatalogSort.PRICE_ASC);
+
+        assertThat(numbers(query, null, null, 3)).containsExactly(5L, 2L, 3L);
+        assertThat(numbers(query, 20000, 3L, 3)).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("높은 가격순과 최신순도 커서 이후 행만 읽는다")
+    void priceDescAndNewest_keyset() {
+        assertThat(numbers(query(CatalogSort.PRICE_DESC), 20000, 3L, 10)).containsExactly(2L, 5L);
+        assertThat(numbers(query(CatalogSort.NEWEST), null, 4L, 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("서브카테고리/브랜드/가격 필터를 함께 적용하고 목록 컬럼을 DTO 로 매핑한다")
+    void filtersAndMapping() {
+        CatalogQueryDto query = query(CatalogSort.NEWEST);
+        query.setSubCategory("패딩");
+        query.setBrand("A");
+        query.setMinPrice(20000);
+        query.setMaxPrice(30000);
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            List<CatalogProductDto> rows = session.getMapper(ProductMapper.class).findCatalogPage(query, null, null, 10);
+
+            assertThat(rows).extracting(CatalogProductDto::getNumber).containsExactly(3L, 1L);
+            assertThat(rows.get(1).getThumbnailUrl()).isEqualTo("t1");
+            assertThat(rows.get(1).getSubCategory()).isEqualTo("패딩");
+            assertThat(rows.get(1).getImageUrl()).isEqualTo("i1");
+        }
+    }
+
+    private static CatalogQueryDto query(CatalogSort sort) {
+        CatalogQueryDto query = new CatalogQueryDto();
+        query.setCategory(Category.OUTER);
+        query.setSort(sort);
+        return query;
+    }
+
+    private static List<Long> numbers(CatalogQueryDto query, Integer cursorPrice, Long cursorNumber, int limit) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(ProductMapper.class).findCatalogPage(query, cursorPrice, cursorNumber, limit)
+                    .stream().map(CatalogProductDto::getNumber).toList();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.crud.common.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ImageThumbnailsTest {
+
+    @Test
+    @DisplayName("썸네일은 비율을 유지해 목표 폭으로 줄이고 작은 원본은 키우지 않는다")
+    void thumbnail() throws IOException {
+        byte[] large = png(4000, 3000);
+        byte[] small = png(100, 50);
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(
+                ImageThumbnails.render(new ByteArrayInputStream(large), 320, 40_000_000L)));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+
+        BufferedImage unchanged = ImageIO.read(new ByteArrayInputStream(
+                ImageThumbnails.render(new ByteArrayInputStream(small), 320, 40_000_000L)));
+        assertThat(unchanged.getWidth()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("픽셀 상한을 넘는 원본이나 이미지가 아닌 입력은 null")
+    void unsupportedSource() throws IOException {
+        assertThat(ImageThumbnails.render(new ByteArrayInputStream(png(4000, 3000)), 320, 1_000_000L)).isNull(); // 픽셀 상한 초과
+        assertThat(ImageThumbnails.render(new ByteArrayInputStream("text".getBytes()), 320, 1_000_000L)).isNull();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
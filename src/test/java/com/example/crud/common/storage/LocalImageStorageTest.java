@@ -0,0 +1,56 @@
+package com.example.crud.common.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class LocalImageStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("저장한 파일을 URL 로 다시 읽고 삭제할 수 있다")
+    void storeOpenDelete() throws IOException {
+        LocalImageStorage storage = new LocalImageStorage(root, "/images/uploads");
+        byte[] content = "image-bytes".getBytes(StandardCharsets.UTF_8);
+
+        String url = storage.store("../신발 사진.png", "image/png", new ByteArrayInputStream(content));
+
+        assertThat(url).startsWith("/images/uploads/");
+        assertThat(url.substring("/images/uploads/".length())).doesNotContain("/", " "); // 경로 구분자 제거
+        try (InputStream in = storage.open(url)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        try (var files = Files.list(root)) {
+            assertThat(files).hasSize(1); // 임시 파일이 남지 않음
+        }
+
+        storage.delete(url);
+        try (var files = Files.list(root)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 디렉터리 밖이나 다른 저장소의 URL 은 열지 않고 삭제도 무시한다")
+    void rejectsForeignUrls() throws IOException {
+        Path outside = Files.writeString(root.resolve("secret.txt"), "secret");
+        LocalImageStorage storage = new LocalImageStorage(root.resolve("images"), "/images/uploads/");
+
+        assertThatThrownBy(() -> storage.open("/images/uploads/../secret.txt")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> storage.open("https://example.com/a.png")).isInstanceOf(IOException.class);
+
+        storage.delete("/images/uploads/../secret.txt");
+        assertThat(outside).exists();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.crud.data.category.service;
+
+import com.example.crud.common.config.CategoryFacetProperties;
+import com.example.crud.data.category.dto.CategoryFacetDto;
+import com.example.crud.data.category.dto.FacetCountDto;
+import com.example.crud.enums.Category;
+import com.example.crud.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CategoryFacetCounterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    private CategoryFacetCounter counter(Integer... bounds) {
+        return new CategoryFacetCounter(productRepository, Runnable::run,
+                new CategoryFacetProperties(List.of(bounds), Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("경계값은 위 구간에 속하고 첫 경계 미만/가격 없음은 0번, 마지막 경계 이상은 마지막 구간")
+    void bucket_edges() {
+        CategoryFacetCounter counter = counter(50000, 30000, 50000); // 정렬/중복 제거
+
+        assertThat(counter.bucket(null)).isZero();
+        assertThat(counter.bucket(0)).isZero();
+        assertThat(counter.bucket(29999)).isZero();
+        assertThat(counter.bucket(30000)).isEqualTo(1);
+        assertThat(counter.bucket(49999)).isEqualTo(1);
+        assertThat(counter.bucket(50000)).isEqualTo(2);
+        assertThat(counter.bucket(Integer.MAX_VALUE)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가격 구간 이름과 필터 값은 첫 구간 '미만', 중간 '~', 마지막 '이상'")
+    void bucketLabels() {
+        List<FacetCountDto> buckets = counter(30000, 50000).facets().get(0).getPriceBuckets();
+
+        assertThat(buckets).extracting(FacetCountDto::getValue).containsExactly("-30000", "30000-50000", "50000-");
+        assertThat(buckets).extracting(FacetCountDto::getName)
+                .containsExactly("30,000원 미만", "30,000원 ~ 50,000원", "50,000원 이상");
+    }
+
+    @Test
+    @DisplayName("경계가 없으면 구간은 '전체' 하나")
+    void bucketLabels_noBounds() {
+        CategoryFacetCounter counter = counter();
+
+        assertThat(counter.bucket(100000)).isZero();
+        assertThat(counter.facets().get(0).getPriceBuckets())
+                .extracting(FacetCountDto::getValue, FacetCountDto::getName)
+                .containsExactly(tuple("-", "전체"));
+    }
+
+    @Test
+    @DisplayName("대조는 SQL 에서 나눈 구간 번호를 그대로 사용하고 경계를 배열 리터럴로 넘긴다")
+    void reconcile_usesSqlBuckets() {
+        when(productRepository.countByFacet("{30000,50000}")).thenReturn(List.of(
+                new Object[]{"OUTER", "패딩", 0, 3L},
+                new Object[]{"OUTER", "코트", 2, 2L},
+                new Object[]{"TOP", null, 1, 4L}));
+        CategoryFacetCounter counter = counter(30000, 50000);
+
+        counter.reconcile();
+
+        CategoryFacetDto outer = facet(counter.facets(), Category.OUTER);
+        assertThat(outer.getCount()).isEqualTo(5);
+        assertThat(outer.getPriceBuckets()).extracting(FacetCountDto::getCount).containsExactly(3L, 0L, 2L);
+        assertThat(outer.getSubCategories()).filteredOn(s -> s.getValue().equals("패딩"))
+                .extracting(FacetCountDto::getCount).containsExactly(3L);
+        assertThat(facet(counter.facets(), Category.TOP).getPriceBuckets())
+                .extracting(FacetCountDto::getCount).containsExactly(0L, 4L, 0L);
+    }
+
+    private static CategoryFacetDto facet(List<CategoryFacetDto> facets, Category category) {
+        return facets.stream().filter(f -> f.getValue().equals(category.name())).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.crud.data.product.importer;
+
+import com.example.crud.data.product.importer.ProductImportReader.RawOption;
+import com.example.crud.data.product.importer.ProductImportReader.RawRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ProductImportReaderTest {
+
+    private static final String HEADER = "sku,name,brand,price,image_url,intro,description,category,options\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표/줄바꿈/이중 따옴표는 값으로 읽고 다음 행 줄 번호는 실제 파일 줄을 따른다")
+    void csv_quotedFields() throws IOException {
+        List<RawRow> rows = readCsv(HEADER
+                + "S1,\"패딩, 롱\",B,\"59,000\",https://a/1.png,\"첫 줄\n둘째 줄\",\"말하자면 \"\"따뜻함\"\"\",OUTER,블랙:M:3|화이트:L:0\r\n"
+                + "S2,코트,B,1000,https://a/2.png,intro,desc,OUTER,\n");
+
+        assertThat(rows).hasSize(2);
+        RawRow first = rows.get(0);
+        assertThat(first.error()).isNull();
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.fields())
+                .containsEntry("name", "패딩, 롱")
+                .containsEntry("price", "59,000")
+                .containsEntry("imageurl", "https://a/1.png")
+                .containsEntry("intro", "첫 줄\n둘째 줄")
+                .containsEntry("description", "말하자면 \"따뜻함\"")
+                .doesNotContainKey("options");
+        assertThat(first.options()).containsExactly(new RawOption("블랙", "M", "3"), new RawOption("화이트", "L", "0"));
+
+        assertThat(rows.get(1).line()).isEqualTo(4); // 2행이 두 줄을 차지
+        assertThat(rows.get(1).options()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엑셀이 붙인 UTF-8 BOM 은 첫 열 이름에서 제거한다")
+    void csv_bom() throws IOException {
+        List<RawRow> rows = readCsv("\uFEFF" + HEADER + "S1,n,b,1000,https://a/1.png,i,d,TOP,\n");
+
+        assertThat(rows).singleElement().satisfies(row -> assertThat(row.fields()).containsEntry("sku", "S1"));
+    }
+
+    @Test
+    @DisplayName("필수 열이 빠진 헤더나 빈 파일은 열 때 거부한다")
+    void csv_badHeader() throws IOException {
+        Path missing = write("a.csv", "sku,name\nS1,n\n");
+        assertThatThrownBy(() -> ProductImportReader.open(missing, ProductImportFormat.CSV, objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("brand");
+
+        Path empty = write("b.csv", "");
+        assertThatThrownBy(() -> ProductImportReader.open(empty, ProductImportFormat.CSV, objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 파일 끝까지 한 필드가 되어 열 개수 오류 행으로 남는다")
+    void csv_unterminatedQuote() throws IOException {
+        List<RawRow> rows = readCsv(HEADER
+                + "S1,\"열린 따옴표,B,1000,https://a/1.png,i,d,OUTER,\n"
+                + "S2,n,b,1000,https://a/2.png,i,d,OUTER,\n");
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.line()).isEqualTo(2);
+            assertThat(row.error()).startsWith("열 개수 불일치");
+        });
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표가 필드 길이 상한을 넘기면 파일 오류로 중단한다")
+    void csv_unterminatedQuote_tooLong() throws IOException {
+        Path file = write("long.csv", HEADER + "S1,\"" + "x".repeat((1 << 20) + 1));
+
+        try (ProductImportReader reader = ProductImportReader.open(file, ProductImportFormat.CSV, objectMapper)) {
+            assertThatThrownBy(() -> reader.next(10)).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("열 개수가 다르거나 options 형식이 틀린 행은 오류 행으로 넘기고 다음 행을 계속 읽는다")
+    void csv_rowErrors() throws IOException {
+        List<RawRow> rows = readCsv(HEADER
+                + "S1,n,b\n"
+                + "\n"
+                + "S2,n,b,1000,https://a/2.png,i,d,OUTER,블랙-M-3\n"
+                + "S3,n,b,1000,https://a/3.png,i,d,OUTER,\n");
+
+        assertThat(rows).extracting(RawRow::line).containsExactly(2L, 4L, 5L);
+        assertThat(rows.get(0).error()).startsWith("열 개수 불일치");
+        assertThat(rows.get(1).error()).startsWith("options 형식 오류");
+        assertThat(rows.get(2).error()).isNull();
+    }
+
+    @Test
+    @DisplayName("JSONL 은 깨진 줄만 오류 행으로 넘기고, 키 이름 통일과 options 배열/문자열을 모두 받는다")
+    void jsonl() throws IOException {
+        Path file = write("a.jsonl", """
+                {"sku":"S1","Image-URL":"https://a/1.png","price":1000,"options":[{"color":"블랙","size":"M","stock":3}]}
+                {"sku":"S2", "name":
+                
+                ["not", "object"]
+                {"sku":"S3","options":"화이트:L:1","intro":null,"brand":"  "}
+                {"sku":"S4","options":{"color":"블랙"}}
+                """);
+
+        List<RawRow> rows;
+        try (ProductImportReader reader = ProductImportReader.open(file, ProductImportFormat.JSONL, objectMapper)) {
+            rows = reader.next(2);
+            assertThat(rows).hasSize(2); // 청크 크기만큼만 읽음
+            rows = new ArrayList<>(rows);
+            rows.addAll(reader.next(10));
+            assertThat(reader.next(10)).isEmpty();
+        }
+
+        assertThat(rows).extracting(RawRow::line).containsExactly(1L, 2L, 4L, 5L, 6L);
+        assertThat(rows.get(0).fields()).containsEntry("imageurl", "https://a/1.png").containsEntry("price", "1000");
+        assertThat(rows.get(0).options()).containsExactly(new RawOption("블랙", "M", "3"));
+        assertThat(rows.get(1).error()).startsWith("JSON 구문 오류");
+        assertThat(rows.get(2).error()).isEqualTo("JSON 객체가 아닙니다");
+        assertThat(rows.get(3).error()).isNull();
+        assertThat(rows.get(3).fields()).containsOnlyKeys("sku"); // null/공백 값은 누락으로
+        assertThat(rows.get(3).options()).containsExactly(new RawOption("화이트", "L", "1"));
+        assertThat(rows.get(4).error()).isEqualTo("options 형식 오류");
+    }
+
+    private List<RawRow> readCsv(String content) throws IOException {
+        Path file = write("products.csv", content);
+        try (ProductImportReader reader = ProductImportReader.open(file, ProductImportFormat.CSV, objectMapper)) {
+            return reader.next(100);
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
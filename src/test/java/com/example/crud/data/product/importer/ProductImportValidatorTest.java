@@ -0,0 +1,117 @@
+package com.example.crud.data.product.importer;
+
+import com.example.crud.data.product.importer.ProductImportReader.RawOption;
+import com.example.crud.data.product.importer.ProductImportReader.RawRow;
+import com.example.crud.enums.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ProductImportValidatorTest {
+
+    private final ProductImportValidator validator = new ProductImportValidator();
+
+    @Test
+    @DisplayName("유효한 행은 가격 천 단위 쉼표, 그룹명 카테고리, 옵션을 변환해 통과한다")
+    void valid() {
+        Map<String, String> fields = fields();
+        fields.put("price", "59,000");
+        fields.put("category", "아우터");
+        fields.put("subcategory", "패딩");
+
+        ProductImportValidator.Result result = validator.validate(new RawRow(3, fields,
+                List.of(new RawOption("블랙", "M", "3"), new RawOption("블랙", "L", "0")), null));
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(result.line()).isEqualTo(3);
+        assertThat(result.sku()).isEqualTo("S1");
+        ProductImportRow row = result.row();
+        assertThat(row.price()).isEqualTo(59000);
+        assertThat(row.category()).isEqualTo(Category.OUTER);
+        assertThat(row.subCategory()).isEqualTo("패딩");
+        assertThat(row.options()).containsExactly(
+                new ProductImportRow.Option("블랙", "M", 3), new ProductImportRow.Option("블랙", "L", 0));
+    }
+
+    @Test
+    @DisplayName("리더가 넘긴 구문 오류는 다른 검사 없이 그대로 실패 사유가 된다")
+    void readerError() {
+        ProductImportValidator.Result result = validator.validate(
+                new RawRow(5, Map.of("sku", "S9"), List.of(), "JSON 구문 오류"));
+
+        assertThat(result.row()).isNull();
+        assertThat(result.sku()).isEqualTo("S9");
+        assertThat(result.errors()).containsExactly("JSON 구문 오류");
+    }
+
+    @Test
+    @DisplayName("필수 값 누락, 길이 초과, 잘못된 가격/URL/카테고리를 한 번에 모두 알려준다")
+    void fieldErrors() {
+        Map<String, String> fields = fields();
+        fields.remove("brand");
+        fields.put("sku", "x".repeat(65));
+        fields.put("price", "0");
+        fields.put("imageurl", "ftp://a/1.png");
+        fields.put("category", "FOOD");
+
+        ProductImportValidator.Result result = validator.validate(new RawRow(2, fields, List.of(), null));
+
+        assertThat(result.row()).isNull();
+        assertThat(result.errors()).containsExactlyInAnyOrder(
+                "brand 누락",
+                "sku 은 최대 64자입니다",
+                "imageUrl 은 http(s) URL 이어야 합니다",
+                "price 는 1 이상의 정수여야 합니다: 0",
+                "알 수 없는 category: FOOD");
+    }
+
+    @Test
+    @DisplayName("카테고리에 없는 서브카테고리와 숫자가 아닌 가격은 거부한다")
+    void subCategoryAndPrice() {
+        Map<String, String> fields = fields();
+        fields.put("subcategory", "청바지");
+        fields.put("price", "만원");
+
+        ProductImportValidator.Result result = validator.validate(new RawRow(2, fields, List.of(), null));
+
+        assertThat(result.errors()).containsExactlyInAnyOrder(
+                "아우터 에 없는 subCategory: 청바지",
+                "price 는 1 이상의 정수여야 합니다: 만원");
+    }
+
+    @Test
+    @DisplayName("옵션 색상/사이즈 누락·길이 초과, 음수/숫자 아닌 재고, 중복 옵션을 거부한다")
+    void optionErrors() {
+        ProductImportValidator.Result result = validator.validate(new RawRow(2, fields(), List.of(
+                new RawOption("블랙", "M", "1"),
+                new RawOption("블랙", "M", "2"),
+                new RawOption("", "M", "1"),
+                new RawOption("화이트", "x".repeat(21), "1"),
+                new RawOption("화이트", "L", "-1"),
+                new RawOption("화이트", "S", "many")), null));
+
+        assertThat(result.row()).isNull();
+        assertThat(result.errors()).hasSize(5)
+                .anySatisfy(e -> assertThat(e).startsWith("중복 옵션: 블랙/M"))
+                .anySatisfy(e -> assertThat(e).startsWith("옵션 재고는 0 이상의 정수여야 합니다: 화이트/L"))
+                .anySatisfy(e -> assertThat(e).startsWith("옵션 재고는 0 이상의 정수여야 합니다: 화이트/S"));
+    }
+
+    private static Map<String, String> fields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("sku", "S1");
+        fields.put("name", "패딩");
+        fields.put("brand", "브랜드");
+        fields.put("price", "1000");
+        fields.put("imageurl", "https://example.com/1.png");
+        fields.put("intro", "소개");
+        fields.put("description", "설명");
+        fields.put("category", "OUTER");
+        return fields;
+    }
+}
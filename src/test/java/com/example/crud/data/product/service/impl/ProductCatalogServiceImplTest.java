@@ -0,0 +1,82 @@
+package com.example.crud.data.product.service.impl;
+
+import com.example.crud.common.exception.BaseException;
+import com.example.crud.common.exception.ErrorCode;
+import com.example.crud.common.mapper.ProductMapper;
+import com.example.crud.data.product.dto.CatalogPageDto;
+import com.example.crud.data.product.dto.CatalogProductDto;
+import com.example.crud.data.product.dto.CatalogQueryDto;
+import com.example.crud.enums.CatalogSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ProductCatalogServiceImplTest {
+
+    private final ProductMapper productMapper = mock(ProductMapper.class);
+    private final ProductCatalogServiceImpl service = new ProductCatalogServiceImpl(productMapper);
+
+    @Test
+    @DisplayName("가격순 페이지의 nextCursor 는 마지막 행의 (price, number) 로 다음 페이지 조회 조건이 된다")
+    void cursor_priceSortRoundTrip() {
+        when(productMapper.findCatalogPage(any(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(product(1L, 1000), product(2L, 2000), product(3L, 3000)));
+
+        CatalogPageDto first = service.getCatalogPage(query(CatalogSort.PRICE_ASC, null, 2));
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getItems()).extracting(CatalogProductDto::getNumber).containsExactly(1L, 2L);
+        assertThat(first.getNextCursor()).doesNotContain("=", "+", "/"); // URL-safe, 패딩 없음
+
+        service.getCatalogPage(query(CatalogSort.PRICE_ASC, first.getNextCursor(), 2));
+        verify(productMapper).findCatalogPage(any(), eq(2000), eq(2L), eq(3));
+    }
+
+    @Test
+    @DisplayName("최신순 cursor 는 number 만 담고 마지막 페이지는 nextCursor 가 없다")
+    void cursor_newest() {
+        when(productMapper.findCatalogPage(any(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(product(9L, 1000), product(8L, 500), product(7L, 700)));
+        when(productMapper.findCatalogPage(any(), isNull(), eq(8L), eq(3)))
+                .thenReturn(List.of(product(7L, 700)));
+
+        CatalogPageDto first = service.getCatalogPage(query(CatalogSort.NEWEST, null, 2));
+        CatalogPageDto last = service.getCatalogPage(query(CatalogSort.NEWEST, first.getNextCursor(), 2));
+
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(last.getItems()).extracting(CatalogProductDto::getNumber).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("깨진 cursor 나 다른 정렬에서 발급된 cursor 는 INVALID_INPUT")
+    void cursor_invalid() {
+        when(productMapper.findCatalogPage(any(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(product(9L, 1000), product(8L, 500)));
+        String newestCursor = service.getCatalogPage(query(CatalogSort.NEWEST, null, 1)).getNextCursor();
+
+        assertThatThrownBy(() -> service.getCatalogPage(query(CatalogSort.PRICE_ASC, newestCursor, 1)))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> service.getCatalogPage(query(CatalogSort.NEWEST, "%%%", 1)))
+                .isInstanceOf(BaseException.class);
+    }
+
+    private static CatalogQueryDto query(CatalogSort sort, String cursor, int size) {
+        CatalogQueryDto query = new CatalogQueryDto();
+        query.setSort(sort);
+        query.setCursor(cursor);
+        query.setSize(size);
+        return query;
+    }
+
+    private static CatalogProductDto product(long number, int price) {
+        return new CatalogProductDto(number, "상품" + number, "브랜드", price, "https://example.com/" + number + ".png",
+                null, null, "OUTER", null);
+    }
+}